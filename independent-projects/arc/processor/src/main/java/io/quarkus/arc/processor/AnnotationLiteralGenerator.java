@@ -26,6 +26,7 @@ import io.quarkus.arc.processor.AnnotationLiteralProcessor.AnnotationLiteralClas
 import io.quarkus.arc.processor.AnnotationLiteralProcessor.CacheKey;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FieldCreator;
@@ -351,81 +352,95 @@ public class AnnotationLiteralGenerator extends AbstractGenerator {
             ResultHandle thatValue = equals.invokeInterfaceMethod(annotationMember, other);
 
             // type of the field (in this class) is the same as return type of the method (in both classes)
-            switch (field.getType()) {
-                case "Z": // boolean
-                case "B": // byte
-                case "S": // short
-                case "I": // int
-                case "C": // char
-                    equals.ifIntegerEqual(thisValue, thatValue)
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "J": // long
-                    equals.ifZero(equals.compareLong(thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "F": // float
-                    equals.ifIntegerEqual(equals.invokeStaticMethod(FLOAT_TO_INT_BITS, thisValue),
-                            equals.invokeStaticMethod(FLOAT_TO_INT_BITS, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "D": // double
-                    equals.ifZero(equals.compareLong(equals.invokeStaticMethod(DOUBLE_TO_LONG_BITS, thisValue),
-                            equals.invokeStaticMethod(DOUBLE_TO_LONG_BITS, thatValue)))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[Z": // boolean[]
-                    equals.ifTrue(equals.invokeStaticMethod(BOOLEAN_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[B": // byte[]
-                    equals.ifTrue(equals.invokeStaticMethod(BYTE_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[S": // short[]
-                    equals.ifTrue(equals.invokeStaticMethod(SHORT_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[I": // int[]
-                    equals.ifTrue(equals.invokeStaticMethod(INT_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[J": // long[]
-                    equals.ifTrue(equals.invokeStaticMethod(LONG_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[F": // float[]
-                    equals.ifTrue(equals.invokeStaticMethod(FLOAT_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[D": // double[]
-                    equals.ifTrue(equals.invokeStaticMethod(DOUBLE_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                case "[C": // char[]
-                    equals.ifTrue(equals.invokeStaticMethod(CHAR_ARRAY_EQUALS, thisValue, thatValue))
-                            .falseBranch().returnBoolean(false);
-                    break;
-                default:
-                    if (field.getType().startsWith("L")) {
-                        // Object (String, Class, enum, nested annotation)
-                        equals.ifTrue(equals.invokeVirtualMethod(MethodDescriptors.OBJECT_EQUALS, thisValue, thatValue))
-                                .falseBranch().returnBoolean(false);
-                    } else if (field.getType().startsWith("[L")) {
-                        // Object[]
-                        equals.ifTrue(equals.invokeStaticMethod(OBJECT_ARRAY_EQUALS, thisValue, thatValue))
-                                .falseBranch().returnBoolean(false);
-                    } else {
-                        // multidimensional array is not a valid annotation member
-                        throw new IllegalArgumentException("Invalid annotation member: " + field);
-                    }
-                    break;
-            }
+            returnFalseIfNotEqual(equals, field.getType(), thisValue, thatValue);
         }
 
         equals.returnBoolean(true);
     }
 
+    /**
+     * Generates a bytecode sequence that compares two values of an annotation member of given type and returns
+     * {@code false} from the enclosing method if they are not equal, as defined by {@link Annotation#equals(Object)}.
+     *
+     * @param bytecode the bytecode to which the comparison is added
+     * @param memberType the type descriptor of the annotation member
+     * @param thisValue the first value
+     * @param thatValue the second value
+     */
+    static void returnFalseIfNotEqual(BytecodeCreator bytecode, String memberType, ResultHandle thisValue,
+            ResultHandle thatValue) {
+        switch (memberType) {
+            case "Z": // boolean
+            case "B": // byte
+            case "S": // short
+            case "I": // int
+            case "C": // char
+                bytecode.ifIntegerEqual(thisValue, thatValue)
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "J": // long
+                bytecode.ifZero(bytecode.compareLong(thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "F": // float
+                bytecode.ifIntegerEqual(bytecode.invokeStaticMethod(FLOAT_TO_INT_BITS, thisValue),
+                        bytecode.invokeStaticMethod(FLOAT_TO_INT_BITS, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "D": // double
+                bytecode.ifZero(bytecode.compareLong(bytecode.invokeStaticMethod(DOUBLE_TO_LONG_BITS, thisValue),
+                        bytecode.invokeStaticMethod(DOUBLE_TO_LONG_BITS, thatValue)))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[Z": // boolean[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(BOOLEAN_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[B": // byte[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(BYTE_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[S": // short[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(SHORT_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[I": // int[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(INT_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[J": // long[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(LONG_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[F": // float[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(FLOAT_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[D": // double[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(DOUBLE_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            case "[C": // char[]
+                bytecode.ifTrue(bytecode.invokeStaticMethod(CHAR_ARRAY_EQUALS, thisValue, thatValue))
+                        .falseBranch().returnBoolean(false);
+                break;
+            default:
+                if (memberType.startsWith("L")) {
+                    // Object (String, Class, enum, nested annotation)
+                    bytecode.ifTrue(bytecode.invokeVirtualMethod(MethodDescriptors.OBJECT_EQUALS, thisValue, thatValue))
+                            .falseBranch().returnBoolean(false);
+                } else if (memberType.startsWith("[L")) {
+                    // Object[]
+                    bytecode.ifTrue(bytecode.invokeStaticMethod(OBJECT_ARRAY_EQUALS, thisValue, thatValue))
+                            .falseBranch().returnBoolean(false);
+                } else {
+                    // multidimensional array is not a valid annotation member
+                    throw new IllegalArgumentException("Invalid annotation member type: " + memberType);
+                }
+                break;
+        }
+    }
+
     private static void generateHashCode(ClassCreator clazz, AnnotationLiteralClassInfo literal) {
         MethodCreator hashCode = clazz.getMethodCreator("hashCode", int.class);
 
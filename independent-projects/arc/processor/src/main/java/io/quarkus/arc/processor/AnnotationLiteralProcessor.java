@@ -56,6 +56,16 @@ public class AnnotationLiteralProcessor {
         return cache;
     }
 
+    /**
+     * Makes sure the annotation literal class for the given annotation type is generated, even if no annotation literal
+     * instance is created by this processor.
+     *
+     * @param annotationClass the annotation type
+     */
+    void register(ClassInfo annotationClass) {
+        cache.getValue(new CacheKey(annotationClass));
+    }
+
     /**
      * Generates a bytecode sequence to create an instance of given annotation type, such that
      * the annotation members have the same values as the given annotation instance.
@@ -85,6 +95,7 @@ public class AnnotationLiteralProcessor {
 
         Objects.requireNonNull(annotationClass, "Annotation class not available: " + annotationInstance);
         AnnotationLiteralClassInfo literal = cache.getValue(new CacheKey(annotationClass));
+        GeneratedResourcesCache.annotationLiteralUsed(annotationClass.name());
 
         if (literal.annotationMembers().isEmpty()) {
             return bytecode.readStaticField(FieldDescriptor.of(literal.generatedClassName, "INSTANCE",
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -21,6 +22,9 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -82,7 +86,7 @@ public class BeanDeployment {
     private final Map<DotName, StereotypeInfo> stereotypes;
 
     private final List<BeanInfo> beans;
-    private volatile Map<DotName, List<BeanInfo>> beansByType;
+    private volatile BeanIndex beanIndex;
     private final List<SkippedClass> skippedClasses;
 
     private final List<InterceptorInfo> interceptors;
@@ -95,6 +99,7 @@ public class BeanDeployment {
     final BeanResolverImpl beanResolver;
     final DelegateInjectionPointResolverImpl delegateInjectionPointResolver;
     private final AssignabilityCheck assignabilityCheck;
+    private final TypeClosures typeClosures;
 
     private final InterceptorResolver interceptorResolver;
 
@@ -237,6 +242,7 @@ public class BeanDeployment {
         this.invokers = ConcurrentHashMap.newKeySet();
 
         this.assignabilityCheck = new AssignabilityCheck(getBeanArchiveIndex(), applicationIndex);
+        this.typeClosures = new TypeClosures();
         this.beanResolver = new BeanResolverImpl(this);
         this.delegateInjectionPointResolver = new DelegateInjectionPointResolverImpl(this);
         this.interceptorResolver = new InterceptorResolver(this);
@@ -298,6 +304,7 @@ public class BeanDeployment {
         buildContext.putInternal(Key.BEANS, Collections.unmodifiableList(beans));
         buildContext.putInternal(Key.OBSERVERS, Collections.unmodifiableList(observers));
         this.interceptors.addAll(findInterceptors(injectionPoints));
+        interceptorResolver.invalidate();
         buildContext.putInternal(Key.INTERCEPTORS, Collections.unmodifiableList(interceptors));
         this.decorators.addAll(findDecorators(injectionPoints));
         buildContext.putInternal(Key.DECORATORS, Collections.unmodifiableList(decorators));
@@ -315,25 +322,27 @@ public class BeanDeployment {
 
     void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
+        init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
         long start = System.nanoTime();
 
         // Collect dependency resolution errors
         List<Throwable> errors = new ArrayList<>();
-        for (BeanInfo bean : beans) {
-            bean.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (ObserverInfo observer : observers) {
-            observer.init(errors);
-        }
-        for (InterceptorInfo interceptor : interceptors) {
-            interceptor.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (DecoratorInfo decorator : decorators) {
-            decorator.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (InvokerInfo invoker : invokers) {
-            invoker.init(errors);
-        }
+        forEachComponent(beans, executor, errors, bytecodeTransformerConsumer,
+                (bean, componentErrors, transformers) -> bean.init(componentErrors, transformers, transformUnproxyableClasses));
+        forEachComponent(observers, executor, errors, bytecodeTransformerConsumer,
+                (observer, componentErrors, transformers) -> observer.init(componentErrors));
+        forEachComponent(interceptors, executor, errors, bytecodeTransformerConsumer,
+                (interceptor, componentErrors, transformers) -> interceptor.init(componentErrors, transformers,
+                        transformUnproxyableClasses));
+        forEachComponent(decorators, executor, errors, bytecodeTransformerConsumer,
+                (decorator, componentErrors, transformers) -> decorator.init(componentErrors, transformers,
+                        transformUnproxyableClasses));
+        forEachComponent(invokers, executor, errors, bytecodeTransformerConsumer,
+                (invoker, componentErrors, transformers) -> invoker.init(componentErrors));
 
         processErrors(errors);
         List<Predicate<BeanInfo>> allUnusedExclusions = new ArrayList<>(additionalUnusedBeanExclusions);
@@ -360,39 +369,32 @@ public class BeanDeployment {
             buildContext.putInternal(BuildExtension.Key.REMOVED_DECORATORS, Collections.unmodifiableSet(removedDecorators));
         }
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS, Collections.unmodifiableSet(removedBeans));
+        // Assign a dense index to every bean so that generated ContextInstances can select a slot without a string switch
+        // The order of beans is not stable across builds, the identifiers are
+        List<BeanInfo> sortedBeans = new ArrayList<>(beans);
+        sortedBeans.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        int index = 0;
+        for (BeanInfo bean : sortedBeans) {
+            bean.setIndex(index++);
+        }
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     /**
-     * Re-initialize the map that is used to speed-up lookup requests.
+     * Re-initialize the index that is used to speed-up lookup requests.
      */
     public void initBeanByTypeMap() {
-        Map<DotName, List<BeanInfo>> map = new HashMap<>();
-        for (BeanInfo bean : beans) {
-            bean.types.stream().map(Type::name).distinct().forEach(rawTypeName -> {
-                if (DotNames.OBJECT.equals(rawTypeName)) {
-                    // Every bean has java.lang.Object - no need to cache results here
-                    return;
-                }
-                List<BeanInfo> beans = map.get(rawTypeName);
-                if (beans == null) {
-                    // Very often, there will be exactly one bean for a given type
-                    map.put(rawTypeName, List.of(bean));
-                } else {
-                    if (beans.size() == 1) {
-                        map.put(rawTypeName, List.of(beans.get(0), bean));
-                    } else {
-                        BeanInfo[] array = new BeanInfo[beans.size() + 1];
-                        for (int i = 0; i < beans.size(); i++) {
-                            array[i] = beans.get(i);
-                        }
-                        array[beans.size()] = bean;
-                        map.put(rawTypeName, List.of(array));
-                    }
-                }
-            });
-        }
-        this.beansByType = map;
+        invalidateBeanIndex();
+        this.beanIndex = new BeanIndex(beans);
+    }
+
+    /**
+     * Invalidates the bean index and the cached resolution results. The index is rebuilt lazily when needed.
+     */
+    private void invalidateBeanIndex() {
+        this.beanIndex = null;
+        beanResolver.clear();
+        delegateInjectionPointResolver.clear();
     }
 
     private void removeUnusedComponents(Set<BeanInfo> declaresObserver, Set<BeanInfo> invokerLookups,
@@ -438,6 +440,7 @@ public class BeanDeployment {
         if (!removableInterceptors.isEmpty()) {
             removedInterceptors.addAll(removableInterceptors);
             this.interceptors.removeAll(removableInterceptors);
+            interceptorResolver.invalidate();
             List<InjectionPointInfo> removableInjectionPoints = new ArrayList<>();
             for (BeanInfo interceptor : removableInterceptors) {
                 removableInjectionPoints.addAll(interceptor.getAllInjectionPoints());
@@ -496,6 +499,7 @@ public class BeanDeployment {
                 declaresObserver, invokerLookups, allUnusedExclusions);
         if (!removableBeans.isEmpty()) {
             this.beans.removeAll(removableBeans);
+            invalidateBeanIndex();
             this.removedBeans.addAll(removableBeans);
             List<InjectionPointInfo> removableInjectionPoints = new ArrayList<>();
             for (BeanInfo bean : removableBeans) {
@@ -511,11 +515,16 @@ public class BeanDeployment {
 
     ValidationContext validate(List<BeanDeploymentValidator> validators,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+        return validate(validators, bytecodeTransformerConsumer, null);
+    }
+
+    ValidationContext validate(List<BeanDeploymentValidator> validators,
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, ExecutorService executor) {
         // Validate the bean deployment
         List<Throwable> errors = new ArrayList<>();
         // First, validate all beans internally
-        validateBeans(errors, bytecodeTransformerConsumer);
-        validateInterceptorsAndDecorators(errors, bytecodeTransformerConsumer);
+        validateBeans(errors, bytecodeTransformerConsumer, executor);
+        validateInterceptorsAndDecorators(errors, bytecodeTransformerConsumer, executor);
         ValidationContextImpl validationContext = new ValidationContextImpl(buildContext);
         for (Throwable error : errors) {
             validationContext.addDeploymentProblem(error);
@@ -535,12 +544,13 @@ public class BeanDeployment {
         return Collections.unmodifiableList(beans);
     }
 
-    Collection<BeanInfo> getBeansByRawType(DotName typeName) {
-        var ret = beansByType.get(typeName);
-        if (ret == null) {
-            return Collections.emptyList();
+    BeanIndex getBeanIndex() {
+        BeanIndex index = beanIndex;
+        if (index == null) {
+            index = new BeanIndex(beans);
+            beanIndex = index;
         }
-        return ret;
+        return index;
     }
 
     public Collection<BeanInfo> getRemovedBeans() {
@@ -645,6 +655,10 @@ public class BeanDeployment {
         return assignabilityCheck;
     }
 
+    TypeClosures getTypeClosures() {
+        return typeClosures;
+    }
+
     boolean hasApplicationIndex() {
         return applicationIndex != null;
     }
@@ -1538,6 +1552,7 @@ public class BeanDeployment {
             }
         }
         beans.add(bean);
+        invalidateBeanIndex();
     }
 
     void addSyntheticInterceptor(InterceptorInfo interceptor) {
@@ -1549,6 +1564,7 @@ public class BeanDeployment {
             }
         }
         interceptors.add(interceptor);
+        interceptorResolver.invalidate();
     }
 
     private void addSyntheticObserver(ObserverConfigurator configurator) {
@@ -1564,6 +1580,64 @@ public class BeanDeployment {
         invokers.add(invoker);
     }
 
+    /**
+     * Performs the given action for each component. If an executor is set then the actions are performed in parallel.
+     * Errors and bytecode transformers are collected per component and added in the order of the components once all
+     * actions complete, i.e. the result does not depend on the order of execution.
+     */
+    private static <T> void forEachComponent(Collection<T> components, ExecutorService executor, List<Throwable> errors,
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, ComponentAction<T> action) {
+        if (executor == null || components.size() < 2) {
+            for (T component : components) {
+                action.perform(component, errors, bytecodeTransformerConsumer);
+            }
+            return;
+        }
+        List<Future<ComponentResult>> futures = new ArrayList<>(components.size());
+        for (T component : components) {
+            futures.add(executor.submit(() -> {
+                ComponentResult result = new ComponentResult();
+                action.perform(component, result.errors, result.transformers::add);
+                return result;
+            }));
+        }
+        for (Future<ComponentResult> future : futures) {
+            ComponentResult result;
+            try {
+                result = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while processing the bean deployment", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+            errors.addAll(result.errors);
+            for (BytecodeTransformer transformer : result.transformers) {
+                bytecodeTransformerConsumer.accept(transformer);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ComponentAction<T> {
+
+        void perform(T component, List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer);
+
+    }
+
+    private static final class ComponentResult {
+
+        final List<Throwable> errors = new ArrayList<>();
+        final List<BytecodeTransformer> transformers = new ArrayList<>();
+
+    }
+
     static void processErrors(List<Throwable> errors) {
         if (!errors.isEmpty()) {
             if (errors.size() == 1) {
@@ -1649,20 +1723,22 @@ public class BeanDeployment {
     }
 
     private void validateInterceptorsAndDecorators(List<Throwable> errors,
-            Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
-        for (InterceptorInfo interceptor : interceptors) {
-            interceptor.validateInterceptorDecorator(errors, bytecodeTransformerConsumer);
-        }
-        for (DecoratorInfo decorator : decorators) {
-            decorator.validateInterceptorDecorator(errors, bytecodeTransformerConsumer);
-        }
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, ExecutorService executor) {
+        forEachComponent(interceptors, executor, errors, bytecodeTransformerConsumer,
+                (interceptor, componentErrors, transformers) -> interceptor.validateInterceptorDecorator(componentErrors,
+                        transformers));
+        forEachComponent(decorators, executor, errors, bytecodeTransformerConsumer,
+                (decorator, componentErrors, transformers) -> decorator.validateInterceptorDecorator(componentErrors,
+                        transformers));
     }
 
-    private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+    private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
 
         Set<String> namespaces = new HashSet<>();
         Map<String, List<BeanInfo>> namedBeans = new HashMap<>();
-        Set<DotName> classesReceivingNoArgsCtor = new HashSet<>();
+        // this set is accessed concurrently if validated in parallel
+        Set<DotName> classesReceivingNoArgsCtor = executor != null ? ConcurrentHashMap.newKeySet() : new HashSet<>();
 
         // this set is only used in strict compatible mode (see `Beans.validateBean()`),
         // so no need to initialize it otherwise
@@ -1685,8 +1761,10 @@ public class BeanDeployment {
                 named.add(bean);
                 findNamespaces(bean, namespaces);
             }
-            bean.validate(errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor, injectedBeans);
         }
+        forEachComponent(beans, executor, errors, bytecodeTransformerConsumer,
+                (bean, componentErrors, transformers) -> bean.validate(componentErrors, transformers,
+                        classesReceivingNoArgsCtor, injectedBeans));
 
         if (!namedBeans.isEmpty()) {
             for (Entry<String, List<BeanInfo>> entry : namedBeans.entrySet()) {
@@ -296,7 +296,11 @@ public class BeanGenerator extends AbstractGenerator {
         constructor.returnValue(null);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetIndex(bean, beanCreator);
+        // synthetic beans are never suppressed
+        implementIsSuppressible(beanCreator, false);
         implementSupplierGet(beanCreator);
+        implementHasDestroyLogic(bean, beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, Collections.emptyMap(), isApplicationClass, baseName,
                     targetPackage);
@@ -388,7 +392,9 @@ public class BeanGenerator extends AbstractGenerator {
 
         // Methods
         implementGetIdentifier(bean, beanCreator);
+        implementGetIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
+        implementHasDestroyLogic(bean, beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, injectionPointToProviderSupplierField, isApplicationClass,
                     baseName, targetPackage);
@@ -476,7 +482,9 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
+        implementHasDestroyLogic(bean, beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, injectionPointToProviderField, isApplicationClass, baseName,
                     targetPackage);
@@ -561,7 +569,9 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetIndex(bean, beanCreator);
         implementSupplierGet(beanCreator);
+        implementHasDestroyLogic(bean, beanCreator);
         if (bean.hasDestroyLogic()) {
             implementDestroy(bean, beanCreator, providerType, null, isApplicationClass, baseName, targetPackage);
         }
@@ -2109,6 +2119,30 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.load(bean.getIdentifier()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getIndex()
+     */
+    protected void implementGetIndex(BeanInfo bean, ClassCreator beanCreator) {
+        if (bean.getIndex() < 0) {
+            return;
+        }
+        MethodCreator getIndex = beanCreator.getMethodCreator("getIndex", int.class).setModifiers(ACC_PUBLIC);
+        getIndex.returnValue(getIndex.load(bean.getIndex()));
+    }
+
+    protected void implementHasDestroyLogic(BeanInfo bean, ClassCreator beanCreator) {
+        if (bean.hasDestroyLogic()) {
+            // the default implementation returns true
+            return;
+        }
+        MethodCreator hasDestroyLogic = beanCreator.getMethodCreator("hasDestroyLogic", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        hasDestroyLogic.returnValue(hasDestroyLogic.load(false));
+    }
+
     protected void implementEquals(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator equals = beanCreator.getMethodCreator("equals", boolean.class, Object.class).setModifiers(ACC_PUBLIC);
         final ResultHandle obj = equals.getMethodParam(0);
@@ -2234,13 +2268,28 @@ public class BeanGenerator extends AbstractGenerator {
 
     protected void implementIsSuppressed(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator isSuppressed = beanCreator.getMethodCreator("isSuppressed", boolean.class).setModifiers(ACC_PUBLIC);
+        boolean suppressible = false;
         for (Function<BeanInfo, Consumer<BytecodeCreator>> generator : suppressConditionGenerators) {
             Consumer<BytecodeCreator> condition = generator.apply(bean);
             if (condition != null) {
                 condition.accept(isSuppressed);
+                suppressible = true;
             }
         }
         isSuppressed.returnValue(isSuppressed.load(false));
+        implementIsSuppressible(beanCreator, suppressible);
+    }
+
+    /**
+     *
+     * @param beanCreator
+     * @param suppressible
+     * @see InjectableBean#isSuppressible()
+     */
+    protected void implementIsSuppressible(ClassCreator beanCreator, boolean suppressible) {
+        MethodCreator isSuppressible = beanCreator.getMethodCreator("isSuppressible", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isSuppressible.returnValue(isSuppressible.load(suppressible));
     }
 
     private void implementGetInjectionPoints(BeanInfo bean, ClassCreator beanCreator) {
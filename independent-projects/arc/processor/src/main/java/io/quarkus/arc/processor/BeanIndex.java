@@ -0,0 +1,195 @@
+package io.quarkus.arc.processor;
+
+import static org.jboss.jandex.Type.Kind.CLASS;
+import static org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+/**
+ * An index of beans that is used to find the candidates for typesafe resolution.
+ * <p>
+ * Beans are indexed by the raw name of each bean type, then by the name of each qualifier and finally by the raw name of
+ * the first type argument of the bean type. The candidates for a required type and a set of required qualifiers are a
+ * superset of the matching beans, i.e. each candidate must still be matched by the resolver. The candidates are always
+ * returned in the order in which the beans were indexed.
+ * <p>
+ * {@code java.lang.Object} is not indexed as a raw type because every bean has this type. Instead, all the beans are
+ * indexed by qualifier only and this level is used for required types that do not select a raw type, e.g.
+ * {@code java.lang.Object}, a wildcard or a type variable.
+ * <p>
+ * This construct is immutable and thread-safe.
+ */
+final class BeanIndex {
+
+    private final Map<BeanInfo, Integer> positions;
+    private final Node anyType;
+    private final Map<DotName, Node> byRawType;
+
+    BeanIndex(Collection<BeanInfo> beans) {
+        this.positions = new IdentityHashMap<>();
+        this.anyType = new Node();
+        this.byRawType = new HashMap<>();
+        for (BeanInfo bean : beans) {
+            if (positions.putIfAbsent(bean, positions.size()) != null) {
+                continue;
+            }
+            Set<DotName> qualifiers = new HashSet<>();
+            for (AnnotationInstance qualifier : bean.getQualifiers()) {
+                qualifiers.add(qualifier.name());
+            }
+            anyType.add(bean, qualifiers, Collections.emptyList());
+            Map<DotName, List<Type>> typesByRawName = new HashMap<>();
+            for (Type type : bean.getTypes()) {
+                if (DotNames.OBJECT.equals(type.name())) {
+                    // Every bean has java.lang.Object
+                    continue;
+                }
+                typesByRawName.computeIfAbsent(type.name(), k -> new ArrayList<>()).add(type);
+            }
+            for (Map.Entry<DotName, List<Type>> e : typesByRawName.entrySet()) {
+                byRawType.computeIfAbsent(e.getKey(), k -> new Node()).add(bean, qualifiers, e.getValue());
+            }
+        }
+    }
+
+    /**
+     *
+     * @param requiredType
+     * @param requiredQualifiers
+     * @return the candidate beans for the given required type and qualifiers
+     */
+    List<BeanInfo> getCandidates(Type requiredType, Collection<AnnotationInstance> requiredQualifiers) {
+        Node node;
+        if (selectsRawType(requiredType)) {
+            node = byRawType.get(requiredType.name());
+            if (node == null) {
+                return Collections.emptyList();
+            }
+        } else {
+            node = anyType;
+        }
+        Bucket bucket = node.all;
+        for (AnnotationInstance requiredQualifier : requiredQualifiers) {
+            // A bean must declare every required qualifier, so the smallest bucket is the best
+            Bucket qualified = node.byQualifier.get(requiredQualifier.name());
+            if (qualified == null) {
+                return Collections.emptyList();
+            }
+            if (qualified.beans.size() < bucket.beans.size()) {
+                bucket = qualified;
+            }
+        }
+        if (node != anyType && requiredType.kind() == PARAMETERIZED_TYPE) {
+            Type firstArgument = requiredType.asParameterizedType().arguments().get(0);
+            if (isClassOrParameterizedType(firstArgument)) {
+                List<BeanInfo> matching = bucket.byFirstArgument.getOrDefault(firstArgument.name(), Collections.emptyList());
+                return merge(matching, bucket.anyFirstArgument);
+            }
+        }
+        return bucket.beans;
+    }
+
+    private List<BeanInfo> merge(List<BeanInfo> first, List<BeanInfo> second) {
+        if (first.isEmpty()) {
+            return second;
+        } else if (second.isEmpty()) {
+            return first;
+        }
+        // Both lists are sorted by position but a bean may be present in both of them
+        List<BeanInfo> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() || j < second.size()) {
+            if (j == second.size()) {
+                merged.add(first.get(i++));
+            } else if (i == first.size()) {
+                merged.add(second.get(j++));
+            } else {
+                int p1 = positions.get(first.get(i));
+                int p2 = positions.get(second.get(j));
+                if (p1 < p2) {
+                    merged.add(first.get(i++));
+                } else if (p1 > p2) {
+                    merged.add(second.get(j++));
+                } else {
+                    merged.add(first.get(i++));
+                    j++;
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static boolean selectsRawType(Type requiredType) {
+        return (requiredType.kind() == CLASS || requiredType.kind() == PARAMETERIZED_TYPE)
+                && !DotNames.OBJECT.equals(requiredType.name());
+    }
+
+    private static boolean isClassOrParameterizedType(Type type) {
+        return type.kind() == CLASS || type.kind() == PARAMETERIZED_TYPE;
+    }
+
+    private static final class Node {
+
+        final Bucket all = new Bucket();
+        final Map<DotName, Bucket> byQualifier = new HashMap<>();
+
+        void add(BeanInfo bean, Set<DotName> qualifiers, List<Type> types) {
+            all.add(bean, types);
+            for (DotName qualifier : qualifiers) {
+                byQualifier.computeIfAbsent(qualifier, k -> new Bucket()).add(bean, types);
+            }
+        }
+
+    }
+
+    private static final class Bucket {
+
+        final List<BeanInfo> beans = new ArrayList<>();
+        // beans with a parameterized bean type whose first type argument is a class or a parameterized type
+        final Map<DotName, List<BeanInfo>> byFirstArgument = new HashMap<>();
+        // beans with a raw bean type or a bean type whose first type argument is e.g. a type variable or an array
+        final List<BeanInfo> anyFirstArgument = new ArrayList<>();
+
+        /**
+         *
+         * @param bean
+         * @param types the bean types with the same raw name
+         */
+        void add(BeanInfo bean, List<Type> types) {
+            beans.add(bean);
+            Set<DotName> firstArguments = new HashSet<>();
+            boolean anyFirstArgument = false;
+            for (Type type : types) {
+                if (type.kind() == PARAMETERIZED_TYPE) {
+                    Type firstArgument = type.asParameterizedType().arguments().get(0);
+                    if (isClassOrParameterizedType(firstArgument)) {
+                        firstArguments.add(firstArgument.name());
+                        continue;
+                    }
+                }
+                anyFirstArgument = true;
+            }
+            for (DotName firstArgument : firstArguments) {
+                byFirstArgument.computeIfAbsent(firstArgument, k -> new ArrayList<>()).add(bean);
+            }
+            if (anyFirstArgument) {
+                this.anyFirstArgument.add(bean);
+            }
+        }
+
+    }
+
+}
@@ -108,6 +108,9 @@ public class BeanInfo implements InjectionTargetInfo {
     // which returns whether this particular bean is active at runtime
     private final Consumer<MethodCreator> checkActiveConsumer;
 
+    // Assigned during BeanDeployment.init()
+    private volatile int index = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers, List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer,
             boolean alternative, List<StereotypeInfo> stereotypes, String name, boolean isDefaultBean, String targetPackageName,
@@ -183,6 +186,20 @@ public class BeanInfo implements InjectionTargetInfo {
         return identifier;
     }
 
+    /**
+     * The index is dense and unique within a bean deployment. It's assigned once all unused beans are removed.
+     *
+     * @return the index or {@code -1} if no index was assigned
+     * @see io.quarkus.arc.InjectableBean#getIndex()
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     /**
      *
      * @return the annotation target or an empty optional in case of synthetic beans
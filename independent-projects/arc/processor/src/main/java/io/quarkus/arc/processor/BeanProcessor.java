@@ -1,6 +1,7 @@
 package io.quarkus.arc.processor;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -88,6 +90,11 @@ public class BeanProcessor {
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
     private final Predicate<BeanDeployment> optimizeContexts;
+    private final boolean lockFreeContextInstances;
+    private final boolean synchronousInterceptorChains;
+    private final boolean cacheApplicationScopedDelegates;
+    private final Path generatedResourcesCache;
+    private final boolean retainGeneratedResources;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -118,6 +125,11 @@ public class BeanProcessor {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.optimizeContexts = builder.optimizeContexts;
+        this.lockFreeContextInstances = builder.lockFreeContextInstances;
+        this.synchronousInterceptorChains = builder.synchronousInterceptorChains;
+        this.cacheApplicationScopedDelegates = builder.cacheApplicationScopedDelegates;
+        this.generatedResourcesCache = builder.generatedResourcesCache;
+        this.retainGeneratedResources = builder.retainGeneratedResources;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
@@ -175,7 +187,20 @@ public class BeanProcessor {
      */
     public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
-        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions);
+        initialize(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    /**
+     * If an executor is set then the injection points of components are resolved in parallel. The order of errors and
+     * registered bytecode transformations is the same as if no executor was used. The consumer is not called concurrently.
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param additionalUnusedBeanExclusions Additional predicates to exclude unused beans
+     * @param executor The executor used to initialize the components in parallel, may be {@code null}
+     */
+    public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
+        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, executor);
     }
 
     /**
@@ -184,7 +209,22 @@ public class BeanProcessor {
      * @return the validation context
      */
     public BeanDeploymentValidator.ValidationContext validate(Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
-        ValidationContext validationContext = beanDeployment.validate(beanDeploymentValidators, bytecodeTransformerConsumer);
+        return validate(bytecodeTransformerConsumer, null);
+    }
+
+    /**
+     * If an executor is set then the beans, interceptors and decorators are validated in parallel. The order of errors and
+     * registered bytecode transformations does not depend on the order of execution. The consumer is not called
+     * concurrently. {@link BeanDeploymentValidator}s are always executed serially.
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param executor The executor used to validate the components in parallel, may be {@code null}
+     * @return the validation context
+     */
+    public BeanDeploymentValidator.ValidationContext validate(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
+        ValidationContext validationContext = beanDeployment.validate(beanDeploymentValidators, bytecodeTransformerConsumer,
+                executor);
         customAlterableContexts.validate(validationContext, transformUnproxyableClasses, bytecodeTransformerConsumer);
         if (buildCompatibleExtensions != null) {
             buildCompatibleExtensions.runValidation(beanDeployment.getBeanArchiveIndex(),
@@ -205,7 +245,6 @@ public class BeanProcessor {
 
         beanDeployment.resourceGenerationStarted();
 
-        ReflectionRegistration refReg = reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration;
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
         boolean optimizeContextsValue = optimizeContexts != null ? optimizeContexts.test(beanDeployment) : false;
 
@@ -213,6 +252,26 @@ public class BeanProcessor {
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
         Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
         Map<DotName, String> scopeToGeneratedName = new HashMap<>();
+        Map<DotName, String> qualifierToGeneratedName = new HashMap<>();
+
+        // Set of normal scopes for which the client proxy delegate can be optimized
+        Set<DotName> singleContextNormalScopes = findSingleContextNormalScopes();
+
+        ComponentFingerprints fingerprints = null;
+        if (generatedResourcesCache != null) {
+            fingerprints = new ComponentFingerprints(beanDeployment, beanToGeneratedName, observerToGeneratedName,
+                    applicationClassPredicate, suppressConditionGenerators,
+                    List.of(name, generateSources, allowMocking, transformUnproxyableClasses, optimizeContextsValue,
+                            lockFreeContextInstances, synchronousInterceptorChains, cacheApplicationScopedDelegates,
+                            detectUnusedFalsePositives, new TreeSet<>(existingClasses),
+                            new TreeSet<>(singleContextNormalScopes)));
+        }
+        GeneratedResourcesCache cache = new GeneratedResourcesCache(generatedResourcesCache, fingerprints,
+                reflectionRegistration != null ? reflectionRegistration : this.reflectionRegistration,
+                annotationLiterals, beanDeployment.getBeanArchiveIndex());
+        // If caching is enabled then the side effects of generators are recorded
+        ReflectionRegistration refReg = cache.getReflectionRegistration();
+        Consumer<BytecodeTransformer> transformerConsumer = cache.getBytecodeTransformerConsumer(bytecodeTransformerConsumer);
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
                 generateSources, refReg, existingClasses, beanToGeneratedName,
@@ -225,11 +284,8 @@ public class BeanProcessor {
         CustomAlterableContextsGenerator alterableContextsGenerator = new CustomAlterableContextsGenerator(generateSources);
         List<CustomAlterableContextInfo> alterableContexts = customAlterableContexts.getRegistered();
 
-        // Set of normal scopes for which the client proxy delegate can be optimized
-        Set<DotName> singleContextNormalScopes = findSingleContextNormalScopes();
-
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
-                allowMocking, refReg, existingClasses, singleContextNormalScopes);
+                allowMocking, refReg, existingClasses, singleContextNormalScopes, cacheApplicationScopedDelegates);
 
         InterceptorGenerator interceptorGenerator = new InterceptorGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
@@ -248,7 +304,7 @@ public class BeanProcessor {
         }
 
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, refReg, existingClasses, privateMembers);
+                generateSources, refReg, existingClasses, privateMembers, synchronousInterceptorChains);
 
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
@@ -259,12 +315,19 @@ public class BeanProcessor {
         }
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
-                refReg, beanDeployment, scopeToGeneratedName);
+                refReg, beanDeployment, scopeToGeneratedName, lockFreeContextInstances);
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
         }
 
+        QualifierMatcherGenerator qualifierMatcherGenerator = new QualifierMatcherGenerator(generateSources, beanDeployment,
+                applicationClassPredicate, existingClasses, qualifierToGeneratedName);
+        Collection<ClassInfo> qualifiers = beanDeployment.getQualifiers();
+        for (ClassInfo qualifier : qualifiers) {
+            qualifierMatcherGenerator.precomputeGeneratedName(qualifier);
+        }
+
         InvokerGenerator invokerGenerator = new InvokerGenerator(generateSources,
                 applicationClassPredicate, beanDeployment, annotationLiterals, reflectionRegistration,
                 injectionPointAnnotationsPredicate);
@@ -274,69 +337,74 @@ public class BeanProcessor {
         // for interception of producer methods and synthetic beans and only supports
         // limited form of interception (and no decoration)
         InterceptionProxyGenerator interceptionGenerator = new InterceptionProxyGenerator(generateSources,
-                applicationClassPredicate, annotationLiterals, reflectionRegistration);
+                applicationClassPredicate, annotationLiterals, refReg);
 
-        List<Resource> resources = new ArrayList<>();
+        // Resources are handed over to the output as soon as they are generated
+        ResourceSink sink = new ResourceSink(output, retainGeneratedResources);
 
         if (executor != null) {
             LOGGER.debug("Generating resources in parallel");
 
             // Primary tasks include interceptors, decorators, beans and observers
-            List<Future<Collection<Resource>>> primaryTasks = new ArrayList<>();
+            List<Future<?>> primaryTasks = new ArrayList<>();
             // Secondary tasks include client proxies and subclasses - this queue is accessed concurrently
-            ConcurrentLinkedQueue<Future<Collection<Resource>>> secondaryTasks = new ConcurrentLinkedQueue<>();
+            ConcurrentLinkedQueue<Future<?>> secondaryTasks = new ConcurrentLinkedQueue<>();
 
             // Generate _ComponentsProvider
-            primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+            primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                 @Override
                 public Collection<Resource> call() throws Exception {
-                    return new ComponentsProviderGenerator(annotationLiterals, generateSources, detectUnusedFalsePositives)
-                            .generate(
-                                    name,
-                                    beanDeployment,
-                                    beanToGeneratedName,
-                                    observerToGeneratedName,
-                                    scopeToGeneratedName);
+                    return cache.getComponentsProvider(name, detectUnusedFalsePositives, scopeToGeneratedName,
+                            qualifierToGeneratedName,
+                            () -> new ComponentsProviderGenerator(annotationLiterals, generateSources,
+                                    detectUnusedFalsePositives).generate(
+                                            name,
+                                            beanDeployment,
+                                            beanToGeneratedName,
+                                            observerToGeneratedName,
+                                            scopeToGeneratedName,
+                                            qualifierToGeneratedName));
                 }
             }));
 
             // Generate interceptors
             for (InterceptorInfo interceptor : interceptors) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
-                        return interceptorGenerator.generate(interceptor);
+                        return cache.get("interceptor", interceptor, () -> interceptorGenerator.generate(interceptor));
                     }
                 }));
             }
             // Generate decorators
             for (DecoratorInfo decorator : decorators) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
-                        return decoratorGenerator.generate(decorator);
+                        return cache.get("decorator", decorator, () -> decoratorGenerator.generate(decorator));
                     }
                 }));
             }
             // Generate beans
             for (BeanInfo bean : beans) {
 
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
 
-                        Collection<Resource> beanResources = beanGenerator.generate(bean);
+                        Collection<Resource> beanResources = cache.get("bean", bean, () -> beanGenerator.generate(bean));
                         for (Resource resource : beanResources) {
                             if (SpecialType.BEAN == resource.getSpecialType()) {
 
                                 if (bean.getScope().isNormal()) {
                                     // Generate client proxy
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    secondaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
-                                            Collection<Resource> proxyResources = clientProxyGenerator.generate(bean,
-                                                    resource.getFullyQualifiedName(),
-                                                    bytecodeTransformerConsumer, transformUnproxyableClasses);
+                                            Collection<Resource> proxyResources = cache.get("client-proxy", bean,
+                                                    () -> clientProxyGenerator.generate(bean,
+                                                            resource.getFullyQualifiedName(),
+                                                            transformerConsumer, transformUnproxyableClasses));
                                             if (bean.isClassBean()) {
                                                 for (Resource r : proxyResources) {
                                                     if (r.getSpecialType() == SpecialType.CLIENT_PROXY) {
@@ -353,11 +421,12 @@ public class BeanProcessor {
 
                                 if (bean.isSubclassRequired()) {
                                     // Generate subclass
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    secondaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
-                                            Collection<Resource> subclassResources = subclassGenerator.generate(bean,
-                                                    resource.getFullyQualifiedName());
+                                            Collection<Resource> subclassResources = cache.get("subclass", bean,
+                                                    () -> subclassGenerator.generate(bean,
+                                                            resource.getFullyQualifiedName()));
                                             for (Resource r : subclassResources) {
                                                 if (r.getSpecialType() == SpecialType.SUBCLASS) {
                                                     refReg.registerSubclass(bean.getBeanClass(), r.getFullyQualifiedName());
@@ -370,10 +439,11 @@ public class BeanProcessor {
                                 }
 
                                 if (bean.getInterceptionProxy() != null) {
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    secondaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
-                                            Collection<Resource> interceptionResources = interceptionGenerator.generate(bean);
+                                            Collection<Resource> interceptionResources = cache.get(
+                                                    "interception-proxy", bean, () -> interceptionGenerator.generate(bean));
                                             for (Resource r : interceptionResources) {
                                                 if (r.getSpecialType() == SpecialType.SUBCLASS) {
                                                     refReg.registerSubclass(bean.getInterceptionProxy().getTargetClass(),
@@ -394,17 +464,18 @@ public class BeanProcessor {
 
             // Generate observers
             for (ObserverInfo observer : observers) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
-                        return observerGenerator.generate(observer);
+                        return cache.get(observer, observerToGeneratedName.get(observer),
+                                () -> observerGenerator.generate(observer));
                     }
                 }));
             }
 
             // Generate invokers
             for (InvokerInfo invoker : invokers) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
                         return invokerGenerator.generate(invoker);
@@ -412,9 +483,19 @@ public class BeanProcessor {
                 }));
             }
 
+            // Generate qualifier matchers
+            for (ClassInfo qualifier : qualifiers) {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
+                    @Override
+                    public Collection<Resource> call() throws Exception {
+                        return qualifierMatcherGenerator.generate(qualifier);
+                    }
+                }));
+            }
+
             // Generate `_InjectableContext` subclasses for custom `AlterableContext`s
             for (CustomAlterableContextInfo info : alterableContexts) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
                         return alterableContextsGenerator.generate(info);
@@ -424,7 +505,7 @@ public class BeanProcessor {
 
             if (optimizeContextsValue) {
                 // Generate _ContextInstances
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(sink.submit(executor, new Callable<Collection<Resource>>() {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
@@ -436,34 +517,31 @@ public class BeanProcessor {
                 }));
             }
 
-            for (Future<Collection<Resource>> future : primaryTasks) {
-                resources.addAll(future.get());
-            }
-            for (Future<Collection<Resource>> future : secondaryTasks) {
-                resources.addAll(future.get());
-            }
+            sink.await(primaryTasks);
+            // all secondary tasks are submitted by the primary tasks
+            sink.await(secondaryTasks);
 
         } else {
             LOGGER.debug("Generating resources in series");
 
             // Generate interceptors
             for (InterceptorInfo interceptor : interceptors) {
-                resources.addAll(interceptorGenerator.generate(interceptor));
+                sink.write(cache.get("interceptor", interceptor, () -> interceptorGenerator.generate(interceptor)));
             }
             // Generate decorators
             for (DecoratorInfo decorator : decorators) {
-                resources.addAll(decoratorGenerator.generate(decorator));
+                sink.write(cache.get("decorator", decorator, () -> decoratorGenerator.generate(decorator)));
             }
             // Generate beans
             for (BeanInfo bean : beans) {
-                for (Resource resource : beanGenerator.generate(bean)) {
-                    resources.add(resource);
+                for (Resource resource : cache.get("bean", bean, () -> beanGenerator.generate(bean))) {
+                    sink.write(resource);
                     if (SpecialType.BEAN.equals(resource.getSpecialType())) {
                         if (bean.getScope().isNormal()) {
                             // Generate client proxy
-                            Collection<Resource> proxyResources = clientProxyGenerator.generate(bean,
-                                    resource.getFullyQualifiedName(),
-                                    bytecodeTransformerConsumer, transformUnproxyableClasses);
+                            Collection<Resource> proxyResources = cache.get("client-proxy", bean,
+                                    () -> clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(),
+                                            transformerConsumer, transformUnproxyableClasses));
                             if (bean.isClassBean()) {
                                 for (Resource r : proxyResources) {
                                     if (r.getSpecialType() == SpecialType.CLIENT_PROXY) {
@@ -473,21 +551,22 @@ public class BeanProcessor {
                                     }
                                 }
                             }
-                            resources.addAll(proxyResources);
+                            sink.write(proxyResources);
                         }
                         if (bean.isSubclassRequired()) {
-                            Collection<Resource> subclassResources = subclassGenerator.generate(bean,
-                                    resource.getFullyQualifiedName());
+                            Collection<Resource> subclassResources = cache.get("subclass", bean,
+                                    () -> subclassGenerator.generate(bean, resource.getFullyQualifiedName()));
                             for (Resource r : subclassResources) {
                                 if (r.getSpecialType() == SpecialType.SUBCLASS) {
                                     refReg.registerSubclass(bean.getBeanClass(), r.getFullyQualifiedName());
                                     break;
                                 }
                             }
-                            resources.addAll(subclassResources);
+                            sink.write(subclassResources);
                         }
                         if (bean.getInterceptionProxy() != null) {
-                            Collection<Resource> interceptionResources = interceptionGenerator.generate(bean);
+                            Collection<Resource> interceptionResources = cache.get("interception-proxy", bean,
+                                    () -> interceptionGenerator.generate(bean));
                             for (Resource r : interceptionResources) {
                                 if (r.getSpecialType() == SpecialType.SUBCLASS) {
                                     refReg.registerSubclass(bean.getInterceptionProxy().getTargetClass(),
@@ -495,38 +574,47 @@ public class BeanProcessor {
                                     break;
                                 }
                             }
-                            resources.addAll(interceptionResources);
+                            sink.write(interceptionResources);
                         }
                     }
                 }
             }
             // Generate observers
             for (ObserverInfo observer : observers) {
-                resources.addAll(observerGenerator.generate(observer));
+                sink.write(cache.get(observer, observerToGeneratedName.get(observer),
+                        () -> observerGenerator.generate(observer)));
             }
             // Generate invokers
             for (InvokerInfo invoker : invokers) {
-                resources.addAll(invokerGenerator.generate(invoker));
+                sink.write(invokerGenerator.generate(invoker));
+            }
+
+            // Generate qualifier matchers
+            for (ClassInfo qualifier : qualifiers) {
+                sink.write(qualifierMatcherGenerator.generate(qualifier));
             }
 
             // Generate `_InjectableContext` subclasses for custom `AlterableContext`s
             for (CustomAlterableContextInfo info : alterableContexts) {
-                resources.addAll(alterableContextsGenerator.generate(info));
+                sink.write(alterableContextsGenerator.generate(info));
             }
 
             // Generate _ComponentsProvider
-            resources.addAll(
-                    new ComponentsProviderGenerator(annotationLiterals, generateSources, detectUnusedFalsePositives).generate(
-                            name,
-                            beanDeployment,
-                            beanToGeneratedName,
-                            observerToGeneratedName,
-                            scopeToGeneratedName));
+            sink.write(cache.getComponentsProvider(name, detectUnusedFalsePositives, scopeToGeneratedName,
+                    qualifierToGeneratedName,
+                    () -> new ComponentsProviderGenerator(annotationLiterals, generateSources, detectUnusedFalsePositives)
+                            .generate(
+                                    name,
+                                    beanDeployment,
+                                    beanToGeneratedName,
+                                    observerToGeneratedName,
+                                    scopeToGeneratedName,
+                                    qualifierToGeneratedName)));
 
             if (optimizeContextsValue) {
                 // Generate _ContextInstances
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                sink.write(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
+                sink.write(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
             }
         }
 
@@ -537,21 +625,16 @@ public class BeanProcessor {
                 Collection<Future<Collection<Resource>>> annotationTasks = generator.generate(annotationLiterals.getCache(),
                         existingClasses, executor);
                 for (Future<Collection<Resource>> future : annotationTasks) {
-                    resources.addAll(future.get());
+                    sink.write(future.get());
                 }
             } else {
-                resources.addAll(generator.generate(annotationLiterals.getCache(), existingClasses));
+                sink.write(generator.generate(annotationLiterals.getCache(), existingClasses));
             }
         }
 
         privateMembers.log();
-
-        if (output != null) {
-            for (Resource resource : resources) {
-                output.writeResource(resource);
-            }
-        }
-        return resources;
+        cache.removeUnused();
+        return sink.getResources();
     }
 
     public BeanDeployment getBeanDeployment() {
@@ -641,6 +724,11 @@ public class BeanProcessor {
         boolean allowMocking;
         boolean strictCompatibility;
         Predicate<BeanDeployment> optimizeContexts;
+        boolean lockFreeContextInstances;
+        boolean synchronousInterceptorChains;
+        boolean cacheApplicationScopedDelegates;
+        Path generatedResourcesCache;
+        boolean retainGeneratedResources;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -665,6 +753,7 @@ public class BeanProcessor {
             stereotypeRegistrars = new ArrayList<>();
             beanDeploymentValidators = new ArrayList<>();
             suppressConditionGenerators = new ArrayList<>();
+            retainGeneratedResources = true;
 
             removeUnusedBeans = false;
             removalExclusions = new ArrayList<>();
@@ -676,6 +765,9 @@ public class BeanProcessor {
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
             strictCompatibility = false;
+            lockFreeContextInstances = false;
+            synchronousInterceptorChains = false;
+            cacheApplicationScopedDelegates = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -945,6 +1037,91 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * If set to {@code true} then the {@code ContextInstances} generated for optimized contexts do not allocate a lock
+         * per bean. Instead, a CAS on the instance handle slot is used and a thread only waits if another thread is creating
+         * the same instance. A bean instance is still created at most once per context.
+         * <p>
+         * This option has no effect if contexts are not optimized.
+         *
+         * @param value
+         * @return self
+         * @see #setOptimizeContexts(boolean)
+         */
+        public Builder setLockFreeContextInstances(boolean value) {
+            this.lockFreeContextInstances = value;
+            return this;
+        }
+
+        /**
+         * If set to {@code true} then a single invocation context is shared by all {@code @AroundInvoke} interceptors bound
+         * to a method that does not return an asynchronous type, such as {@code CompletionStage} or {@code Uni}. By default,
+         * a new invocation context is created for every interceptor in the chain so that an interceptor can resume the chain
+         * later, possibly on a different thread.
+         * <p>
+         * Only enable this option if no interceptor bound to a synchronous method resumes the chain asynchronously.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setSynchronousInterceptorChains(boolean value) {
+            this.synchronousInterceptorChains = value;
+            return this;
+        }
+
+        /**
+         * If set to {@code true} then a client proxy of an {@code @ApplicationScoped} bean stores the contextual instance in
+         * a field when it's obtained for the first time. The field is cleared when the contextual instance is destroyed, i.e.
+         * when the application context is destroyed or {@code InjectableContext#destroy(Contextual)} is called for the bean.
+         * By default, the contextual instance is obtained from the application context for every method invocation.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setCacheApplicationScopedDelegates(boolean value) {
+            this.cacheApplicationScopedDelegates = value;
+            return this;
+        }
+
+        /**
+         * If set then the resources generated for beans, interceptors, decorators and observers are stored in the given
+         * directory and reused by subsequent builds if the inputs they were generated from did not change. The
+         * {@code ComponentsProvider} is only regenerated if the bean graph changed. This is mainly useful in the development
+         * mode where the same application is built repeatedly.
+         * <p>
+         * The inputs of a component include the structure and the annotations of the relevant classes, the resolved
+         * injection points and the bound interceptors and decorators. The resources of synthetic components are never
+         * cached. The directory should be dedicated to a single bean deployment; entries that were not used during a build
+         * are removed.
+         *
+         * @param directory the cache directory, or {@code null} to disable caching
+         * @return self
+         */
+        public Builder setGeneratedResourcesCache(Path directory) {
+            this.generatedResourcesCache = directory;
+            return this;
+        }
+
+        /**
+         * The generated resources are written to the {@link ResourceOutput} as soon as they are generated. By default, all
+         * the resources are also collected and returned from
+         * {@link BeanProcessor#generateResources(ReflectionRegistration, Set, Consumer, boolean, ExecutorService)}.
+         * <p>
+         * If set to {@code false} then an empty list is returned instead and a generated resource can be garbage collected
+         * once it's written to the output. In other words, the memory consumption does not grow with the size of the
+         * deployment. However, if the resources are generated in parallel and the output is not thread-safe then the
+         * resources generated ahead of their turn are kept until they can be written in order. This value is ignored if no
+         * output is set.
+         *
+         * @param value
+         * @return self
+         * @see ResourceOutput#isThreadSafe()
+         */
+        public Builder setRetainGeneratedResources(boolean value) {
+            this.retainGeneratedResources = value;
+            return this;
+        }
+
         /**
          * Can be used to compute a priority of an alternative bean. A non-null computed value always
          * takes precedence over the priority defined by {@link Priority} or a stereotype.
@@ -104,13 +104,31 @@ class BeanResolverImpl implements BeanResolver {
     }
 
     List<BeanInfo> resolve(TypeAndQualifiers typeAndQualifiers) {
-        return resolved.computeIfAbsent(typeAndQualifiers, this::findMatching);
+        // This method may be called concurrently during bean deployment initialization
+        // The matching beans are computed outside the map so that resolution of other types is not blocked
+        List<BeanInfo> beans = resolved.get(typeAndQualifiers);
+        if (beans == null) {
+            beans = findMatching(typeAndQualifiers);
+            List<BeanInfo> existing = resolved.putIfAbsent(typeAndQualifiers, beans);
+            if (existing != null) {
+                beans = existing;
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Clears the cached resolution results, e.g. when a bean is added or removed.
+     */
+    void clear() {
+        resolved.clear();
     }
 
     private List<BeanInfo> findMatching(TypeAndQualifiers typeAndQualifiers) {
         List<BeanInfo> resolved = new ArrayList<>();
-        //optimisation for the simple class case
-        Collection<BeanInfo> potentialBeans = potentialBeans(typeAndQualifiers.type);
+        // only the candidates from the index need to be matched
+        Collection<BeanInfo> potentialBeans = beanDeployment.getBeanIndex().getCandidates(typeAndQualifiers.type,
+                typeAndQualifiers.qualifiers);
         for (BeanInfo b : potentialBeans) {
             if (matches(b, typeAndQualifiers)) {
                 resolved.add(b);
@@ -121,7 +139,7 @@ class BeanResolverImpl implements BeanResolver {
 
     List<BeanInfo> findTypeMatching(Type type) {
         List<BeanInfo> resolved = new ArrayList<>();
-        //optimisation for the simple class case
+        // only the candidates from the index need to be matched
         Collection<BeanInfo> potentialBeans = potentialBeans(type);
         for (BeanInfo b : potentialBeans) {
             if (matchesType(b, type)) {
@@ -133,7 +151,8 @@ class BeanResolverImpl implements BeanResolver {
 
     List<BeanInfo> findUnrestrictedTypeMatching(TypeAndQualifiers typeAndQualifiers) {
         List<BeanInfo> resolved = new ArrayList<>();
-        for (BeanInfo b : beanDeployment.getBeans()) {
+        // the unrestricted types are not indexed, only the qualifiers can be used
+        for (BeanInfo b : beanDeployment.getBeanIndex().getCandidates(ClassType.OBJECT_TYPE, typeAndQualifiers.qualifiers)) {
             if (!Beans.hasQualifiers(b, typeAndQualifiers.qualifiers)) {
                 continue;
             }
@@ -148,10 +167,7 @@ class BeanResolverImpl implements BeanResolver {
     }
 
     Collection<BeanInfo> potentialBeans(Type type) {
-        if ((type.kind() == CLASS || type.kind() == PARAMETERIZED_TYPE) && !type.name().equals(DotNames.OBJECT)) {
-            return beanDeployment.getBeansByRawType(type.name());
-        }
-        return beanDeployment.getBeans();
+        return beanDeployment.getBeanIndex().getCandidates(type, Collections.emptySet());
     }
 
     public boolean matches(Type requiredType, Type beanType) {
@@ -890,11 +890,10 @@ public final class Beans {
                         }
                     }
                     if (superName != null) {
-                        if (!classesReceivingNoArgsCtor.contains(beanClass.name())) {
+                        if (classesReceivingNoArgsCtor.add(beanClass.name())) {
                             String superClassName = superName.toString().replace('.', '/');
                             bytecodeTransformerConsumer.accept(new BytecodeTransformer(beanClass.name().toString(),
                                     new NoArgConstructorTransformFunction(superClassName)));
-                            classesReceivingNoArgsCtor.add(beanClass.name());
                         }
 
                     } else if (failIfNotProxyable) {
@@ -985,11 +984,10 @@ public final class Beans {
                             }
                         }
                         if (superName != null) {
-                            if (!classesReceivingNoArgsCtor.contains(returnTypeClass.name())) {
+                            if (classesReceivingNoArgsCtor.add(returnTypeClass.name())) {
                                 String superClassName = superName.toString().replace('.', '/');
                                 bytecodeTransformerConsumer.accept(new BytecodeTransformer(returnTypeClass.name().toString(),
                                         new NoArgConstructorTransformFunction(superClassName)));
-                                classesReceivingNoArgsCtor.add(returnTypeClass.name());
                             }
                         } else {
                             errors.add(cannotAddSyntheticNoArgsConstructor(returnTypeClass));
@@ -1044,11 +1042,10 @@ public final class Beans {
                         }
                     }
                     if (superName != null) {
-                        if (!classesReceivingNoArgsCtor.contains(beanClass.name())) {
+                        if (classesReceivingNoArgsCtor.add(beanClass.name())) {
                             String superClassName = superName.toString().replace('.', '/');
                             bytecodeTransformerConsumer.accept(new BytecodeTransformer(beanClass.name().toString(),
                                     new NoArgConstructorTransformFunction(superClassName)));
-                            classesReceivingNoArgsCtor.add(beanClass.name());
                         }
                     } else {
                         errors.add(cannotAddSyntheticNoArgsConstructor(beanClass));
@@ -26,6 +26,7 @@ import org.jboss.jandex.Type;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.CachingClientProxy;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.Methods.MethodKey;
@@ -55,21 +56,33 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String CACHED_DELEGATE_FIELD = "cachedDelegate";
+    static final String CLEAR_CACHED_DELEGATE_METHOD_NAME = "arc$clearCachedDelegate";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
     private final Set<String> existingClasses;
     // We optimize the access to the delegate if a single context is registered for a given scope
     private final Set<DotName> singleContextNormalScopes;
+    // If true then the contextual instance of an @ApplicationScoped bean is stored on the proxy
+    private final boolean cacheApplicationScopedDelegates;
 
     public ClientProxyGenerator(Predicate<DotName> applicationClassPredicate, boolean generateSources, boolean mockable,
             ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
             Set<DotName> singleContextNormalScopes) {
+        this(applicationClassPredicate, generateSources, mockable, reflectionRegistration, existingClasses,
+                singleContextNormalScopes, false);
+    }
+
+    public ClientProxyGenerator(Predicate<DotName> applicationClassPredicate, boolean generateSources, boolean mockable,
+            ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
+            Set<DotName> singleContextNormalScopes, boolean cacheApplicationScopedDelegates) {
         super(generateSources, reflectionRegistration);
         this.applicationClassPredicate = applicationClassPredicate;
         this.mockable = mockable;
         this.existingClasses = existingClasses;
         this.singleContextNormalScopes = singleContextNormalScopes;
+        this.cacheApplicationScopedDelegates = cacheApplicationScopedDelegates;
     }
 
     /**
@@ -118,6 +131,10 @@ public class ClientProxyGenerator extends AbstractGenerator {
         if (mockable) {
             interfaces.add(Mockable.class.getName());
         }
+        boolean cacheDelegate = cacheApplicationScopedDelegates && BuiltinScope.APPLICATION.is(bean.getScope());
+        if (cacheDelegate) {
+            interfaces.add(CachingClientProxy.class.getName());
+        }
 
         ClassCreator clientProxy = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(superClass)
@@ -148,9 +165,20 @@ public class ClientProxyGenerator extends AbstractGenerator {
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
         }
 
+        FieldCreator cachedDelegateField = null;
+        if (cacheDelegate) {
+            cachedDelegateField = clientProxy.getFieldCreator(CACHED_DELEGATE_FIELD, providerType.descriptorName())
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
+        }
+
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
-                contextField != null ? contextField.getFieldDescriptor() : null);
-        implementDelegate(clientProxy, providerType, beanField.getFieldDescriptor(), bean);
+                contextField != null ? contextField.getFieldDescriptor() : null,
+                cachedDelegateField != null ? cachedDelegateField.getFieldDescriptor() : null);
+        implementDelegate(clientProxy, providerType, beanField.getFieldDescriptor(), bean,
+                cachedDelegateField != null ? cachedDelegateField.getFieldDescriptor() : null);
+        if (cachedDelegateField != null) {
+            implementClearCachedDelegate(clientProxy, cachedDelegateField.getFieldDescriptor());
+        }
         implementGetContextualInstance(clientProxy, providerType);
         implementGetBean(clientProxy, beanField.getFieldDescriptor());
         if (mockable) {
@@ -272,7 +300,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     }
 
     void createConstructor(ClassCreator clientProxy, String superClasName, FieldDescriptor beanField,
-            FieldDescriptor contextField) {
+            FieldDescriptor contextField, FieldDescriptor cachedDelegateField) {
         MethodCreator creator = clientProxy.getMethodCreator(Methods.INIT, void.class, String.class);
         creator.invokeSpecialMethod(MethodDescriptor.ofConstructor(superClasName), creator.getThis());
         ResultHandle containerHandle = creator.invokeStaticMethod(MethodDescriptors.ARC_CONTAINER);
@@ -287,13 +315,19 @@ public class ClientProxyGenerator extends AbstractGenerator {
                     containerHandle, creator
                             .invokeInterfaceMethod(MethodDescriptor.ofMethod(InjectableBean.class, "getScope", Class.class),
                                     beanHandle));
-            creator.writeInstanceField(contextField, creator.getThis(),
-                    creator.invokeInterfaceMethod(MethodDescriptors.LIST_GET, contextList, creator.load(0)));
+            ResultHandle context = creator.invokeInterfaceMethod(MethodDescriptors.LIST_GET, contextList, creator.load(0));
+            creator.writeInstanceField(contextField, creator.getThis(), context);
+            if (cachedDelegateField != null) {
+                // ClientProxies.addCachingClientProxy(context, bean, this)
+                creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_ADD_CACHING_CLIENT_PROXY, context, beanHandle,
+                        creator.getThis());
+            }
         }
         creator.returnValue(null);
     }
 
-    void implementDelegate(ClassCreator clientProxy, ProviderType providerType, FieldDescriptor beanField, BeanInfo bean) {
+    void implementDelegate(ClassCreator clientProxy, ProviderType providerType, FieldDescriptor beanField, BeanInfo bean,
+            FieldDescriptor cachedDelegateField) {
         MethodCreator creator = clientProxy.getMethodCreator(DELEGATE_METHOD_NAME, providerType.descriptorName())
                 .setModifiers(Modifier.PRIVATE);
         if (mockable) {
@@ -307,7 +341,24 @@ public class ClientProxyGenerator extends AbstractGenerator {
 
         ResultHandle beanHandle = creator.readInstanceField(beanField, creator.getThis());
 
-        if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+        if (cachedDelegateField != null) {
+            // The contextual instance is stored in a field until it's destroyed
+            ResultHandle cached = creator.readInstanceField(cachedDelegateField, creator.getThis());
+            creator.ifNotNull(cached).trueBranch().returnValue(cached);
+            ResultHandle context = creator.readInstanceField(
+                    FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
+                    creator.getThis());
+            ResultHandle delegate = creator.checkCast(
+                    creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE, context,
+                            beanHandle),
+                    providerType.className());
+            creator.writeInstanceField(cachedDelegateField, creator.getThis(), delegate);
+            // The instance might have been destroyed before it was stored in the field
+            creator.ifFalse(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_IS_CACHED_DELEGATE_VALID, context,
+                    beanHandle, delegate))
+                    .trueBranch().writeInstanceField(cachedDelegateField, creator.getThis(), creator.loadNull());
+            creator.returnValue(delegate);
+        } else if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
                     creator.readInstanceField(
@@ -326,6 +377,13 @@ public class ClientProxyGenerator extends AbstractGenerator {
         }
     }
 
+    void implementClearCachedDelegate(ClassCreator clientProxy, FieldDescriptor cachedDelegateField) {
+        MethodCreator clear = clientProxy.getMethodCreator(CLEAR_CACHED_DELEGATE_METHOD_NAME, void.class)
+                .setModifiers(Modifier.PUBLIC);
+        clear.writeInstanceField(cachedDelegateField, clear.getThis(), clear.loadNull());
+        clear.returnValue(null);
+    }
+
     void implementGetContextualInstance(ClassCreator clientProxy, ProviderType providerType) {
         MethodCreator creator = clientProxy.getMethodCreator(GET_CONTEXTUAL_INSTANCE_METHOD_NAME, Object.class)
                 .setModifiers(Modifier.PUBLIC);
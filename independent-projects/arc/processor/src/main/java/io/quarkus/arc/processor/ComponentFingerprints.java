@@ -0,0 +1,458 @@
+package io.quarkus.arc.processor;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.inject.spi.InterceptionType;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.processor.BeanInfo.DecorationInfo;
+import io.quarkus.arc.processor.BeanInfo.DecoratorMethod;
+import io.quarkus.arc.processor.BeanInfo.InterceptionInfo;
+import io.quarkus.gizmo.BytecodeCreator;
+
+/**
+ * Computes fingerprints of the inputs the resources of a component are generated from.
+ * <p>
+ * The structure of a class is read from the bean archive index, i.e. method bodies are not part of a fingerprint. The
+ * annotations are obtained from the {@link AnnotationStore} so that annotation transformations are taken into account.
+ * <p>
+ * A {@code null} fingerprint means that the resources of the component must not be cached, e.g. because the bytecode is
+ * produced by a synthetic bean creator.
+ * <p>
+ * This construct is thread-safe.
+ */
+final class ComponentFingerprints {
+
+    private static final Logger LOGGER = Logger.getLogger(ComponentFingerprints.class);
+
+    private final BeanDeployment beanDeployment;
+    private final Map<BeanInfo, String> beanToGeneratedName;
+    private final Map<ObserverInfo, String> observerToGeneratedName;
+    private final Predicate<DotName> applicationClassPredicate;
+    private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
+    private final String settings;
+
+    // bean -> fingerprint; an empty value means that the bean must not be cached
+    private final ConcurrentMap<BeanInfo, Optional<String>> beans;
+    // class name -> hash of the class structure
+    private final ConcurrentMap<DotName, String> classes;
+
+    /**
+     *
+     * @param beanDeployment
+     * @param beanToGeneratedName
+     * @param observerToGeneratedName
+     * @param applicationClassPredicate
+     * @param suppressConditionGenerators
+     * @param settings the settings that affect the generated bytecode of all components
+     */
+    ComponentFingerprints(BeanDeployment beanDeployment, Map<BeanInfo, String> beanToGeneratedName,
+            Map<ObserverInfo, String> observerToGeneratedName, Predicate<DotName> applicationClassPredicate,
+            List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators, List<Object> settings) {
+        this.beanDeployment = beanDeployment;
+        this.beanToGeneratedName = beanToGeneratedName;
+        this.observerToGeneratedName = observerToGeneratedName;
+        this.applicationClassPredicate = applicationClassPredicate;
+        this.suppressConditionGenerators = suppressConditionGenerators;
+        this.settings = Hashes.sha1_base64(ProcessorHash.VALUE + settings);
+        this.beans = new ConcurrentHashMap<>();
+        this.classes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The fingerprint covers the bean, the client proxy, the intercepted subclass and the interception proxy.
+     *
+     * @param bean
+     * @return the fingerprint of the bean, or {@code null} if the generated resources must not be cached
+     */
+    String of(BeanInfo bean) {
+        return beans.computeIfAbsent(bean, b -> Optional.ofNullable(compute(b))).orElse(null);
+    }
+
+    /**
+     *
+     * @param observer
+     * @return the fingerprint of the observer, or {@code null} if the generated resources must not be cached
+     */
+    String of(ObserverInfo observer) {
+        if (observer.isSynthetic()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(settings);
+        appendObserver(builder, observer);
+        BeanInfo declaringBean = observer.getDeclaringBean();
+        builder.append("|declaringBean=");
+        appendBean(builder, declaringBean);
+        builder.append("|force=").append(observer.isForceApplicationClass())
+                .append("|app=").append(applicationClassPredicate.test(observer.getBeanClass()));
+        Set<DotName> classNames = new LinkedHashSet<>();
+        addHierarchy(declaringBean.getImplClazz(), classNames);
+        appendClasses(builder, classNames);
+        return Hashes.sha1_base64(builder.toString());
+    }
+
+    /**
+     * The fingerprint of the {@code ComponentsProvider} does not cover the structure of the classes; it only changes if
+     * the bean graph changes.
+     *
+     * @param name
+     * @param detectUnusedFalsePositives
+     * @param scopeToGeneratedName
+     * @param qualifierToGeneratedName
+     * @return the fingerprint of the {@code ComponentsProvider}, or {@code null} if the generated resources must not be
+     *         cached
+     */
+    String ofComponentsProvider(String name, boolean detectUnusedFalsePositives, Map<DotName, String> scopeToGeneratedName,
+            Map<DotName, String> qualifierToGeneratedName) {
+        if (!beanDeployment.getCustomContexts().isEmpty()) {
+            // Custom contexts are instantiated by arbitrary functions
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(settings);
+        builder.append("|name=").append(name).append("|detectUnused=").append(detectUnusedFalsePositives);
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            builder.append("|bean=");
+            appendBean(builder, bean);
+        }
+        for (InterceptorInfo interceptor : beanDeployment.getInterceptors()) {
+            builder.append("|interceptor=");
+            appendBean(builder, interceptor);
+        }
+        for (DecoratorInfo decorator : beanDeployment.getDecorators()) {
+            builder.append("|decorator=");
+            appendBean(builder, decorator);
+        }
+        for (ObserverInfo observer : beanDeployment.getObservers()) {
+            builder.append("|observer=");
+            appendObserver(builder, observer);
+        }
+        if (detectUnusedFalsePositives) {
+            for (BeanInfo removedBean : beanDeployment.getRemovedBeans()) {
+                builder.append("|removed=").append(removedBean.getIdentifier()).append(',').append(removedBean);
+            }
+        }
+        for (ClassInfo binding : beanDeployment.getInterceptorBindings()) {
+            builder.append("|binding=").append(binding.name());
+        }
+        for (Entry<DotName, Set<AnnotationInstance>> entry : beanDeployment.getTransitiveInterceptorBindings().entrySet()) {
+            builder.append("|transitive=").append(entry.getKey()).append(',').append(entry.getValue());
+        }
+        for (ClassInfo qualifier : beanDeployment.getQualifiers()) {
+            builder.append("|qualifier=").append(qualifier.name());
+        }
+        for (Entry<DotName, Set<String>> entry : beanDeployment.getQualifierNonbindingMembers().entrySet()) {
+            builder.append("|nonbinding=").append(entry.getKey()).append(',').append(entry.getValue());
+        }
+        builder.append("|contextInstances=").append(new TreeMap<>(scopeToGeneratedName))
+                .append("|qualifierMatchers=").append(new TreeMap<>(qualifierToGeneratedName));
+        return Hashes.sha1_base64(builder.toString());
+    }
+
+    private String compute(BeanInfo bean) {
+        if (bean.isSynthetic()) {
+            return null;
+        }
+        for (Function<BeanInfo, Consumer<BytecodeCreator>> generator : suppressConditionGenerators) {
+            if (generator.apply(bean) != null) {
+                return null;
+            }
+        }
+        StringBuilder builder = new StringBuilder(settings);
+        appendBean(builder, bean);
+        builder.append("|force=").append(bean.isForceApplicationClass())
+                .append("|app=").append(applicationClassPredicate.test(bean.getBeanClass()))
+                .append("|package=").append(bean.getTargetPackageName())
+                .append("|proxyPackage=").append(bean.getClientProxyPackageName());
+
+        Set<DotName> classNames = new LinkedHashSet<>();
+        addHierarchy(bean.getImplClazz(), classNames);
+        for (Type type : bean.getTypes()) {
+            addHierarchy(type.name(), classNames);
+        }
+        if (bean.getDeclaringBean() != null) {
+            addHierarchy(bean.getDeclaringBean().getImplClazz(), classNames);
+        }
+        if (bean.getDisposer() != null) {
+            builder.append("|disposer=").append(bean.getDisposer().getDisposerMethod());
+            appendInjectionPoints(builder, bean.getDisposer().getAllInjectionPoints());
+        }
+        if (bean.getInterceptionProxy() != null) {
+            builder.append("|interceptionProxy=").append(bean.getInterceptionProxy().getTargetClass());
+            addHierarchy(bean.getInterceptionProxy().getTargetClass(), classNames);
+            addHierarchy(bean.getInterceptionProxy().getBindingsSourceClass(), classNames);
+        }
+        if (bean instanceof InterceptorInfo) {
+            InterceptorInfo interceptor = (InterceptorInfo) bean;
+            builder.append("|bindings=").append(interceptor.getBindings());
+        } else if (bean instanceof DecoratorInfo) {
+            DecoratorInfo decorator = (DecoratorInfo) bean;
+            builder.append("|delegateType=").append(decorator.getDelegateType())
+                    .append("|delegateQualifiers=").append(decorator.getDelegateQualifiers())
+                    .append("|decoratedTypes=").append(decorator.getDecoratedTypes());
+            for (Type type : decorator.getDecoratedTypes()) {
+                addHierarchy(type.name(), classNames);
+            }
+        }
+
+        // Interceptors and decorators bound to the bean
+        for (InterceptorInfo interceptor : bean.getBoundInterceptors()) {
+            builder.append("|interceptor=");
+            appendBean(builder, interceptor);
+            builder.append(',').append(interceptor.getBindings());
+            addHierarchy(interceptor.getImplClazz(), classNames);
+        }
+        for (DecoratorInfo decorator : bean.getBoundDecorators()) {
+            builder.append("|decorator=");
+            appendBean(builder, decorator);
+            addHierarchy(decorator.getImplClazz(), classNames);
+        }
+        for (MethodInfo method : sorted(bean.getInterceptedMethods().keySet())) {
+            InterceptionInfo interception = bean.getInterceptedMethods().get(method);
+            builder.append("|intercepted=").append(method).append(',').append(method.declaringClass().name());
+            appendInterception(builder, interception);
+        }
+        for (MethodInfo method : sorted(bean.getDecoratedMethods().keySet())) {
+            DecorationInfo decoration = bean.getDecoratedMethods().get(method);
+            builder.append("|decorated=").append(method).append(',').append(method.declaringClass().name());
+            for (DecoratorMethod decoratorMethod : decoration.decoratorMethods) {
+                builder.append(',').append(decoratorMethod.decorator.getIdentifier()).append(':')
+                        .append(decoratorMethod.method);
+            }
+        }
+        for (InterceptionType interceptionType : InterceptionType.values()) {
+            InterceptionInfo interception = bean.getLifecycleInterceptors(interceptionType);
+            if (!interception.isEmpty()) {
+                builder.append("|lifecycle=").append(interceptionType);
+                appendInterception(builder, interception);
+            }
+        }
+        appendClasses(builder, classNames);
+        return Hashes.sha1_base64(builder.toString());
+    }
+
+    /**
+     * Appends the attributes of a bean that are also used by other components, e.g. to look up or instantiate the bean.
+     */
+    private void appendBean(StringBuilder builder, BeanInfo bean) {
+        builder.append(bean.getIdentifier())
+                .append(',').append(beanToGeneratedName.get(bean))
+                .append(',').append(bean.getIndex())
+                .append(',').append(bean)
+                .append(',').append(bean.getScope().getDotName())
+                .append(',').append(bean.getName())
+                .append(',').append(bean.getPriority())
+                .append(',').append(bean.isAlternative())
+                .append(',').append(bean.isDefaultBean())
+                .append(',').append(bean.getStartupPriority())
+                .append(',').append(bean.canBeInactive())
+                .append(',').append(bean.requiresInjectionPointMetadata());
+        for (StereotypeInfo stereotype : bean.getStereotypes()) {
+            builder.append(",stereotype=").append(stereotype.getName());
+        }
+        if (bean.getDeclaringBean() != null) {
+            builder.append(",declaringBean=").append(bean.getDeclaringBean().getIdentifier()).append(',')
+                    .append(beanToGeneratedName.get(bean.getDeclaringBean()));
+        }
+        appendInjectionPoints(builder, bean.getAllInjectionPoints());
+        for (InterceptorInfo interceptor : bean.getBoundInterceptors()) {
+            builder.append(",boundInterceptor=").append(interceptor.getIdentifier());
+        }
+        for (DecoratorInfo decorator : bean.getBoundDecorators()) {
+            builder.append(",boundDecorator=").append(decorator.getIdentifier());
+        }
+    }
+
+    private void appendObserver(StringBuilder builder, ObserverInfo observer) {
+        builder.append(observerToGeneratedName.get(observer))
+                .append(',').append(observer.getId())
+                .append(',').append(observer.getBeanClass())
+                .append(',').append(observer.getObservedType())
+                .append(',').append(observer.getQualifiers())
+                .append(',').append(observer.getPriority())
+                .append(',').append(observer.isAsync())
+                .append(',').append(observer.getReception())
+                .append(',').append(observer.getTransactionPhase());
+        if (observer.getObserverMethod() != null) {
+            builder.append(',').append(observer.getObserverMethod()).append(',')
+                    .append(observer.getEventParameter().position());
+        }
+        if (observer.getDeclaringBean() != null) {
+            builder.append(",declaringBean=").append(observer.getDeclaringBean().getIdentifier());
+        }
+        if (observer.getInjection() != null) {
+            appendInjectionPoints(builder, observer.getInjection().injectionPoints);
+        }
+    }
+
+    private void appendInjectionPoints(StringBuilder builder, List<InjectionPointInfo> injectionPoints) {
+        for (InjectionPointInfo injectionPoint : injectionPoints) {
+            builder.append(",ip=").append(injectionPoint.getTargetInfo())
+                    .append(',').append(injectionPoint.getPosition())
+                    .append(',').append(injectionPoint.getType())
+                    .append(',').append(injectionPoint.getRequiredType())
+                    .append(',').append(injectionPoint.getRequiredQualifiers())
+                    .append(',').append(injectionPoint.isDelegate())
+                    .append(',').append(injectionPoint.isTransientReference());
+            BeanInfo resolved = injectionPoint.getResolvedBean();
+            if (resolved != null) {
+                builder.append("->").append(resolved.getIdentifier())
+                        .append(',').append(beanToGeneratedName.get(resolved))
+                        .append(',').append(resolved.getScope().getDotName())
+                        .append(',').append(resolved.requiresInjectionPointMetadata());
+            }
+        }
+    }
+
+    private void appendInterception(StringBuilder builder, InterceptionInfo interception) {
+        for (InterceptorInfo interceptor : interception.interceptors) {
+            builder.append(',').append(interceptor.getIdentifier());
+        }
+        builder.append(',').append(interception.bindings);
+    }
+
+    private void appendClasses(StringBuilder builder, Set<DotName> classNames) {
+        for (DotName className : classNames) {
+            builder.append("|class=").append(className).append(',').append(classes.computeIfAbsent(className, this::hash));
+        }
+    }
+
+    private void addHierarchy(DotName className, Set<DotName> classNames) {
+        if (className == null || classNames.contains(className)) {
+            return;
+        }
+        ClassInfo clazz = beanDeployment.getBeanArchiveIndex().getClassByName(className);
+        if (clazz == null) {
+            classNames.add(className);
+        } else {
+            addHierarchy(clazz, classNames);
+        }
+    }
+
+    private void addHierarchy(ClassInfo clazz, Set<DotName> classNames) {
+        if (clazz == null || !classNames.add(clazz.name())) {
+            return;
+        }
+        addHierarchy(clazz.superName(), classNames);
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            addHierarchy(interfaceName, classNames);
+        }
+        if (clazz.enclosingClass() != null) {
+            // Nested classes may access private members of the enclosing class
+            addHierarchy(clazz.enclosingClass(), classNames);
+        }
+    }
+
+    private String hash(DotName className) {
+        ClassInfo clazz = beanDeployment.getBeanArchiveIndex().getClassByName(className);
+        if (clazz == null) {
+            return "n/a";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append(clazz.flags()).append(',').append(clazz.superClassType()).append(',').append(clazz.interfaceTypes())
+                .append(',').append(clazz.typeParameters());
+        appendAnnotations(builder, beanDeployment.getAnnotations(clazz));
+        for (FieldInfo field : clazz.fields()) {
+            builder.append("|field=").append(field.flags()).append(',').append(field);
+            appendAnnotations(builder, beanDeployment.getAnnotations(field));
+        }
+        for (MethodInfo method : clazz.methods()) {
+            builder.append("|method=").append(method.flags()).append(',').append(method).append(',')
+                    .append(method.exceptions());
+            // Also includes the annotations of method parameters
+            appendAnnotations(builder, beanDeployment.getAnnotations(method));
+        }
+        return Hashes.sha1_base64(builder.toString());
+    }
+
+    private static void appendAnnotations(StringBuilder builder, Collection<AnnotationInstance> annotations) {
+        for (AnnotationInstance annotation : annotations) {
+            builder.append(',').append(annotation.toString(true));
+            if (annotation.target() != null && annotation.target().kind() == Kind.METHOD_PARAMETER) {
+                builder.append(':').append(annotation.target().asMethodParameter().position());
+            }
+        }
+    }
+
+    private static List<MethodInfo> sorted(Set<MethodInfo> methods) {
+        List<MethodInfo> sorted = new ArrayList<>(methods);
+        sorted.sort(Comparator.comparing(MethodInfo::toString).thenComparing(m -> m.declaringClass().name()));
+        return sorted;
+    }
+
+    /**
+     * The implementation version of the processor is not sufficient because it's not set in snapshot and IDE builds.
+     *
+     * @return the hash of the processor classes, or {@code null} if it cannot be computed
+     */
+    static String processorHash() {
+        try {
+            CodeSource codeSource = BeanProcessor.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return null;
+            }
+            Path location = Path.of(codeSource.getLocation().toURI());
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            if (Files.isDirectory(location)) {
+                List<Path> files;
+                try (Stream<Path> stream = Files.walk(location)) {
+                    files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    md.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    md.update(Files.readAllBytes(file));
+                }
+            } else {
+                try (InputStream in = new DigestInputStream(Files.newInputStream(location), md)) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(md.digest());
+        } catch (Exception e) {
+            LOGGER.debugf(e, "Unable to compute the hash of the processor");
+            return null;
+        }
+    }
+
+    private static final class ProcessorHash {
+
+        // if the hash cannot be computed then the cached resources are not reused by another JVM
+        static final String VALUE = Objects.requireNonNullElseGet(processorHash(), () -> UUID.randomUUID().toString());
+
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -30,6 +31,8 @@ import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.ObserverDispatchTable;
+import io.quarkus.arc.impl.QualifierMatcher;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -52,8 +55,11 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String COMPONENTS_PROVIDER_SUFFIX = "_ComponentsProvider";
     static final String SETUP_PACKAGE = Arc.class.getPackage().getName() + ".setup";
     static final String ADD_OBSERVERS = "addObservers";
+    static final String ADD_OBSERVER_INDEX = "addObserverIndex";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    // the maximum number of observer positions written in a single addObserverIndex() method
+    static final int OBSERVER_INDEX_GROUP_LIMIT = 1000;
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final boolean detectUnusedFalsePositives;
@@ -72,10 +78,12 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
      * @param beanToGeneratedName
      * @param observerToGeneratedName
      * @param scopeToContextInstances
+     * @param qualifierToMatcher
      * @return a collection of resources
      */
     Collection<Resource> generate(String name, BeanDeployment beanDeployment, Map<BeanInfo, String> beanToGeneratedName,
-            Map<ObserverInfo, String> observerToGeneratedName, Map<DotName, String> scopeToContextInstances) {
+            Map<ObserverInfo, String> observerToGeneratedName, Map<DotName, String> scopeToContextInstances,
+            Map<DotName, String> qualifierToMatcher) {
 
         ResourceClassOutput classOutput = new ResourceClassOutput(true, generateSources);
 
@@ -100,6 +108,11 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         processObservers(componentsProvider, getComponents, beanDeployment, beanIdToBeanHandle, observersHandle,
                 observerToGeneratedName);
 
+        // Observer dispatch index
+        // Map<String, int[]>
+        ResultHandle observerIndexHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processObserverIndex(componentsProvider, getComponents, beanDeployment, observerIndexHandle);
+
         // Custom contexts
         ResultHandle contextsHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
         for (Entry<ScopeInfo, List<Function<MethodCreator, ResultHandle>>> e : beanDeployment
@@ -176,6 +189,18 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
                     getComponents.load(entry.getKey().toString()), nonbindingMembers);
         }
 
+        // Qualifier matchers
+        ResultHandle qualifierMatchers = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        for (ClassInfo qualifier : beanDeployment.getQualifiers()) {
+            String matcherName = qualifierToMatcher.get(qualifier.name());
+            ResultHandle matcher = matcherName != null
+                    ? getComponents.newInstance(MethodDescriptor.ofConstructor(matcherName))
+                    : getComponents.readStaticField(FieldDescriptor.of(QualifierMatcher.class, "NO_BINDING_MEMBERS",
+                            QualifierMatcher.class));
+            getComponents.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, qualifierMatchers,
+                    getComponents.load(qualifier.name().toString()), matcher);
+        }
+
         ResultHandle contextInstances;
         if (scopeToContextInstances.isEmpty()) {
             contextInstances = getComponents.invokeStaticMethod(MethodDescriptors.COLLECTIONS_EMPTY_MAP);
@@ -192,9 +217,10 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class),
+                        Set.class, Map.class, Supplier.class, Map.class, Set.class, Map.class, Map.class, Map.class),
                 beansHandle, observersHandle, contextsHandle, interceptorBindings, transitiveBindingsHandle,
-                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances);
+                removedBeansSupplier, qualifiersNonbindingMembers, qualifiers, contextInstances, qualifierMatchers,
+                observerIndexHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -308,6 +334,65 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         }
     }
 
+    private void processObserverIndex(ClassCreator componentsProvider, MethodCreator getComponents,
+            BeanDeployment beanDeployment, ResultHandle observerIndexHandle) {
+        // The positions must match the order in which observers are added in processObservers()
+        Map<String, List<Integer>> index = new LinkedHashMap<>();
+        int position = 0;
+        for (ObserverInfo observer : beanDeployment.getObservers()) {
+            index.computeIfAbsent(observerIndexKey(observer), k -> new ArrayList<>()).add(position++);
+        }
+        // Break the index into multiple addObserverIndex() methods
+        MethodCreator addMethod = null;
+        int group = 1;
+        int positionsAdded = 0;
+        for (Entry<String, List<Integer>> entry : index.entrySet()) {
+            if (addMethod == null || positionsAdded >= OBSERVER_INDEX_GROUP_LIMIT) {
+                if (addMethod != null) {
+                    addMethod.returnVoid();
+                }
+                addMethod = componentsProvider.getMethodCreator(ADD_OBSERVER_INDEX + group++, void.class, Map.class)
+                        .setModifiers(ACC_PRIVATE);
+                getComponents.invokeVirtualMethod(addMethod.getMethodDescriptor(), getComponents.getThis(),
+                        observerIndexHandle);
+                positionsAdded = 0;
+            }
+            List<Integer> positions = entry.getValue();
+            ResultHandle positionsArray = addMethod.newArray(int.class, positions.size());
+            for (int i = 0; i < positions.size(); i++) {
+                addMethod.writeArrayValue(positionsArray, i, addMethod.load(positions.get(i).intValue()));
+            }
+            addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, addMethod.getMethodParam(0),
+                    addMethod.load(entry.getKey()), positionsArray);
+            positionsAdded += positions.size();
+        }
+        if (addMethod != null) {
+            addMethod.returnVoid();
+        }
+    }
+
+    /**
+     * Observers are indexed by the raw observed type. Type variables, arrays, primitives and {@link Object} are not
+     * indexed because the event type closure may not contain the observed raw type.
+     *
+     * @param observer
+     * @return the key used in the observer dispatch index
+     */
+    static String observerIndexKey(ObserverInfo observer) {
+        org.jboss.jandex.Type observedType = observer.getObservedType();
+        switch (observedType.kind()) {
+            case CLASS:
+                if (DotNames.OBJECT.equals(observedType.name())) {
+                    return ObserverDispatchTable.UNINDEXED;
+                }
+                return observedType.name().toString();
+            case PARAMETERIZED_TYPE:
+                return observedType.name().toString();
+            default:
+                return ObserverDispatchTable.UNINDEXED;
+        }
+    }
+
     private void processRemovedBeans(ClassCreator componentsProvider, BytecodeCreator targetMethod,
             ResultHandle removedBeansHandle, ResultHandle typeCacheHandle, BeanDeployment beanDeployment,
             ClassOutput classOutput) {
@@ -6,8 +6,11 @@ import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -16,14 +19,18 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.impl.ContextInstances;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.gizmo.BranchResult;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
@@ -38,15 +45,32 @@ import io.quarkus.gizmo.TryBlock;
 public class ContextInstancesGenerator extends AbstractGenerator {
 
     static final String CONTEXT_INSTANCES_SUFFIX = "_ContextInstances";
+    // Below this number of beans the index switch is a sequence of equality checks
+    static final int INDEX_SWITCH_LINEAR_THRESHOLD = 4;
 
     private final BeanDeployment beanDeployment;
     private final Map<DotName, String> scopeToGeneratedName;
+    private final boolean lockFree;
 
     public ContextInstancesGenerator(boolean generateSources, ReflectionRegistration reflectionRegistration,
             BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName) {
+        this(generateSources, reflectionRegistration, beanDeployment, scopeToGeneratedName, false);
+    }
+
+    /**
+     *
+     * @param generateSources
+     * @param reflectionRegistration
+     * @param beanDeployment
+     * @param scopeToGeneratedName
+     * @param lockFree if set to {@code true} then a CAS on the instance handle slot is used instead of a lock per bean
+     */
+    public ContextInstancesGenerator(boolean generateSources, ReflectionRegistration reflectionRegistration,
+            BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName, boolean lockFree) {
         super(generateSources, reflectionRegistration);
         this.beanDeployment = beanDeployment;
         this.scopeToGeneratedName = scopeToGeneratedName;
+        this.lockFree = lockFree;
     }
 
     void precomputeGeneratedName(DotName scope) {
@@ -65,6 +89,12 @@ public class ContextInstancesGenerator extends AbstractGenerator {
         ClassCreator contextInstances = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(ContextInstances.class).build();
 
+        if (lockFree) {
+            generateLockFree(contextInstances, beans);
+            contextInstances.close();
+            return classOutput.getResources();
+        }
+
         // Add ContextInstanceHandle and Lock fields for every bean
         // The name of the field is a generated index
         // For example:
@@ -94,11 +124,13 @@ public class ContextInstancesGenerator extends AbstractGenerator {
         constructor.invokeSpecialMethod(MethodDescriptors.OBJECT_CONSTRUCTOR, constructor.getThis());
         constructor.returnVoid();
 
-        implementComputeIfAbsent(contextInstances, beans, idToFields, lazyLocks);
+        List<MethodDescriptor> compute = implementComputeIfAbsent(contextInstances, beans, idToFields, lazyLocks);
         implementGetIfPresent(contextInstances, beans, idToFields);
         List<MethodDescriptor> remove = implementRemove(contextInstances, beans, idToFields, lazyLocks);
         implementGetAllPresent(contextInstances, idToFields);
         implementRemoveEach(contextInstances, remove);
+        implementIndexedMethods(contextInstances, beans, compute, remove,
+                (bc, bean) -> bc.readInstanceField(idToFields.get(bean.getIdentifier()).instance, bc.getThis()));
 
         contextInstances.close();
 
@@ -270,7 +302,7 @@ public class ContextInstancesGenerator extends AbstractGenerator {
         strSwitch.defaultCase(bc -> bc.throwException(IllegalArgumentException.class, "Unknown bean identifier"));
     }
 
-    private void implementComputeIfAbsent(ClassCreator contextInstances, List<BeanInfo> beans,
+    private List<MethodDescriptor> implementComputeIfAbsent(ClassCreator contextInstances, List<BeanInfo> beans,
             Map<String, InstanceAndLock> idToFields, Map<String, MethodDescriptor> lazyLocks) {
         MethodCreator computeIfAbsent = contextInstances
                 .getMethodCreator("computeIfAbsent", ContextInstanceHandle.class, String.class, Supplier.class)
@@ -279,6 +311,7 @@ public class ContextInstancesGenerator extends AbstractGenerator {
         StringSwitch strSwitch = computeIfAbsent.stringSwitch(computeIfAbsent.getMethodParam(0));
         // https://github.com/quarkusio/gizmo/issues/164
         strSwitch.fallThrough();
+        List<MethodDescriptor> computeMethods = new ArrayList<>(beans.size());
         for (BeanInfo bean : beans) {
             InstanceAndLock fields = idToFields.get(bean.getIdentifier());
             // There is a separate compute method for every bean instance field
@@ -320,12 +353,228 @@ public class ContextInstancesGenerator extends AbstractGenerator {
             CatchBlockCreator catchBlock = tryBlock.addCatch(Throwable.class);
             catchBlock.invokeInterfaceMethod(MethodDescriptors.LOCK_UNLOCK, lock);
             catchBlock.throwException(catchBlock.getCaughtException());
+            computeMethods.add(compute.getMethodDescriptor());
 
             strSwitch.caseOf(bean.getIdentifier(), bc -> {
                 bc.returnValue(bc.invokeVirtualMethod(compute.getMethodDescriptor(), bc.getThis(), bc.getMethodParam(1)));
             });
         }
         strSwitch.defaultCase(bc -> bc.throwException(IllegalArgumentException.class, "Unknown bean identifier"));
+        return computeMethods;
+    }
+
+    private void generateLockFree(ClassCreator contextInstances, List<BeanInfo> beans) {
+        // Add a slot field and a VarHandle for every bean
+        // The slot holds null, a ContextInstanceHandle or a marker that indicates the instance is under construction
+        // For example:
+        // private static final VarHandle 1H;
+        // private volatile Object 1;
+        Map<String, Slot> idToSlots = new HashMap<>();
+        int fieldIndex = 0;
+        for (BeanInfo bean : beans) {
+            String beanIdx = "" + fieldIndex++;
+            FieldCreator slotField = contextInstances.getFieldCreator(beanIdx, Object.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
+            FieldCreator varHandleField = contextInstances.getFieldCreator(beanIdx + "H", VarHandle.class)
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL | ACC_STATIC);
+            idToSlots.put(bean.getIdentifier(),
+                    new Slot(slotField.getFieldDescriptor(), varHandleField.getFieldDescriptor()));
+        }
+
+        // static {
+        //   1H = MethodHandles.lookup().findVarHandle(ContextInstances.class, "1", Object.class);
+        // }
+        MethodCreator staticConstructor = contextInstances.getMethodCreator(MethodDescriptor.CLINIT, void.class)
+                .setModifiers(ACC_STATIC);
+        ResultHandle lookup = staticConstructor.invokeStaticMethod(
+                MethodDescriptor.ofMethod(MethodHandles.class, "lookup", MethodHandles.Lookup.class));
+        MethodDescriptor findVarHandle = MethodDescriptor.ofMethod(MethodHandles.Lookup.class, "findVarHandle",
+                VarHandle.class, Class.class, String.class, Class.class);
+        for (Slot slot : idToSlots.values()) {
+            ResultHandle varHandle = staticConstructor.invokeVirtualMethod(findVarHandle, lookup,
+                    staticConstructor.loadClass(contextInstances.getClassName()),
+                    staticConstructor.load(slot.instance.getName()), staticConstructor.loadClass(Object.class));
+            staticConstructor.writeStaticField(slot.varHandle, varHandle);
+        }
+        staticConstructor.returnVoid();
+
+        MethodCreator constructor = contextInstances.getMethodCreator(MethodDescriptor.INIT, "V");
+        constructor.invokeSpecialMethod(MethodDescriptors.OBJECT_CONSTRUCTOR, constructor.getThis());
+        constructor.returnVoid();
+
+        MethodCreator computeIfAbsent = contextInstances
+                .getMethodCreator("computeIfAbsent", ContextInstanceHandle.class, String.class, Supplier.class)
+                .setModifiers(ACC_PUBLIC);
+        StringSwitch computeSwitch = computeIfAbsent.stringSwitch(computeIfAbsent.getMethodParam(0));
+        // https://github.com/quarkusio/gizmo/issues/164
+        computeSwitch.fallThrough();
+        MethodCreator remove = contextInstances
+                .getMethodCreator("remove", ContextInstanceHandle.class, String.class)
+                .setModifiers(ACC_PUBLIC);
+        StringSwitch removeSwitch = remove.stringSwitch(remove.getMethodParam(0));
+        removeSwitch.fallThrough();
+        List<MethodDescriptor> computeMethods = new ArrayList<>(beans.size());
+        List<MethodDescriptor> removeMethods = new ArrayList<>(beans.size());
+
+        for (BeanInfo bean : beans) {
+            Slot slot = idToSlots.get(bean.getIdentifier());
+            // There is a separate compute method for every slot
+            // ContextInstanceHandle<?> copy = LockFreeContextInstances.handle(this.1);
+            // if (copy != null) {
+            //    return copy;
+            // }
+            // return LockFreeContextInstances.computeIfAbsent(this, 1H, supplier);
+            MethodCreator compute = contextInstances.getMethodCreator("c" + slot.instance.getName(),
+                    ContextInstanceHandle.class, Supplier.class).setModifiers(ACC_PRIVATE);
+            ResultHandle copy = compute.invokeStaticMethod(MethodDescriptors.LOCK_FREE_CONTEXT_INSTANCES_HANDLE,
+                    compute.readInstanceField(slot.instance, compute.getThis()));
+            compute.ifNotNull(copy).trueBranch().returnValue(copy);
+            compute.returnValue(compute.invokeStaticMethod(MethodDescriptors.LOCK_FREE_CONTEXT_INSTANCES_COMPUTE_IF_ABSENT,
+                    compute.getThis(), compute.readStaticField(slot.varHandle), compute.getMethodParam(0)));
+            computeMethods.add(compute.getMethodDescriptor());
+            computeSwitch.caseOf(bean.getIdentifier(), bc -> {
+                bc.returnValue(bc.invokeVirtualMethod(compute.getMethodDescriptor(), bc.getThis(), bc.getMethodParam(1)));
+            });
+
+            // There is a separate remove method for every slot
+            // if (this.1 == null) {
+            //    return null;
+            // }
+            // return LockFreeContextInstances.remove(this, 1H);
+            MethodCreator removeHandle = contextInstances.getMethodCreator("r" + slot.instance.getName(),
+                    ContextInstanceHandle.class).setModifiers(ACC_PRIVATE);
+            removeHandle.ifNull(removeHandle.readInstanceField(slot.instance, removeHandle.getThis())).trueBranch()
+                    .returnValue(removeHandle.loadNull());
+            removeHandle.returnValue(removeHandle.invokeStaticMethod(MethodDescriptors.LOCK_FREE_CONTEXT_INSTANCES_REMOVE,
+                    removeHandle.getThis(), removeHandle.readStaticField(slot.varHandle)));
+            removeMethods.add(removeHandle.getMethodDescriptor());
+            removeSwitch.caseOf(bean.getIdentifier(), bc -> {
+                bc.returnValue(bc.invokeVirtualMethod(removeHandle.getMethodDescriptor(), bc.getThis()));
+            });
+        }
+        computeSwitch.defaultCase(bc -> bc.throwException(IllegalArgumentException.class, "Unknown bean identifier"));
+        removeSwitch.defaultCase(bc -> bc.throwException(IllegalArgumentException.class, "Unknown bean identifier"));
+
+        // return LockFreeContextInstances.handle(this.1);
+        MethodCreator getIfPresent = contextInstances
+                .getMethodCreator("getIfPresent", ContextInstanceHandle.class, String.class)
+                .setModifiers(ACC_PUBLIC);
+        StringSwitch getSwitch = getIfPresent.stringSwitch(getIfPresent.getMethodParam(0));
+        getSwitch.fallThrough();
+        for (BeanInfo bean : beans) {
+            getSwitch.caseOf(bean.getIdentifier(), bc -> {
+                bc.returnValue(bc.invokeStaticMethod(MethodDescriptors.LOCK_FREE_CONTEXT_INSTANCES_HANDLE,
+                        bc.readInstanceField(idToSlots.get(bean.getIdentifier()).instance, bc.getThis())));
+            });
+        }
+        getSwitch.defaultCase(bc -> bc.throwException(IllegalArgumentException.class, "Unknown bean identifier"));
+
+        // ContextInstanceHandle<?> copy1 = LockFreeContextInstances.handle(this.1);
+        // Set<ContextInstanceHandle<?>> ret = new HashSet<>();
+        // if (copy1 != null) {
+        //    ret.add(copy1);
+        // }
+        // return ret;
+        MethodCreator getAllPresent = contextInstances.getMethodCreator("getAllPresent", Set.class)
+                .setModifiers(ACC_PUBLIC);
+        List<ResultHandle> results = new ArrayList<>(idToSlots.size());
+        for (Slot slot : idToSlots.values()) {
+            results.add(getAllPresent.invokeStaticMethod(MethodDescriptors.LOCK_FREE_CONTEXT_INSTANCES_HANDLE,
+                    getAllPresent.readInstanceField(slot.instance, getAllPresent.getThis())));
+        }
+        ResultHandle ret = getAllPresent.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+        for (ResultHandle result : results) {
+            getAllPresent.ifNotNull(result).trueBranch().invokeInterfaceMethod(MethodDescriptors.SET_ADD, ret, result);
+        }
+        getAllPresent.returnValue(ret);
+
+        implementRemoveEach(contextInstances, removeMethods);
+        implementIndexedMethods(contextInstances, beans, computeMethods, removeMethods,
+                (bc, bean) -> bc.invokeStaticMethod(MethodDescriptors.LOCK_FREE_CONTEXT_INSTANCES_HANDLE,
+                        bc.readInstanceField(idToSlots.get(bean.getIdentifier()).instance, bc.getThis())));
+    }
+
+    private void implementIndexedMethods(ClassCreator contextInstances, List<BeanInfo> beans,
+            List<MethodDescriptor> computeMethods, List<MethodDescriptor> removeMethods,
+            BiFunction<BytecodeCreator, BeanInfo, ResultHandle> readHandle) {
+        // The slot is selected by the index of the bean; a binary search over the sorted indexes is used
+        // because there is no int switch in Gizmo
+        // For example:
+        // public ContextInstanceHandle computeIfAbsent(InjectableBean bean, Supplier supplier) {
+        //    int index = bean.getIndex();
+        //    if (index < 7) {
+        //       if (index == 3) {
+        //          return c0(supplier);
+        //       }
+        //       ...
+        //    }
+        //    ...
+        //    return computeIfAbsent(bean.getIdentifier(), supplier);
+        // }
+        List<Integer> positions = new ArrayList<>(beans.size());
+        for (int i = 0; i < beans.size(); i++) {
+            if (beans.get(i).getIndex() >= 0) {
+                positions.add(i);
+            }
+        }
+        positions.sort(Comparator.comparingInt(i -> beans.get(i).getIndex()));
+        String className = contextInstances.getClassName();
+
+        MethodCreator computeIfAbsent = contextInstances
+                .getMethodCreator("computeIfAbsent", ContextInstanceHandle.class, InjectableBean.class, Supplier.class)
+                .setModifiers(ACC_PUBLIC);
+        indexSwitch(computeIfAbsent, computeIfAbsent.invokeInterfaceMethod(MethodDescriptors.GET_INDEX,
+                computeIfAbsent.getMethodParam(0)), beans, positions, 0, positions.size(),
+                (bc, position) -> bc.returnValue(bc.invokeVirtualMethod(computeMethods.get(position), bc.getThis(),
+                        bc.getMethodParam(1))),
+                bc -> bc.returnValue(bc.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(className, "computeIfAbsent", ContextInstanceHandle.class, String.class,
+                                Supplier.class),
+                        bc.getThis(), bc.invokeInterfaceMethod(MethodDescriptors.GET_IDENTIFIER, bc.getMethodParam(0)),
+                        bc.getMethodParam(1))));
+
+        MethodCreator getIfPresent = contextInstances
+                .getMethodCreator("getIfPresent", ContextInstanceHandle.class, InjectableBean.class)
+                .setModifiers(ACC_PUBLIC);
+        indexSwitch(getIfPresent, getIfPresent.invokeInterfaceMethod(MethodDescriptors.GET_INDEX,
+                getIfPresent.getMethodParam(0)), beans, positions, 0, positions.size(),
+                (bc, position) -> bc.returnValue(readHandle.apply(bc, beans.get(position))),
+                bc -> bc.returnValue(bc.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(className, "getIfPresent", ContextInstanceHandle.class, String.class),
+                        bc.getThis(), bc.invokeInterfaceMethod(MethodDescriptors.GET_IDENTIFIER, bc.getMethodParam(0)))));
+
+        MethodCreator remove = contextInstances
+                .getMethodCreator("remove", ContextInstanceHandle.class, InjectableBean.class)
+                .setModifiers(ACC_PUBLIC);
+        indexSwitch(remove, remove.invokeInterfaceMethod(MethodDescriptors.GET_INDEX, remove.getMethodParam(0)), beans,
+                positions, 0, positions.size(),
+                (bc, position) -> bc.returnValue(bc.invokeVirtualMethod(removeMethods.get(position), bc.getThis())),
+                bc -> bc.returnValue(bc.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(className, "remove", ContextInstanceHandle.class, String.class),
+                        bc.getThis(), bc.invokeInterfaceMethod(MethodDescriptors.GET_IDENTIFIER, bc.getMethodParam(0)))));
+    }
+
+    private static void indexSwitch(BytecodeCreator bytecode, ResultHandle index, List<BeanInfo> beans,
+            List<Integer> positions, int from, int to, BiConsumer<BytecodeCreator, Integer> caseFun,
+            Consumer<BytecodeCreator> defaultFun) {
+        if (to - from <= INDEX_SWITCH_LINEAR_THRESHOLD) {
+            for (int i = from; i < to; i++) {
+                Integer position = positions.get(i);
+                BytecodeCreator match = bytecode
+                        .ifIntegerEqual(index, bytecode.load(beans.get(position).getIndex())).trueBranch();
+                caseFun.accept(match, position);
+            }
+            defaultFun.accept(bytecode);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        BranchResult lessThan = bytecode.ifIntegerLessThan(index,
+                bytecode.load(beans.get(positions.get(mid)).getIndex()));
+        indexSwitch(lessThan.trueBranch(), index, beans, positions, from, mid, caseFun, defaultFun);
+        indexSwitch(lessThan.falseBranch(), index, beans, positions, mid, to, caseFun, defaultFun);
+    }
+
+    record Slot(FieldDescriptor instance, FieldDescriptor varHandle) {
     }
 
     record InstanceAndLock(FieldDescriptor instance, FieldDescriptor lock, FieldDescriptor lockUpdater) {
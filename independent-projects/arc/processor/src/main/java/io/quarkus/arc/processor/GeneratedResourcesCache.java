@@ -0,0 +1,514 @@
+package io.quarkus.arc.processor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.arc.processor.ResourceOutput.Resource.SpecialType;
+
+/**
+ * An on-disk cache of the resources generated for beans, interceptors, decorators, observers and the
+ * {@code ComponentsProvider}.
+ * <p>
+ * An entry is stored together with a fingerprint computed by {@link ComponentFingerprints} and it's only reused if the
+ * fingerprint did not change. Generators have side effects that must be preserved when an entry is reused. Therefore, the
+ * reflection registrations and the annotation literals of a component are recorded when the resources are generated and
+ * replayed when the entry is reused. The resources are never cached if a bytecode transformation was registered during
+ * generation.
+ * <p>
+ * The directory should not be shared by multiple bean deployments because the entries that were not used during the last
+ * build are removed.
+ * <p>
+ * This construct is thread-safe.
+ */
+final class GeneratedResourcesCache {
+
+    private static final Logger LOGGER = Logger.getLogger(GeneratedResourcesCache.class);
+
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".arc";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    // the kinds of recorded reflection registrations
+    private static final String METHOD = "method";
+    private static final String METHOD_INFO = "methodInfo";
+    private static final String FIELD_INFO = "fieldInfo";
+
+    // Side effects of the generator that is running on the current thread
+    private static final ThreadLocal<Recording> RECORDING = new ThreadLocal<>();
+
+    private final Path directory;
+    private final ComponentFingerprints fingerprints;
+    private final ReflectionRegistration reflectionRegistration;
+    private final AnnotationLiteralProcessor annotationLiterals;
+    private final IndexView index;
+    // file names of the entries used during this build
+    private final Set<String> used;
+    private final AtomicInteger hits;
+    private final AtomicInteger misses;
+
+    /**
+     *
+     * @param directory the cache directory or {@code null} if caching is disabled
+     * @param fingerprints
+     * @param reflectionRegistration
+     * @param annotationLiterals
+     * @param index
+     */
+    GeneratedResourcesCache(Path directory, ComponentFingerprints fingerprints, ReflectionRegistration reflectionRegistration,
+            AnnotationLiteralProcessor annotationLiterals, IndexView index) {
+        this.directory = directory;
+        this.fingerprints = fingerprints;
+        this.reflectionRegistration = reflectionRegistration;
+        this.annotationLiterals = annotationLiterals;
+        this.index = index;
+        this.used = ConcurrentHashMap.newKeySet();
+        this.hits = new AtomicInteger();
+        this.misses = new AtomicInteger();
+    }
+
+    /**
+     * Records a usage of the given annotation literal if a generator is running on the current thread.
+     *
+     * @param annotationName
+     */
+    static void annotationLiteralUsed(DotName annotationName) {
+        Recording recording = RECORDING.get();
+        if (recording != null) {
+            recording.annotationLiterals.add(annotationName);
+        }
+    }
+
+    boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     *
+     * @return the reflection registration that should be used by generators
+     */
+    ReflectionRegistration getReflectionRegistration() {
+        return isEnabled() ? new RecordingReflectionRegistration(reflectionRegistration) : reflectionRegistration;
+    }
+
+    /**
+     *
+     * @param delegate
+     * @return the consumer that should be used by generators
+     */
+    Consumer<BytecodeTransformer> getBytecodeTransformerConsumer(Consumer<BytecodeTransformer> delegate) {
+        if (!isEnabled()) {
+            return delegate;
+        }
+        return new Consumer<BytecodeTransformer>() {
+            @Override
+            public void accept(BytecodeTransformer transformer) {
+                Recording recording = RECORDING.get();
+                if (recording != null) {
+                    recording.cacheable = false;
+                }
+                delegate.accept(transformer);
+            }
+        };
+    }
+
+    /**
+     *
+     * @param kind the kind of the generated resources, e.g. {@code bean} or {@code client-proxy}
+     * @param bean
+     * @param generator
+     * @return the resources
+     */
+    Collection<Resource> get(String kind, BeanInfo bean, Supplier<Collection<Resource>> generator) {
+        if (!isEnabled()) {
+            return generator.get();
+        }
+        return get(kind + ":" + bean.getIdentifier(), fingerprints.of(bean), generator);
+    }
+
+    /**
+     *
+     * @param observer
+     * @param generatedName
+     * @param generator
+     * @return the resources
+     */
+    Collection<Resource> get(ObserverInfo observer, String generatedName, Supplier<Collection<Resource>> generator) {
+        if (!isEnabled()) {
+            return generator.get();
+        }
+        return get("observer:" + generatedName, fingerprints.of(observer), generator);
+    }
+
+    /**
+     *
+     * @param name
+     * @param detectUnusedFalsePositives
+     * @param scopeToGeneratedName
+     * @param qualifierToGeneratedName
+     * @param generator
+     * @return the resources
+     */
+    Collection<Resource> getComponentsProvider(String name, boolean detectUnusedFalsePositives,
+            Map<DotName, String> scopeToGeneratedName, Map<DotName, String> qualifierToGeneratedName,
+            Supplier<Collection<Resource>> generator) {
+        if (!isEnabled()) {
+            return generator.get();
+        }
+        return get("components-provider:" + name, fingerprints.ofComponentsProvider(name, detectUnusedFalsePositives,
+                scopeToGeneratedName, qualifierToGeneratedName), generator);
+    }
+
+    Collection<Resource> get(String key, String fingerprint, Supplier<Collection<Resource>> generator) {
+        if (fingerprint == null) {
+            return generator.get();
+        }
+        String fileName = Hashes.sha1_base64(key) + SUFFIX;
+        used.add(fileName);
+        Path file = directory.resolve(fileName);
+
+        Entry entry = read(file, fingerprint);
+        if (entry != null && entry.replay()) {
+            hits.incrementAndGet();
+            return entry.resources;
+        }
+        misses.incrementAndGet();
+
+        Recording recording = new Recording();
+        RECORDING.set(recording);
+        Collection<Resource> resources;
+        try {
+            resources = generator.get();
+        } finally {
+            RECORDING.remove();
+        }
+        if (recording.cacheable) {
+            write(file, fingerprint, resources, recording);
+        } else {
+            delete(file);
+        }
+        return resources;
+    }
+
+    /**
+     * Removes the entries that were not used during this build and the temporary files left over by failed writes.
+     */
+    void removeUnused() {
+        if (!isEnabled() || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*{" + SUFFIX + "," + TMP_SUFFIX + "}")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TMP_SUFFIX) || !used.contains(fileName)) {
+                    delete(file);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to remove unused entries from %s", directory);
+        }
+        LOGGER.debugf("Reused %s of %s cached components", hits.get(), hits.get() + misses.get());
+    }
+
+    private Entry read(Path file, String fingerprint) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != VERSION || !fingerprint.equals(in.readUTF())) {
+                return null;
+            }
+            int resourcesCount = in.readInt();
+            List<Resource> resources = new ArrayList<>(resourcesCount);
+            for (int i = 0; i < resourcesCount; i++) {
+                resources.add(readResource(in));
+            }
+            int reflectionCount = in.readInt();
+            List<String[]> reflection = new ArrayList<>(reflectionCount);
+            for (int i = 0; i < reflectionCount; i++) {
+                String[] values = new String[in.readInt()];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = in.readUTF();
+                }
+                reflection.add(values);
+            }
+            int literalsCount = in.readInt();
+            List<DotName> literals = new ArrayList<>(literalsCount);
+            for (int i = 0; i < literalsCount; i++) {
+                literals.add(DotName.createSimple(in.readUTF()));
+            }
+            return new Entry(resources, reflection, literals);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to read the cache entry %s", file);
+            return null;
+        }
+    }
+
+    private static Resource readResource(DataInputStream in) throws IOException {
+        Resource.Type type = Resource.Type.values()[in.readByte()];
+        String name = in.readUTF();
+        byte specialTypeOrdinal = in.readByte();
+        SpecialType specialType = specialTypeOrdinal >= 0 ? SpecialType.values()[specialTypeOrdinal] : null;
+        boolean applicationClass = in.readBoolean();
+        String source = in.readBoolean() ? new String(readBytes(in), StandardCharsets.UTF_8) : null;
+        byte[] data = readBytes(in);
+        switch (type) {
+            case JAVA_CLASS:
+                return ResourceImpl.javaClass(name, data, specialType, applicationClass, source);
+            case SERVICE_PROVIDER:
+                return ResourceImpl.serviceProvider(name, data, specialType);
+            default:
+                throw new IOException("Unsupported resource type: " + type);
+        }
+    }
+
+    private void write(Path file, String fingerprint, Collection<Resource> resources, Recording recording) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            // Write a temporary file first so that a partially written entry is never read
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), TMP_SUFFIX);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(resources.size());
+                for (Resource resource : resources) {
+                    writeResource(out, resource);
+                }
+                out.writeInt(recording.reflection.size());
+                for (String[] values : recording.reflection) {
+                    out.writeInt(values.length);
+                    for (String value : values) {
+                        out.writeUTF(value);
+                    }
+                }
+                out.writeInt(recording.annotationLiterals.size());
+                for (DotName annotationName : recording.annotationLiterals) {
+                    out.writeUTF(annotationName.toString());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to write the cache entry %s", file);
+            if (tmp != null) {
+                delete(tmp);
+            }
+            delete(file);
+        }
+    }
+
+    private static void writeResource(DataOutputStream out, Resource resource) throws IOException {
+        out.writeByte(resource.getType().ordinal());
+        out.writeUTF(resource.getName());
+        out.writeByte(resource.getSpecialType() != null ? resource.getSpecialType().ordinal() : -1);
+        out.writeBoolean(resource.isApplicationClass());
+        String source = resource.getType() == Resource.Type.JAVA_CLASS ? resource.getSource() : null;
+        out.writeBoolean(source != null);
+        if (source != null) {
+            writeBytes(out, source.getBytes(StandardCharsets.UTF_8));
+        }
+        writeBytes(out, resource.getData());
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("Unexpected end of the cache entry");
+        }
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to delete the cache entry %s", file);
+        }
+    }
+
+    private final class Entry {
+
+        private final List<Resource> resources;
+        private final List<String[]> reflection;
+        private final List<DotName> annotationLiterals;
+
+        Entry(List<Resource> resources, List<String[]> reflection, List<DotName> annotationLiterals) {
+            this.resources = resources;
+            this.reflection = reflection;
+            this.annotationLiterals = annotationLiterals;
+        }
+
+        /**
+         * The side effects are only replayed if all the recorded members and annotations can be found.
+         *
+         * @return {@code true} if the side effects were replayed, {@code false} otherwise
+         */
+        boolean replay() {
+            List<Runnable> actions = new ArrayList<>(reflection.size());
+            for (String[] values : reflection) {
+                Runnable action = reflectionAction(values);
+                if (action == null) {
+                    return false;
+                }
+                actions.add(action);
+            }
+            for (DotName annotationName : this.annotationLiterals) {
+                ClassInfo annotationClass = index.getClassByName(annotationName);
+                if (annotationClass == null) {
+                    return false;
+                }
+                actions.add(() -> GeneratedResourcesCache.this.annotationLiterals.register(annotationClass));
+            }
+            for (Runnable action : actions) {
+                action.run();
+            }
+            return true;
+        }
+
+        private Runnable reflectionAction(String[] values) {
+            switch (values[0]) {
+                case METHOD: {
+                    String[] params = new String[values.length - 3];
+                    System.arraycopy(values, 3, params, 0, params.length);
+                    return () -> reflectionRegistration.registerMethod(values[1], values[2], params);
+                }
+                case METHOD_INFO: {
+                    ClassInfo clazz = index.getClassByName(values[1]);
+                    if (clazz == null) {
+                        return null;
+                    }
+                    for (MethodInfo method : clazz.methods()) {
+                        if (method.name().equals(values[2]) && matches(method, values)) {
+                            return () -> reflectionRegistration.registerMethod(method);
+                        }
+                    }
+                    return null;
+                }
+                case FIELD_INFO: {
+                    ClassInfo clazz = index.getClassByName(values[1]);
+                    FieldInfo field = clazz != null ? clazz.field(values[2]) : null;
+                    return field != null ? () -> reflectionRegistration.registerField(field) : null;
+                }
+                default:
+                    return null;
+            }
+        }
+
+        private boolean matches(MethodInfo method, String[] values) {
+            if (method.parametersCount() != values.length - 3) {
+                return false;
+            }
+            for (int i = 0; i < method.parametersCount(); i++) {
+                if (!method.parameterType(i).name().toString().equals(values[i + 3])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private static final class Recording {
+
+        private final List<String[]> reflection = new ArrayList<>();
+        private final Set<DotName> annotationLiterals = new LinkedHashSet<>();
+        private boolean cacheable = true;
+
+    }
+
+    /**
+     * Delegates to the original reflection registration and records the registrations of the generator running on the
+     * current thread.
+     */
+    private static final class RecordingReflectionRegistration implements ReflectionRegistration {
+
+        private final ReflectionRegistration delegate;
+
+        RecordingReflectionRegistration(ReflectionRegistration delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void registerMethod(String declaringClass, String name, String... params) {
+            String[] values = new String[params.length + 3];
+            values[0] = METHOD;
+            values[1] = declaringClass;
+            values[2] = name;
+            System.arraycopy(params, 0, values, 3, params.length);
+            record(values);
+            delegate.registerMethod(declaringClass, name, params);
+        }
+
+        @Override
+        public void registerMethod(MethodInfo methodInfo) {
+            String[] values = new String[methodInfo.parametersCount() + 3];
+            values[0] = METHOD_INFO;
+            values[1] = methodInfo.declaringClass().name().toString();
+            values[2] = methodInfo.name();
+            int i = 3;
+            for (Type parameterType : methodInfo.parameterTypes()) {
+                values[i++] = parameterType.name().toString();
+            }
+            record(values);
+            delegate.registerMethod(methodInfo);
+        }
+
+        @Override
+        public void registerField(FieldInfo fieldInfo) {
+            record(new String[] { FIELD_INFO, fieldInfo.declaringClass().name().toString(),
+                    fieldInfo.name() });
+            delegate.registerField(fieldInfo);
+        }
+
+        @Override
+        public void registerClientProxy(DotName beanClassName, String clientProxyName) {
+            delegate.registerClientProxy(beanClassName, clientProxyName);
+        }
+
+        @Override
+        public void registerSubclass(DotName beanClassName, String subclassName) {
+            delegate.registerSubclass(beanClassName, subclassName);
+        }
+
+        private void record(String[] values) {
+            Recording recording = RECORDING.get();
+            if (recording != null) {
+                recording.reflection.add(values);
+            }
+        }
+
+    }
+
+}
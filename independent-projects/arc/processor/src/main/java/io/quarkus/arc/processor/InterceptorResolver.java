@@ -1,9 +1,12 @@
 package io.quarkus.arc.processor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import jakarta.enterprise.inject.spi.InterceptionType;
@@ -11,11 +14,15 @@ import jakarta.enterprise.inject.spi.InterceptionType;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 
 public final class InterceptorResolver {
 
     private final BeanDeployment beanDeployment;
 
+    // built lazily and invalidated whenever an interceptor is added or removed
+    private volatile BindingIndex bindingIndex;
+
     InterceptorResolver(BeanDeployment beanDeployment) {
         this.beanDeployment = beanDeployment;
     }
@@ -31,7 +38,8 @@ public final class InterceptorResolver {
             return Collections.emptyList();
         }
         List<InterceptorInfo> interceptors = new ArrayList<>();
-        for (InterceptorInfo interceptor : beanDeployment.getInterceptors()) {
+        // only the interceptors bound to at least one of the given bindings need to be matched
+        for (InterceptorInfo interceptor : getBindingIndex().getCandidates(bindings)) {
             if (!interceptor.intercepts(interceptionType)) {
                 continue;
             }
@@ -53,6 +61,19 @@ public final class InterceptorResolver {
         return interceptors;
     }
 
+    void invalidate() {
+        bindingIndex = null;
+    }
+
+    private BindingIndex getBindingIndex() {
+        BindingIndex index = bindingIndex;
+        if (index == null) {
+            index = new BindingIndex(new ArrayList<>(beanDeployment.getInterceptors()));
+            bindingIndex = index;
+        }
+        return index;
+    }
+
     private int compare(InterceptorInfo i1, InterceptorInfo i2) {
         return Integer.compare(i1.getPriority(), i2.getPriority());
     }
@@ -85,4 +106,50 @@ public final class InterceptorResolver {
         return false;
     }
 
+    /**
+     * Interceptors indexed by the names of their interceptor bindings. The candidates are returned in the order in which
+     * the interceptors were registered.
+     */
+    private static final class BindingIndex {
+
+        private final List<InterceptorInfo> interceptors;
+        private final Map<DotName, BitSet> byBinding;
+        // interceptors without bindings, should not exist in a valid deployment
+        private final BitSet unbound;
+
+        BindingIndex(List<InterceptorInfo> interceptors) {
+            this.interceptors = interceptors;
+            this.byBinding = new HashMap<>();
+            this.unbound = new BitSet();
+            for (int i = 0; i < interceptors.size(); i++) {
+                Set<AnnotationInstance> bindings = interceptors.get(i).getBindings();
+                if (bindings.isEmpty()) {
+                    unbound.set(i);
+                }
+                for (AnnotationInstance binding : bindings) {
+                    byBinding.computeIfAbsent(binding.name(), k -> new BitSet()).set(i);
+                }
+            }
+        }
+
+        List<InterceptorInfo> getCandidates(Collection<AnnotationInstance> bindings) {
+            BitSet candidates = (BitSet) unbound.clone();
+            for (AnnotationInstance binding : bindings) {
+                BitSet bound = byBinding.get(binding.name());
+                if (bound != null) {
+                    candidates.or(bound);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<InterceptorInfo> ret = new ArrayList<>(candidates.cardinality());
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                ret.add(interceptors.get(i));
+            }
+            return ret;
+        }
+
+    }
+
 }
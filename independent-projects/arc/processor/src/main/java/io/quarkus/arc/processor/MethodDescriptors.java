@@ -1,5 +1,7 @@
 package io.quarkus.arc.processor;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
@@ -28,12 +30,14 @@ import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
 import io.quarkus.arc.InterceptorCreator.InterceptFunction;
+import io.quarkus.arc.impl.CachingClientProxy;
 import io.quarkus.arc.impl.ClientProxies;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
@@ -42,8 +46,10 @@ import io.quarkus.arc.impl.InjectableReferenceProviders;
 import io.quarkus.arc.impl.InjectionPointImpl;
 import io.quarkus.arc.impl.Instances;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.InterceptorBindingSet;
 import io.quarkus.arc.impl.InterceptorInvocation;
 import io.quarkus.arc.impl.InvocationContexts;
+import io.quarkus.arc.impl.LockFreeContextInstances;
 import io.quarkus.arc.impl.MapValueSupplier;
 import io.quarkus.arc.impl.Reflections;
 import io.quarkus.arc.impl.RemovedBeanImpl;
@@ -180,6 +186,10 @@ public final class MethodDescriptors {
             InvocationContexts.class,
             "performAroundInvoke", Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
 
+    public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_SYNCHRONOUS_AROUND_INVOKE = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performSynchronousAroundInvoke", Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_TARGET_AROUND_INVOKE = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "performTargetAroundInvoke", Object.class, InvocationContext.class, List.class, BiFunction.class);
@@ -239,6 +249,9 @@ public final class MethodDescriptors {
 
     public static final MethodDescriptor SETS_OF = MethodDescriptor.ofMethod(Sets.class, "of", Set.class, Object[].class);
 
+    public static final MethodDescriptor INTERCEPTOR_BINDING_SET_OF = MethodDescriptor.ofMethod(InterceptorBindingSet.class,
+            "of", Set.class, Annotation[].class);
+
     public static final MethodDescriptor ARC_CONTAINER = MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class);
 
     public static final MethodDescriptor ARC_CONTAINER_BEAN = MethodDescriptor.ofMethod(ArcContainer.class, "bean",
@@ -260,6 +273,8 @@ public final class MethodDescriptors {
     public static final MethodDescriptor GET_IDENTIFIER = MethodDescriptor.ofMethod(InjectableBean.class, "getIdentifier",
             String.class);
 
+    public static final MethodDescriptor GET_INDEX = MethodDescriptor.ofMethod(InjectableBean.class, "getIndex", int.class);
+
     public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_CONSTRUCTOR = MethodDescriptor.ofConstructor(
             InterceptedMethodMetadata.class, List.class, Method.class, Set.class, BiFunction.class);
 
@@ -283,6 +298,14 @@ public final class MethodDescriptors {
     public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
 
+    public static final MethodDescriptor CLIENT_PROXIES_ADD_CACHING_CLIENT_PROXY = MethodDescriptor.ofMethod(
+            ClientProxies.class, "addCachingClientProxy", void.class, InjectableContext.class, InjectableBean.class,
+            CachingClientProxy.class);
+
+    public static final MethodDescriptor CLIENT_PROXIES_IS_CACHED_DELEGATE_VALID = MethodDescriptor.ofMethod(
+            ClientProxies.class, "isCachedDelegateValid", boolean.class, InjectableContext.class, InjectableBean.class,
+            Object.class);
+
     public static final MethodDescriptor CLIENT_PROXIES_GET_SINGLE_CONTEXT_DELEGATE = MethodDescriptor.ofMethod(
             ClientProxies.class,
             "getSingleContextDelegate", Object.class, InjectableContext.class, InjectableBean.class);
@@ -322,6 +345,14 @@ public final class MethodDescriptors {
     public static final MethodDescriptor LOCK_LOCK = MethodDescriptor.ofMethod(Lock.class, "lock", void.class);
     public static final MethodDescriptor LOCK_UNLOCK = MethodDescriptor.ofMethod(Lock.class, "unlock", void.class);
 
+    public static final MethodDescriptor LOCK_FREE_CONTEXT_INSTANCES_HANDLE = MethodDescriptor.ofMethod(
+            LockFreeContextInstances.class, "handle", ContextInstanceHandle.class, Object.class);
+    public static final MethodDescriptor LOCK_FREE_CONTEXT_INSTANCES_COMPUTE_IF_ABSENT = MethodDescriptor.ofMethod(
+            LockFreeContextInstances.class, "computeIfAbsent", ContextInstanceHandle.class, Object.class, VarHandle.class,
+            Supplier.class);
+    public static final MethodDescriptor LOCK_FREE_CONTEXT_INSTANCES_REMOVE = MethodDescriptor.ofMethod(
+            LockFreeContextInstances.class, "remove", ContextInstanceHandle.class, Object.class, VarHandle.class);
+
     public static final MethodDescriptor ACTIVE_RESULT_VALUE = MethodDescriptor.ofMethod(ActiveResult.class,
             "value", boolean.class);
     public static final MethodDescriptor ACTIVE_RESULT_REASON = MethodDescriptor.ofMethod(ActiveResult.class,
@@ -0,0 +1,128 @@
+package io.quarkus.arc.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.impl.QualifierMatcher;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a {@link QualifierMatcher} for each qualifier that declares at least one binding member, so that
+ * the container does not need to compare qualifier members reflectively at runtime.
+ */
+public class QualifierMatcherGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(QualifierMatcherGenerator.class);
+
+    static final String QUALIFIER_MATCHER_SUFFIX = "_ArcQualifierMatcher";
+
+    private final BeanDeployment beanDeployment;
+    private final Predicate<DotName> applicationClassPredicate;
+    private final Set<String> existingClasses;
+    private final Map<DotName, String> qualifierToGeneratedName;
+
+    QualifierMatcherGenerator(boolean generateSources, BeanDeployment beanDeployment,
+            Predicate<DotName> applicationClassPredicate, Set<String> existingClasses,
+            Map<DotName, String> qualifierToGeneratedName) {
+        super(generateSources);
+        this.beanDeployment = beanDeployment;
+        this.applicationClassPredicate = applicationClassPredicate;
+        this.existingClasses = existingClasses;
+        this.qualifierToGeneratedName = qualifierToGeneratedName;
+    }
+
+    /**
+     * Qualifiers without binding members are skipped; {@link QualifierMatcher#NO_BINDING_MEMBERS} is used instead.
+     *
+     * @param qualifier
+     */
+    void precomputeGeneratedName(ClassInfo qualifier) {
+        if (bindingMembers(qualifier).isEmpty()) {
+            return;
+        }
+        // when the qualifier is declared in a java.lang package we need to use a different package
+        // otherwise a security exception will be thrown when the matcher is loaded
+        String name = qualifier.name().toString();
+        if (name.startsWith("java.lang")) {
+            name = DEFAULT_PACKAGE + qualifier.name().withoutPackagePrefix();
+        }
+        // com.foo.MyQualifier -> com.foo.MyQualifier_ArcQualifierMatcher
+        qualifierToGeneratedName.put(qualifier.name(), name + QUALIFIER_MATCHER_SUFFIX);
+    }
+
+    Collection<Resource> generate(ClassInfo qualifier) {
+        String generatedName = qualifierToGeneratedName.get(qualifier.name());
+        if (generatedName == null || existingClasses.contains(generatedName.replace('.', '/'))) {
+            return Collections.emptyList();
+        }
+
+        ResourceClassOutput classOutput = new ResourceClassOutput(applicationClassPredicate.test(qualifier.name()),
+                generateSources);
+        ClassCreator matcher = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(QualifierMatcher.class).setFinal(true).build();
+
+        MethodCreator constructor = matcher.getMethodCreator(MethodDescriptor.INIT, "V").setModifiers(ACC_PUBLIC);
+        constructor.invokeSpecialMethod(MethodDescriptors.OBJECT_CONSTRUCTOR, constructor.getThis());
+        constructor.returnVoid();
+
+        // public boolean matches(Annotation required, Annotation candidate) {
+        //    MyQualifier r = (MyQualifier) required;
+        //    MyQualifier c = (MyQualifier) candidate;
+        //    if (!r.value().equals(c.value())) {
+        //       return false;
+        //    }
+        //    return true;
+        // }
+        MethodCreator matches = matcher.getMethodCreator("matches", boolean.class, Annotation.class, Annotation.class)
+                .setModifiers(ACC_PUBLIC | ACC_FINAL);
+        String qualifierType = qualifier.name().toString();
+        ResultHandle required = matches.checkCast(matches.getMethodParam(0), qualifierType);
+        ResultHandle candidate = matches.checkCast(matches.getMethodParam(1), qualifierType);
+        for (MethodInfo member : bindingMembers(qualifier)) {
+            ResultHandle requiredValue = matches.invokeInterfaceMethod(member, required);
+            ResultHandle candidateValue = matches.invokeInterfaceMethod(member, candidate);
+            AnnotationLiteralGenerator.returnFalseIfNotEqual(matches, DescriptorUtils.typeToString(member.returnType()),
+                    requiredValue, candidateValue);
+        }
+        matches.returnBoolean(true);
+
+        matcher.close();
+        LOGGER.debugf("Qualifier matcher generated: %s", generatedName);
+        return classOutput.getResources();
+    }
+
+    private List<MethodInfo> bindingMembers(ClassInfo qualifier) {
+        Set<String> nonbindingMembers = beanDeployment.getQualifierNonbindingMembers(qualifier.name());
+        List<MethodInfo> result = new ArrayList<>();
+        for (MethodInfo method : qualifier.methods()) {
+            if (method.name().equals(Methods.CLINIT) || method.name().equals(Methods.INIT)) {
+                continue;
+            }
+            if (method.hasDeclaredAnnotation(DotNames.NONBINDING) || nonbindingMembers.contains(method.name())) {
+                continue;
+            }
+            result.add(method);
+        }
+        return result;
+    }
+
+}
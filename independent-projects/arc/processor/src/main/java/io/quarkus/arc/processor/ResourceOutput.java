@@ -12,6 +12,17 @@ public interface ResourceOutput {
 
     void writeResource(Resource resource) throws IOException;
 
+    /**
+     * If the output is thread-safe then {@link #writeResource(Resource)} may be invoked concurrently when resources are
+     * generated in parallel and the order of writes is not specified. Otherwise, the writes are serialized and the
+     * resources are written in a deterministic order.
+     *
+     * @return {@code true} if {@link #writeResource(Resource)} may be invoked concurrently
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     interface Resource {
 
         boolean isApplicationClass();
@@ -0,0 +1,195 @@
+package io.quarkus.arc.processor;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+
+/**
+ * Hands the generated resources over to the {@link ResourceOutput} as soon as they are generated, i.e. the resources do
+ * not need to be kept in memory until all the resources are generated.
+ * <p>
+ * The resources of the {@linkplain #submit(ExecutorService, Callable) submitted tasks} are written and retained in a
+ * deterministic order: in the order the tasks were submitted, and the tasks submitted by a running task follow the
+ * resources of that task. The resources of a task that completes early are kept until all preceding tasks complete. If
+ * the output is {@linkplain ResourceOutput#isThreadSafe() thread-safe} then the resources are written as soon as a task
+ * completes and the order of writes is not specified.
+ * <p>
+ * If a task fails then no more resources are written. The resources that were already written are not removed.
+ * <p>
+ * This construct is thread-safe.
+ */
+final class ResourceSink {
+
+    // The task that is running on the current thread
+    private static final ThreadLocal<Task> CURRENT = new ThreadLocal<>();
+
+    private final ResourceOutput output;
+    private final boolean concurrentWrites;
+    // guards the fields below and the writes to an output that is not thread-safe
+    private final Object lock = new Object();
+    // null if the resources are not retained
+    private final List<Resource> resources;
+    // the tasks whose resources were not written yet, in the order of writes
+    private final ArrayDeque<Task> pending;
+    private volatile boolean failed;
+
+    /**
+     *
+     * @param output the output, may be {@code null}
+     * @param retainResources if set to {@code true} then all the resources are also collected in a list
+     */
+    ResourceSink(ResourceOutput output, boolean retainResources) {
+        this.output = output;
+        this.concurrentWrites = output != null && output.isThreadSafe();
+        this.resources = retainResources || output == null ? new ArrayList<>() : null;
+        this.pending = new ArrayDeque<>();
+    }
+
+    void write(Collection<Resource> generated) throws IOException {
+        synchronized (lock) {
+            doWrite(generated);
+            retain(generated);
+        }
+    }
+
+    void write(Resource resource) throws IOException {
+        write(List.of(resource));
+    }
+
+    /**
+     * The resources are written by the task, i.e. the returned future does not hold the generated resources.
+     *
+     * @param executor
+     * @param task
+     * @return the future
+     */
+    Future<?> submit(ExecutorService executor, Callable<Collection<Resource>> task) {
+        Task submitted = new Task();
+        synchronized (lock) {
+            Task parent = CURRENT.get();
+            if (parent != null) {
+                parent.children.add(submitted);
+            } else {
+                pending.addLast(submitted);
+            }
+        }
+        return executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                Collection<Resource> generated;
+                Task previous = CURRENT.get();
+                CURRENT.set(submitted);
+                try {
+                    generated = task.call();
+                } catch (Throwable t) {
+                    failed = true;
+                    throw t;
+                } finally {
+                    CURRENT.set(previous);
+                }
+                complete(submitted, generated);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Waits for the given tasks. If a task fails then the remaining tasks are cancelled.
+     *
+     * @param tasks
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    void await(Iterable<Future<?>> tasks) throws InterruptedException, ExecutionException {
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            failed = true;
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     *
+     * @return the retained resources, or an empty list if the resources are not retained
+     */
+    List<Resource> getResources() {
+        if (resources == null) {
+            return Collections.emptyList();
+        }
+        synchronized (lock) {
+            return new ArrayList<>(resources);
+        }
+    }
+
+    private void complete(Task task, Collection<Resource> generated) throws IOException {
+        try {
+            if (concurrentWrites) {
+                doWrite(generated);
+            }
+            synchronized (lock) {
+                // the resources are only kept if they need to be written or retained in order
+                task.resources = !concurrentWrites || resources != null ? generated : List.of();
+                task.done = true;
+                Task next;
+                while ((next = pending.peekFirst()) != null && next.done) {
+                    pending.pollFirst();
+                    if (!concurrentWrites) {
+                        doWrite(next.resources);
+                    }
+                    retain(next.resources);
+                    next.resources = null;
+                    // the tasks submitted by this task follow
+                    for (int i = next.children.size() - 1; i >= 0; i--) {
+                        pending.addFirst(next.children.get(i));
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    private void doWrite(Collection<Resource> generated) throws IOException {
+        if (output == null || failed) {
+            return;
+        }
+        for (Resource resource : generated) {
+            output.writeResource(resource);
+        }
+    }
+
+    // must be called while holding the lock
+    private void retain(Collection<Resource> generated) {
+        if (resources != null) {
+            resources.addAll(generated);
+        }
+    }
+
+    private static final class Task {
+
+        // guarded by lock
+        private final List<Task> children = new ArrayList<>();
+        // guarded by lock
+        private Collection<Resource> resources;
+        // guarded by lock
+        private boolean done;
+
+    }
+
+}
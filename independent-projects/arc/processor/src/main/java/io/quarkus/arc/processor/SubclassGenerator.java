@@ -6,6 +6,7 @@ import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -19,6 +20,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -89,16 +93,42 @@ public class SubclassGenerator extends AbstractGenerator {
         return packageName + baseName + SUBCLASS_SUFFIX;
     }
 
+    // Return types of methods that may be intercepted asynchronously
+    private static final Set<DotName> ASYNC_RETURN_TYPES = Set.of(DotNames.COMPLETION_STAGE,
+            DotName.createSimple(CompletableFuture.class.getName()), DotName.createSimple(Future.class.getName()),
+            DotName.createSimple(Flow.Publisher.class.getName()), DotName.createSimple("org.reactivestreams.Publisher"),
+            DotNames.UNI, DotNames.MULTI);
+
     private final AnnotationLiteralProcessor annotationLiterals;
+    private final boolean synchronousInterceptorChains;
 
     public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, PrivateMembersCollector privateMembers) {
+        this(annotationLiterals, applicationClassPredicate, generateSources, reflectionRegistration, existingClasses,
+                privateMembers, false);
+    }
+
+    /**
+     *
+     * @param annotationLiterals
+     * @param applicationClassPredicate
+     * @param generateSources
+     * @param reflectionRegistration
+     * @param existingClasses
+     * @param privateMembers
+     * @param synchronousInterceptorChains if set to {@code true} then a single invocation context is shared by all
+     *        interceptors of a method that does not return an asynchronous type
+     */
+    public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
+            boolean generateSources, ReflectionRegistration reflectionRegistration,
+            Set<String> existingClasses, PrivateMembersCollector privateMembers, boolean synchronousInterceptorChains) {
         super(generateSources, reflectionRegistration);
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.existingClasses = existingClasses;
         this.privateMembers = privateMembers;
+        this.synchronousInterceptorChains = synchronousInterceptorChains;
     }
 
     Collection<Resource> generate(BeanInfo bean, String beanClassName) {
@@ -448,7 +478,8 @@ public class SubclassGenerator extends AbstractGenerator {
 
                 // Finally create the intercepted method
                 createInterceptedMethod(method, subclass, metadataField, constructedField.getFieldDescriptor(),
-                        forwardDescriptor, BytecodeCreator::getThis);
+                        forwardDescriptor, BytecodeCreator::getThis,
+                        synchronousInterceptorChains && !isAsynchronous(method));
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -520,20 +551,15 @@ public class SubclassGenerator extends AbstractGenerator {
             @Override
             public String apply(Set<AnnotationInstanceEquivalenceProxy> bindings) {
                 String key = "b" + bindingIdx.i++;
-                if (bindings.size() == 1) {
-                    bytecode.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, bindingsMap, bytecode.load(key),
-                            bytecode.invokeStaticMethod(MethodDescriptors.COLLECTIONS_SINGLETON,
-                                    bindingsLiterals.computeIfAbsent(bindings.iterator().next(), bindingsLiteralFun)));
-                } else {
-                    ResultHandle bindingsArray = bytecode.newArray(Object.class, bindings.size());
-                    int bindingsIndex = 0;
-                    for (AnnotationInstanceEquivalenceProxy binding : bindings) {
-                        bytecode.writeArrayValue(bindingsArray, bindingsIndex++,
-                                bindingsLiterals.computeIfAbsent(binding, bindingsLiteralFun));
-                    }
-                    bytecode.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, bindingsMap, bytecode.load(key),
-                            bytecode.invokeStaticMethod(MethodDescriptors.SETS_OF, bindingsArray));
+                // The set is indexed by annotation type
+                ResultHandle bindingsArray = bytecode.newArray(Annotation.class, bindings.size());
+                int bindingsIndex = 0;
+                for (AnnotationInstanceEquivalenceProxy binding : bindings) {
+                    bytecode.writeArrayValue(bindingsArray, bindingsIndex++,
+                            bindingsLiterals.computeIfAbsent(binding, bindingsLiteralFun));
                 }
+                bytecode.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, bindingsMap, bytecode.load(key),
+                        bytecode.invokeStaticMethod(MethodDescriptors.INTERCEPTOR_BINDING_SET_OF, bindingsArray));
                 return key;
             }
         };
@@ -891,6 +917,23 @@ public class SubclassGenerator extends AbstractGenerator {
     static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, FieldDescriptor metadataField,
             FieldDescriptor constructedField, MethodDescriptor forwardMethod,
             Function<BytecodeCreator, ResultHandle> getTarget) {
+        createInterceptedMethod(method, subclass, metadataField, constructedField, forwardMethod, getTarget, false);
+    }
+
+    /**
+     * A method may be intercepted asynchronously if it returns an asynchronous type or if it's a Kotlin suspend function.
+     * Interceptors bound to such a method may resume the chain later, possibly on a different thread.
+     *
+     * @param method
+     * @return {@code true} if the method may be intercepted asynchronously
+     */
+    static boolean isAsynchronous(MethodInfo method) {
+        return ASYNC_RETURN_TYPES.contains(method.returnType().name()) || KotlinUtils.isKotlinSuspendMethod(method);
+    }
+
+    static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, FieldDescriptor metadataField,
+            FieldDescriptor constructedField, MethodDescriptor forwardMethod,
+            Function<BytecodeCreator, ResultHandle> getTarget, boolean synchronousChain) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -960,9 +1003,11 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
+        // InvocationContexts.performAroundInvoke(...) or InvocationContexts.performSynchronousAroundInvoke(...)
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+        ResultHandle ret = tryCatch.invokeStaticMethod(synchronousChain
+                ? MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_SYNCHRONOUS_AROUND_INVOKE
+                : MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 getTarget.apply(tryCatch), paramsHandle, methodMetadataHandle);
         tryCatch.returnValue(ret);
     }
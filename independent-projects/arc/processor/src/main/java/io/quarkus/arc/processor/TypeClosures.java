@@ -0,0 +1,70 @@
+package io.quarkus.arc.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+/**
+ * Caches the unrestricted type closures of classes, together with the type variables resolved along the way.
+ * <p>
+ * A closure is keyed by the class, the resolved type arguments of the class and a flag indicating whether the class is
+ * used as a raw type. Many beans usually share superclasses and generic interfaces and so the cached closures of the
+ * supertypes are reused when computing the closure of a bean class.
+ * <p>
+ * This construct is thread-safe.
+ *
+ * @see Types#getTypeClosure(ClassInfo, org.jboss.jandex.AnnotationTarget, Map, BeanDeployment,
+ *      java.util.function.BiConsumer, Set)
+ */
+final class TypeClosures {
+
+    private final ConcurrentMap<Key, Closure> cache;
+
+    TypeClosures() {
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     *
+     * @param clazz
+     * @param arguments the resolved type arguments; a {@code null} element represents an unresolved type parameter
+     * @param rawGeneric
+     * @param computation
+     * @return the closure
+     */
+    Closure get(ClassInfo clazz, List<Type> arguments, boolean rawGeneric, Supplier<Closure> computation) {
+        Key key = new Key(clazz.name(), arguments, rawGeneric);
+        Closure closure = cache.get(key);
+        if (closure == null) {
+            // The computation is recursive and therefore ConcurrentMap#computeIfAbsent() cannot be used
+            closure = computation.get();
+            Closure existing = cache.putIfAbsent(key, closure);
+            if (existing != null) {
+                closure = existing;
+            }
+        }
+        return closure;
+    }
+
+    record Key(DotName className, List<Type> arguments, boolean rawGeneric) {
+    }
+
+    /**
+     *
+     * @param types the type closure
+     * @param unrestrictedTypes the types from the closure plus the parameterized types skipped because of a wildcard
+     * @param resolvedTypeVariables the resolved type variables for each parameterized class in the closure, in the order
+     *        in which the hierarchy was traversed
+     */
+    record Closure(Set<Type> types, Set<Type> unrestrictedTypes,
+            List<Map.Entry<ClassInfo, Map<String, Type>>> resolvedTypeVariables) {
+    }
+
+}
@@ -670,7 +670,40 @@ public final class Types {
             Map<String, Type> resolvedTypeParameters,
             BeanDeployment beanDeployment, BiConsumer<ClassInfo, Map<String, Type>> resolvedTypeVariablesConsumer,
             Set<Type> unrestrictedBeanTypes, boolean rawGeneric) {
+        List<TypeVariable> typeParameters = classInfo.typeParameters();
+        List<Type> arguments = Collections.emptyList();
+        if (!typeParameters.isEmpty()) {
+            arguments = new ArrayList<>(typeParameters.size());
+            for (TypeVariable typeParameter : typeParameters) {
+                arguments.add(resolvedTypeParameters.get(typeParameter.identifier()));
+            }
+            if (throwOnProducerWildcard && producerFieldOrMethod != null && !rawGeneric && !arguments.contains(null)) {
+                // for producers, wildcard is not a legal bean type and results in a definition error
+                // see https://docs.jboss.org/cdi/spec/2.0/cdi-spec.html#legal_bean_types
+                // the cached closure does not depend on the producer and so the type arguments are validated here
+                for (Type argument : arguments) {
+                    containsWildcard(argument, producerFieldOrMethod, true);
+                }
+            }
+        }
+        TypeClosures.Closure closure = beanDeployment.getTypeClosures().get(classInfo, arguments, rawGeneric,
+                () -> computeTypeClosure(classInfo, resolvedTypeParameters, beanDeployment, rawGeneric));
+        if (resolvedTypeVariablesConsumer != null) {
+            for (Map.Entry<ClassInfo, Map<String, Type>> e : closure.resolvedTypeVariables()) {
+                resolvedTypeVariablesConsumer.accept(e.getKey(), e.getValue());
+            }
+        }
+        unrestrictedBeanTypes.addAll(closure.unrestrictedTypes());
+        return new HashSet<>(closure.types());
+    }
+
+    private static TypeClosures.Closure computeTypeClosure(ClassInfo classInfo, Map<String, Type> resolvedTypeParameters,
+            BeanDeployment beanDeployment, boolean rawGeneric) {
         Set<Type> types = new HashSet<>();
+        Set<Type> unrestrictedBeanTypes = new HashSet<>();
+        List<Map.Entry<ClassInfo, Map<String, Type>>> resolvedTypeVariables = new ArrayList<>();
+        BiConsumer<ClassInfo, Map<String, Type>> resolvedTypeVariablesConsumer = (clazz, resolved) -> resolvedTypeVariables
+                .add(Map.entry(clazz, resolved));
         List<TypeVariable> typeParameters = classInfo.typeParameters();
 
         if (typeParameters.isEmpty()
@@ -684,18 +717,14 @@ public final class Types {
             boolean skipThisType = false;
             for (int i = 0; i < typeParameters.size(); i++) {
                 typeParams[i] = resolvedTypeParameters.get(typeParameters.get(i).identifier());
-                // for producers, wildcard is not a legal bean type and results in a definition error
-                // see https://docs.jboss.org/cdi/spec/2.0/cdi-spec.html#legal_bean_types
                 // NOTE: wildcard can be nested, such as List<Set<? extends Number>>
-                skipThisType = containsWildcard(typeParams[i], producerFieldOrMethod, throwOnProducerWildcard);
+                skipThisType = containsWildcard(typeParams[i], null, false);
             }
-            if (resolvedTypeVariablesConsumer != null) {
-                Map<String, Type> resolved = new HashMap<>();
-                for (int i = 0; i < typeParameters.size(); i++) {
-                    resolved.put(typeParameters.get(i).identifier(), typeParams[i]);
-                }
-                resolvedTypeVariablesConsumer.accept(classInfo, resolved);
+            Map<String, Type> resolved = new HashMap<>();
+            for (int i = 0; i < typeParameters.size(); i++) {
+                resolved.put(typeParameters.get(i).identifier(), typeParams[i]);
             }
+            resolvedTypeVariablesConsumer.accept(classInfo, Collections.unmodifiableMap(resolved));
             if (!skipThisType) {
                 types.add(ParameterizedType.create(classInfo.name(), typeParams, null));
             } else {
@@ -714,7 +743,7 @@ public final class Types {
                     resolved = buildResolvedMap(interfaceType.asParameterizedType().arguments(),
                             interfaceClassInfo.typeParameters(), resolvedTypeParameters, beanDeployment.getBeanArchiveIndex());
                 }
-                types.addAll(getTypeClosure(interfaceClassInfo, producerFieldOrMethod, false, resolved, beanDeployment,
+                types.addAll(getTypeClosure(interfaceClassInfo, null, false, resolved, beanDeployment,
                         resolvedTypeVariablesConsumer, unrestrictedBeanTypes,
                         rawGeneric || isRawGeneric(interfaceType, interfaceClassInfo)));
             }
@@ -729,13 +758,14 @@ public final class Types {
                             superClassInfo.typeParameters(),
                             resolvedTypeParameters, beanDeployment.getBeanArchiveIndex());
                 }
-                types.addAll(getTypeClosure(superClassInfo, producerFieldOrMethod, false, resolved, beanDeployment,
+                types.addAll(getTypeClosure(superClassInfo, null, false, resolved, beanDeployment,
                         resolvedTypeVariablesConsumer, unrestrictedBeanTypes,
                         rawGeneric || isRawGeneric(classInfo.superClassType(), superClassInfo)));
             }
         }
         unrestrictedBeanTypes.addAll(types);
-        return types;
+        return new TypeClosures.Closure(Set.copyOf(types), Set.copyOf(unrestrictedBeanTypes),
+                List.copyOf(resolvedTypeVariables));
     }
 
     // if the superclass type is CLASS *AND* and superclass info has type parameters, then it's raw type
@@ -0,0 +1,130 @@
+package io.quarkus.arc.processor;
+
+import static io.quarkus.arc.processor.Basics.name;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.WildcardType;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.processor.BuildExtension.Key;
+
+public class BeanIndexTest {
+
+    @Test
+    public void testCandidates() throws Exception {
+        BeanDeployment deployment = deployment(false);
+        BeanResolverImpl resolver = deployment.beanResolver;
+
+        Type handlerFoo = handler(ClassType.create(name(Foo.class)));
+        Type handlerBar = handler(ClassType.create(name(Bar.class)));
+        Type handlerInteger = handler(ClassType.create(name(Integer.class)));
+        Type handlerList = handler(ParameterizedType.create(name(List.class),
+                new Type[] { ClassType.create(name(String.class)) }, null));
+        Type handlerWildcard = handler(WildcardType.UNBOUNDED);
+        Type rawHandler = ClassType.create(name(Handler.class));
+
+        AnnotationInstance namedBar = AnnotationInstance.create(DotNames.NAMED, null,
+                List.of(AnnotationValue.createStringValue("value", "bar")));
+        List<Set<AnnotationInstance>> qualifiers = List.of(Collections.emptySet(),
+                Set.of(BuiltinQualifier.DEFAULT.getInstance()), Set.of(BuiltinQualifier.ANY.getInstance()), Set.of(namedBar));
+
+        for (Type type : List.of(handlerFoo, handlerBar, handlerInteger, handlerList, handlerWildcard, rawHandler,
+                ClassType.OBJECT_TYPE)) {
+            for (Set<AnnotationInstance> required : qualifiers) {
+                Set<BeanInfo> expected = deployment.getBeans().stream().filter(b -> resolver.matches(b, type, required))
+                        .collect(Collectors.toSet());
+                assertEquals(expected, resolver.resolveBeans(type, required), type + " " + required);
+            }
+        }
+
+        // Handler<Bar> is not a candidate for Handler<Foo> but the generic handler is
+        assertEquals(Set.of(name(FooHandler.class), name(NumberHandler.class)),
+                beanClasses(deployment.getBeanIndex().getCandidates(handlerFoo, Collections.emptySet())));
+        assertEquals(Set.of(name(BarHandler.class)),
+                beanClasses(deployment.getBeanIndex().getCandidates(handlerWildcard, Set.of(namedBar))));
+        assertEquals(Set.of(name(BarHandler.class)),
+                beanClasses(deployment.getBeanIndex().getCandidates(ClassType.OBJECT_TYPE, Set.of(namedBar))));
+        assertTrue(deployment.getBeanIndex().getCandidates(handlerFoo, Set.of(namedBar)).isEmpty());
+    }
+
+    @Test
+    public void testSyntheticBeanInvalidatesIndex() throws Exception {
+        BeanDeployment deployment = deployment(true);
+        Set<BeanInfo> beans = deployment.beanResolver.resolveBeans(handler(ClassType.create(name(Foo.class))),
+                Collections.emptySet());
+        assertEquals(2, beans.stream().filter(b -> b.getImplClazz().name().equals(name(FooHandler.class))).count());
+        assertTrue(beans.stream().anyMatch(BeanInfo::isSynthetic));
+    }
+
+    private static Set<Object> beanClasses(List<BeanInfo> beans) {
+        return beans.stream().map(BeanInfo::getBeanClass).collect(Collectors.toSet());
+    }
+
+    private static Type handler(Type argument) {
+        return ParameterizedType.create(name(Handler.class), new Type[] { argument }, null);
+    }
+
+    private static BeanDeployment deployment(boolean syntheticBean) throws Exception {
+        Index index = Index.of(Handler.class, Foo.class, Bar.class, FooHandler.class, BarHandler.class, NumberHandler.class,
+                ListHandler.class, Number.class, Object.class);
+        BeanProcessor.Builder builder = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(BeanArchives.buildImmutableBeanArchiveIndex(index));
+        if (syntheticBean) {
+            builder.addBeanRegistrar(context -> {
+                // Resolve the required type first so that the index is built before the synthetic bean is registered
+                Type handlerFoo = handler(ClassType.create(name(Foo.class)));
+                assertEquals(1, context.get(Key.DEPLOYMENT).beanResolver.resolveBeans(handlerFoo, Collections.emptySet())
+                        .stream().filter(b -> b.getImplClazz().name().equals(name(FooHandler.class))).count());
+                context.configure(FooHandler.class).types(handlerFoo).creator(mc -> mc.returnValue(mc.loadNull())).done();
+            });
+        }
+        BeanProcessor processor = builder.build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        processor.registerBeans();
+        return processor.getBeanDeployment();
+    }
+
+    interface Handler<T> {
+    }
+
+    static class Foo {
+    }
+
+    static class Bar {
+    }
+
+    @Singleton
+    static class FooHandler implements Handler<Foo> {
+    }
+
+    @Named("bar")
+    @Singleton
+    static class BarHandler implements Handler<Bar> {
+    }
+
+    @Dependent
+    static class NumberHandler<T extends Number> implements Handler<T> {
+    }
+
+    @Singleton
+    static class ListHandler implements Handler<List<String>> {
+    }
+
+}
@@ -0,0 +1,248 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTransformation;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+
+public class GeneratedResourcesCacheTest {
+
+    private static final FileTime OLD = FileTime.fromMillis(0);
+
+    // The order of components registered by the ComponentsProvider is not stable across builds
+    private static final String COMPONENTS_PROVIDER_PREFIX = "io/quarkus/arc/setup/";
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void testReuse() throws Exception {
+        Map<String, byte[]> expected = build(null, null);
+
+        Map<String, byte[]> first = build(cacheDir, null);
+        assertResources(expected, first);
+        List<Path> entries = entries();
+        assertFalse(entries.isEmpty());
+        // The annotation literal of the interceptor binding is used by the subclass of Bravo
+        assertTrue(first.keySet().stream().anyMatch(name -> name.endsWith("_ArcAnnotationLiteral")));
+
+        for (Path entry : entries) {
+            Files.setLastModifiedTime(entry, OLD);
+        }
+        Map<String, byte[]> second = build(cacheDir, null);
+        // The annotation literal is generated even if the subclass is reused
+        assertResources(expected, second);
+        assertEquals(entries, entries());
+        for (Path entry : entries) {
+            if (!entry.equals(componentsProviderEntry())) {
+                assertEquals(OLD, Files.getLastModifiedTime(entry), entry.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        AnnotationTransformation logged = AnnotationTransformation.forMethods()
+                .when(ctx -> ctx.declaration().asMethod().name().equals("hello"))
+                .transform(ctx -> ctx.add(AnnotationInstance.builder(Logged.class).value("foo").build()));
+        Map<String, byte[]> original = build(null, null);
+        Map<String, byte[]> expected = build(null, logged);
+
+        build(cacheDir, null);
+        List<Path> entries = entries();
+        for (Path entry : entries) {
+            Files.setLastModifiedTime(entry, OLD);
+        }
+        Map<String, byte[]> transformed = build(cacheDir, logged);
+        assertResources(expected, transformed);
+
+        // Only the bean of Alpha is regenerated and its new subclass is added
+        List<Path> added = new ArrayList<>(entries());
+        added.removeAll(entries);
+        assertEquals(1, added.size(), added.toString());
+        List<Path> modified = new ArrayList<>();
+        for (Path entry : entries) {
+            if (!entry.equals(componentsProviderEntry()) && !OLD.equals(Files.getLastModifiedTime(entry))) {
+                modified.add(entry);
+            }
+        }
+        assertEquals(1, modified.size(), modified.toString());
+        List<String> changed = expected.keySet().stream()
+                .filter(name -> !name.startsWith(COMPONENTS_PROVIDER_PREFIX))
+                .filter(name -> !Arrays.equals(expected.get(name), original.get(name)))
+                .collect(Collectors.toList());
+        assertFalse(changed.isEmpty());
+        assertTrue(changed.stream().allMatch(name -> name.contains("_Alpha_")), changed.toString());
+    }
+
+    @Test
+    public void testUnusedEntriesRemoved() throws Exception {
+        build(cacheDir, null);
+        Path unused = cacheDir.resolve("unused.arc");
+        Files.write(unused, new byte[] { 1, 2, 3 });
+        Path other = cacheDir.resolve("other.txt");
+        Files.write(other, new byte[] { 1, 2, 3 });
+        // left over by a failed write
+        Path tmp = componentsProviderEntry().resolveSibling(componentsProviderEntry().getFileName() + "123.tmp");
+        Files.write(tmp, new byte[] { 1, 2, 3 });
+        Map<String, byte[]> resources = build(cacheDir, null);
+        assertResources(build(null, null), resources);
+        assertFalse(Files.exists(unused));
+        assertFalse(Files.exists(tmp));
+        assertTrue(Files.exists(other));
+    }
+
+    @Test
+    public void testProcessorHash() {
+        // the implementation version is not set when running from the build output directory
+        String hash = ComponentFingerprints.processorHash();
+        assertNotNull(hash);
+        assertEquals(hash, ComponentFingerprints.processorHash());
+    }
+
+    @Test
+    public void testCorruptedEntry() throws Exception {
+        build(cacheDir, null);
+        for (Path entry : entries()) {
+            Files.write(entry, new byte[] { 0, 0, 0, 1 });
+        }
+        assertResources(build(null, null), build(cacheDir, null));
+        assertResources(build(null, null), build(cacheDir, null));
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".arc")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private Path componentsProviderEntry() {
+        return cacheDir.resolve(Hashes.sha1_base64("components-provider:" + BeanProcessor.DEFAULT_NAME) + ".arc");
+    }
+
+    private static void assertResources(Map<String, byte[]> expected, Map<String, byte[]> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, byte[]> e : expected.entrySet()) {
+            if (e.getKey().startsWith(COMPONENTS_PROVIDER_PREFIX)) {
+                continue;
+            }
+            assertArrayEquals(e.getValue(), actual.get(e.getKey()), e.getKey());
+        }
+    }
+
+    private static Map<String, byte[]> build(Path cacheDir, AnnotationTransformation transformation)
+            throws Exception {
+        resetFunctionCounters();
+        Index index = Index.of(Alpha.class, Bravo.class, Charlie.class, Logged.class, LoggingInterceptor.class);
+        Map<String, byte[]> resources = new TreeMap<>();
+        BeanProcessor.Builder builder = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(BeanArchives.buildImmutableBeanArchiveIndex(index))
+                .setGeneratedResourcesCache(cacheDir)
+                .setOutput(new ResourceOutput() {
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        resources.put(resource.getName(), resource.getData());
+                    }
+                });
+        if (transformation != null) {
+            builder.addAnnotationTransformation(transformation);
+        }
+        builder.build().process();
+        return resources;
+    }
+
+    // Gizmo numbers the generated functions per JVM; reset the counters so that the builds are comparable
+    private static void resetFunctionCounters() throws ReflectiveOperationException {
+        Field counters = Class.forName("io.quarkus.gizmo.BytecodeCreatorImpl").getDeclaredField("functionCountersByClass");
+        counters.setAccessible(true);
+        ((Map<?, ?>) counters.get(null)).clear();
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @InterceptorBinding
+    @interface Logged {
+
+        String value() default "";
+
+    }
+
+    @Logged("foo")
+    @Priority(1)
+    @Interceptor
+    static class LoggingInterceptor {
+
+        @AroundInvoke
+        Object log(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Singleton
+    static class Alpha {
+
+        @Inject
+        Bravo bravo;
+
+        String hello() {
+            return "hello";
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Bravo {
+
+        @Logged("foo")
+        String ping() {
+            return "pong";
+        }
+
+    }
+
+    @Singleton
+    static class Charlie {
+
+        void onString(@Observes String event, Alpha alpha) {
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.processor.BeanDeploymentValidator.ValidationContext;
+import io.quarkus.arc.processor.BeanRegistrar.RegistrationContext;
+
+public class ParallelBeanDeploymentTest {
+
+    @Test
+    public void testErrorsOrder() throws IOException {
+        Index index = Index.of(Alpha.class, Bravo.class, Charlie.class, Delta.class, Echo.class, Missing.class,
+                Object.class);
+        List<String> expected = initializationErrors(index, null);
+        assertEquals(4, expected.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(expected, initializationErrors(index, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidDeployment() throws IOException {
+        Index index = Index.of(Alpha.class, Echo.class, Object.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BeanProcessor processor = register(index);
+            List<BytecodeTransformer> transformers = new ArrayList<>();
+            processor.initialize(transformers::add, Collections.emptyList(), executor);
+            ValidationContext validationContext = processor.validate(transformers::add, executor);
+            assertTrue(validationContext.getDeploymentProblems().isEmpty());
+            InjectionPointInfo injectionPoint = processor.getBeanDeployment().getBeans().stream()
+                    .filter(b -> b.getBeanClass().equals(Basics.name(Alpha.class)))
+                    .findFirst().get().getAllInjectionPoints().get(0);
+            assertEquals(Basics.name(Echo.class), injectionPoint.getResolvedBean().getBeanClass());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> initializationErrors(Index index, ExecutorService executor) {
+        BeanProcessor processor = register(index);
+        DeploymentException e = assertThrows(DeploymentException.class,
+                () -> processor.initialize(t -> {
+                }, Collections.emptyList(), executor));
+        List<String> errors = new ArrayList<>();
+        for (Throwable suppressed : e.getSuppressed()) {
+            errors.add(suppressed.getMessage());
+        }
+        return errors;
+    }
+
+    private BeanProcessor register(Index index) {
+        BeanProcessor processor = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(BeanArchives.buildImmutableBeanArchiveIndex(index)).build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        RegistrationContext registrationContext = processor.registerBeans();
+        processor.registerSyntheticInjectionPoints(registrationContext);
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        return processor;
+    }
+
+    interface Missing {
+    }
+
+    @Singleton
+    static class Alpha {
+
+        @Inject
+        Echo echo;
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+        @Inject
+        Missing missing;
+
+    }
+
+    @ApplicationScoped
+    static class Charlie {
+
+        @Inject
+        Missing missing1;
+
+        @Inject
+        Missing missing2;
+
+    }
+
+    @Dependent
+    static class Delta {
+
+        @Inject
+        Missing missing;
+
+    }
+
+    @Dependent
+    static class Echo {
+
+    }
+
+}
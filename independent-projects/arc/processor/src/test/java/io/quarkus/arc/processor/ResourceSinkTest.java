@@ -0,0 +1,193 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.processor.BeanRegistrar.RegistrationContext;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+
+public class ResourceSinkTest {
+
+    @Test
+    public void testRetainedResources() throws Exception {
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        List<Resource> resources = generate(output(written, false), true, null);
+        assertFalse(resources.isEmpty());
+        assertEquals(written, names(resources));
+    }
+
+    @Test
+    public void testStreamedResources() throws Exception {
+        Set<String> expected = ConcurrentHashMap.newKeySet();
+        generate(output(expected, false), true, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (boolean threadSafe : new boolean[] { true, false }) {
+                Set<String> written = ConcurrentHashMap.newKeySet();
+                assertTrue(generate(output(written, threadSafe), false, executor).isEmpty());
+                assertEquals(expected, written);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (boolean threadSafe : new boolean[] { true, false }) {
+                List<String> written = new CopyOnWriteArrayList<>();
+                ResourceSink sink = new ResourceSink(output(written, threadSafe), true);
+                CountDownLatch release = new CountDownLatch(1);
+                Queue<Future<?>> children = new ConcurrentLinkedQueue<>();
+                List<Future<?>> tasks = new ArrayList<>();
+                tasks.add(sink.submit(executor, () -> {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return List.of(resource("alpha"));
+                }));
+                tasks.add(sink.submit(executor, () -> {
+                    children.add(sink.submit(executor, () -> List.of(resource("charlie"))));
+                    children.add(sink.submit(executor, () -> List.of(resource("delta"))));
+                    return List.of(resource("bravo"));
+                }));
+                tasks.add(sink.submit(executor, () -> List.of(resource("echo"))));
+                tasks.get(1).get(5, TimeUnit.SECONDS);
+                tasks.get(2).get(5, TimeUnit.SECONDS);
+                if (threadSafe) {
+                    // written as soon as the task completes
+                    assertTrue(written.containsAll(List.of("bravo", "echo")));
+                } else {
+                    // written once the preceding tasks complete
+                    assertTrue(written.isEmpty());
+                }
+                release.countDown();
+                sink.await(tasks);
+                sink.await(children);
+
+                List<String> expected = List.of("alpha", "bravo", "charlie", "delta", "echo");
+                assertEquals(expected, sink.getResources().stream().map(Resource::getName).collect(Collectors.toList()));
+                if (threadSafe) {
+                    assertEquals(new TreeSet<>(expected), new TreeSet<>(written));
+                } else {
+                    assertEquals(expected, written);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> written = new CopyOnWriteArrayList<>();
+            ResourceSink sink = new ResourceSink(output(written, false), false);
+            List<Future<?>> tasks = new ArrayList<>();
+            tasks.add(sink.submit(executor, () -> {
+                throw new IllegalStateException();
+            }));
+            tasks.add(sink.submit(executor, () -> List.of(resource("bravo"))));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> sink.await(tasks));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            // the remaining tasks are cancelled
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            // the resources following the failed task are never written
+            assertTrue(written.isEmpty());
+            sink.write(resource("charlie"));
+            assertTrue(written.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Resource resource(String name) {
+        return ResourceImpl.javaClass(name, new byte[0], null, true, null);
+    }
+
+    private static Set<String> names(List<Resource> resources) {
+        return resources.stream().map(Resource::getName).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static ResourceOutput output(Collection<String> written, boolean threadSafe) {
+        return new ResourceOutput() {
+
+            @Override
+            public void writeResource(Resource resource) throws IOException {
+                written.add(resource.getName());
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return threadSafe;
+            }
+        };
+    }
+
+    private static List<Resource> generate(ResourceOutput output, boolean retain, ExecutorService executor)
+            throws Exception {
+        Index index = Index.of(Alpha.class, Bravo.class);
+        BeanProcessor processor = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(BeanArchives.buildImmutableBeanArchiveIndex(index))
+                .setOutput(output)
+                .setRetainGeneratedResources(retain)
+                .build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        RegistrationContext registrationContext = processor.registerBeans();
+        processor.registerSyntheticInjectionPoints(registrationContext);
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        processor.initialize(t -> {
+        }, Collections.emptyList());
+        processor.processValidationErrors(processor.validate(t -> {
+        }));
+        return processor.generateResources(ReflectionRegistration.NOOP, new TreeSet<>(), t -> {
+        }, false, executor);
+    }
+
+    @Singleton
+    static class Alpha {
+
+        @Inject
+        Bravo bravo;
+
+    }
+
+    @ApplicationScoped
+    static class Bravo {
+
+    }
+
+}
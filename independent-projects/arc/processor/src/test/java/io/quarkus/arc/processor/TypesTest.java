@@ -106,6 +106,42 @@ public class TypesTest {
         assertContainsType(Object.class, rawBeanTypes);
     }
 
+    @Test
+    public void testCachedTypeClosure() throws IOException {
+        IndexView index = Index.of(Foo.class, Baz.class, Qux.class, Producer.class, Object.class, List.class,
+                Collection.class, Iterable.class, Set.class);
+        BeanDeployment dummyDeployment = BeanProcessor.builder().setImmutableBeanArchiveIndex(index).build()
+                .getBeanDeployment();
+        ClassInfo fooClass = index.getClassByName(Foo.class);
+
+        // Both Baz and Qux extend Foo<String>
+        Set<Type> bazTypes = Types.getClassBeanTypeClosure(index.getClassByName(Baz.class), dummyDeployment).types();
+        Set<Type> quxTypes = Types.getClassBeanTypeClosure(index.getClassByName(Qux.class), dummyDeployment).types();
+        assertEquals(3, bazTypes.size());
+        assertEquals(3, quxTypes.size());
+        Type fooString = ParameterizedType.create(Foo.class, Type.create(String.class));
+        assertTrue(bazTypes.contains(fooString));
+        assertTrue(quxTypes.contains(fooString));
+
+        // The returned closure can be modified
+        bazTypes.clear();
+        assertEquals(3, Types.getClassBeanTypeClosure(index.getClassByName(Baz.class), dummyDeployment).types().size());
+
+        // Resolved type variables are replayed for a cached closure
+        for (int i = 0; i < 2; i++) {
+            Map<ClassInfo, Map<String, Type>> resolvedTypeVariables = Types
+                    .resolvedTypeVariables(index.getClassByName(Qux.class), dummyDeployment);
+            assertEquals(1, resolvedTypeVariables.size());
+            assertEquals(Type.create(String.class), resolvedTypeVariables.get(fooClass).get("T"));
+        }
+
+        // The closure of List<? extends Number> is cached but the producer is still validated
+        ClassInfo producerClass = index.getClassByName(Producer.class);
+        Types.getTypeClosureFromJandexType(producerClass.method("produce").returnType(), dummyDeployment);
+        assertThrows(DefinitionException.class,
+                () -> Types.getProducerMethodTypeClosure(producerClass.method("produce"), dummyDeployment));
+    }
+
     private void verifyEagleTypes(Set<Type> types) {
         for (Type type : types) {
             if (type.kind().equals(Kind.PARAMETERIZED_TYPE)) {
@@ -129,6 +165,10 @@ public class TypesTest {
 
     }
 
+    static class Qux extends Foo<String> {
+
+    }
+
     static class Producer<T> {
 
         public List<? extends Number> produce() {
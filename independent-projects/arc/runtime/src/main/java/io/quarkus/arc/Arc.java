@@ -2,6 +2,8 @@ package io.quarkus.arc;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.quarkus.arc.impl.ArcContainerImpl;
 
@@ -11,6 +13,8 @@ import io.quarkus.arc.impl.ArcContainerImpl;
 public final class Arc {
 
     private static final AtomicReference<ArcContainerImpl> INSTANCE = new AtomicReference<>();
+    // a ReentrantLock does not pin a virtual thread to its carrier thread
+    private static final Lock LOCK = new ReentrantLock();
 
     /**
      * Initializes {@link ArcContainer} with default settings.
@@ -31,14 +35,17 @@ public final class Arc {
     public static ArcContainer initialize(ArcInitConfig config) {
         ArcContainerImpl container = INSTANCE.get();
         if (container == null) {
-            synchronized (INSTANCE) {
+            LOCK.lock();
+            try {
                 container = INSTANCE.get();
                 if (container == null) {
                     // Set the container instance first because Arc.container() can be used within ArcContainerImpl.init()
-                    container = new ArcContainerImpl(config.getCurrentContextFactory(), config.isStrictCompatibility());
+                    container = new ArcContainerImpl(config);
                     INSTANCE.set(container);
                     container.init();
                 }
+            } finally {
+                LOCK.unlock();
             }
         }
         return container;
@@ -59,12 +66,15 @@ public final class Arc {
     public static void shutdown() {
         ArcContainerImpl container = INSTANCE.get();
         if (container != null) {
-            synchronized (INSTANCE) {
+            LOCK.lock();
+            try {
                 container = INSTANCE.get();
                 if (container != null) {
                     container.shutdown();
                     INSTANCE.set(null);
                 }
+            } finally {
+                LOCK.unlock();
             }
         }
     }
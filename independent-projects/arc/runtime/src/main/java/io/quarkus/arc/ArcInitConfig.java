@@ -1,5 +1,7 @@
 package io.quarkus.arc;
 
+import java.util.Objects;
+
 /**
  * A configuration object used while initializing Arc, see {@link Arc#initialize()} methods.
  * Consolidates all configuration objects needed for Arc to initialize, values are initialized to their defaults.
@@ -24,10 +26,30 @@ public final class ArcInitConfig {
     private ArcInitConfig(Builder builder) {
         this.currentContextFactory = builder.currentContextFactory;
         this.strictCompatibility = builder.strictCompatibility;
+        this.resolutionCacheMaxSize = builder.resolutionCacheMaxSize;
+        this.resolutionCacheEvictionPolicy = builder.resolutionCacheEvictionPolicy;
+        this.observerResolutionCacheMaxSize = builder.observerResolutionCacheMaxSize;
+        this.observerResolutionCacheEvictionPolicy = builder.observerResolutionCacheEvictionPolicy;
+        this.priorityCacheMaxSize = builder.priorityCacheMaxSize;
+        this.priorityCacheEvictionPolicy = builder.priorityCacheEvictionPolicy;
+        this.parallelAsyncObservers = builder.parallelAsyncObservers;
+        this.requestContextInstancesPoolSize = builder.requestContextInstancesPoolSize;
+        this.dependentInstancesWarningThreshold = builder.dependentInstancesWarningThreshold;
+        this.trackOnlyDestroyableDependentInstances = builder.trackOnlyDestroyableDependentInstances;
     }
 
     private final boolean strictCompatibility;
     private final CurrentContextFactory currentContextFactory;
+    private final int resolutionCacheMaxSize;
+    private final CacheEvictionPolicy resolutionCacheEvictionPolicy;
+    private final int observerResolutionCacheMaxSize;
+    private final CacheEvictionPolicy observerResolutionCacheEvictionPolicy;
+    private final int priorityCacheMaxSize;
+    private final CacheEvictionPolicy priorityCacheEvictionPolicy;
+    private final boolean parallelAsyncObservers;
+    private final int requestContextInstancesPoolSize;
+    private final int dependentInstancesWarningThreshold;
+    private final boolean trackOnlyDestroyableDependentInstances;
 
     public boolean isStrictCompatibility() {
         return strictCompatibility;
@@ -37,14 +59,107 @@ public final class ArcInitConfig {
         return currentContextFactory;
     }
 
+    /**
+     *
+     * @return the maximum number of entries in the cache of typesafe resolution results; a value lower than 1 means
+     *         unbounded
+     */
+    public int getResolutionCacheMaxSize() {
+        return resolutionCacheMaxSize;
+    }
+
+    public CacheEvictionPolicy getResolutionCacheEvictionPolicy() {
+        return resolutionCacheEvictionPolicy;
+    }
+
+    /**
+     *
+     * @return the maximum number of entries in the cache of observer resolution results; a value lower than 1 means
+     *         unbounded
+     */
+    public int getObserverResolutionCacheMaxSize() {
+        return observerResolutionCacheMaxSize;
+    }
+
+    public CacheEvictionPolicy getObserverResolutionCacheEvictionPolicy() {
+        return observerResolutionCacheEvictionPolicy;
+    }
+
+    /**
+     *
+     * @return the maximum number of entries in the cache of resolved beans ordered by priority; a value lower than 1 means
+     *         unbounded
+     */
+    public int getPriorityCacheMaxSize() {
+        return priorityCacheMaxSize;
+    }
+
+    public CacheEvictionPolicy getPriorityCacheEvictionPolicy() {
+        return priorityCacheEvictionPolicy;
+    }
+
+    /**
+     *
+     * @return {@code true} if async observer methods should be notified in parallel by default
+     * @see ArcNotificationOptions#PARALLEL_ASYNC_OBSERVERS
+     */
+    public boolean isParallelAsyncObservers() {
+        return parallelAsyncObservers;
+    }
+
+    /**
+     *
+     * @return the maximum number of pooled request context instances; a value lower than 1 means that pooling is disabled
+     */
+    public int getRequestContextInstancesPoolSize() {
+        return requestContextInstancesPoolSize;
+    }
+
+    /**
+     *
+     * @return the number of dependent instances of a single creational context that triggers a warning; a value lower than
+     *         1 means that no warning is logged
+     */
+    public int getDependentInstancesWarningThreshold() {
+        return dependentInstancesWarningThreshold;
+    }
+
+    /**
+     *
+     * @return {@code true} if only dependent instances that need to be destroyed should be tracked
+     */
+    public boolean isTrackOnlyDestroyableDependentInstances() {
+        return trackOnlyDestroyableDependentInstances;
+    }
+
     public static class Builder {
         private boolean strictCompatibility;
         private CurrentContextFactory currentContextFactory;
+        private int resolutionCacheMaxSize;
+        private CacheEvictionPolicy resolutionCacheEvictionPolicy;
+        private int observerResolutionCacheMaxSize;
+        private CacheEvictionPolicy observerResolutionCacheEvictionPolicy;
+        private int priorityCacheMaxSize;
+        private CacheEvictionPolicy priorityCacheEvictionPolicy;
+        private boolean parallelAsyncObservers;
+        private int requestContextInstancesPoolSize;
+        private int dependentInstancesWarningThreshold;
+        private boolean trackOnlyDestroyableDependentInstances;
 
         private Builder() {
             // init all values with their defaults
             this.strictCompatibility = false;
             this.currentContextFactory = null;
+            this.resolutionCacheMaxSize = 0;
+            this.resolutionCacheEvictionPolicy = CacheEvictionPolicy.LRU;
+            this.observerResolutionCacheMaxSize = 0;
+            this.observerResolutionCacheEvictionPolicy = CacheEvictionPolicy.LRU;
+            this.priorityCacheMaxSize = 0;
+            this.priorityCacheEvictionPolicy = CacheEvictionPolicy.LRU;
+            this.parallelAsyncObservers = false;
+            this.requestContextInstancesPoolSize = 0;
+            this.dependentInstancesWarningThreshold = 0;
+            this.trackOnlyDestroyableDependentInstances = false;
         }
 
         public Builder setStrictCompatibility(boolean strictCompatibility) {
@@ -57,6 +172,143 @@ public final class ArcInitConfig {
             return this;
         }
 
+        /**
+         * The results of typesafe resolution performed at runtime, e.g. via
+         * {@link ArcContainer#instance(Class, java.lang.annotation.Annotation...)}
+         * or {@link jakarta.enterprise.inject.Instance#select(java.lang.annotation.Annotation...)}, are cached. By
+         * default, the cache is unbounded. A bounded cache should be used if the required types are constructed
+         * dynamically.
+         * <p>
+         * This setting only applies to the cache of typesafe resolution results. The cache of observer resolution results
+         * and the cache of resolved beans ordered by priority are configured separately.
+         *
+         * @param resolutionCacheMaxSize the maximum number of entries; a value lower than 1 means unbounded
+         * @return self
+         */
+        public Builder setResolutionCacheMaxSize(int resolutionCacheMaxSize) {
+            this.resolutionCacheMaxSize = resolutionCacheMaxSize;
+            return this;
+        }
+
+        /**
+         * The eviction policy is only used if the resolution cache is bounded.
+         *
+         * @param resolutionCacheEvictionPolicy
+         * @return self
+         * @see #setResolutionCacheMaxSize(int)
+         */
+        public Builder setResolutionCacheEvictionPolicy(CacheEvictionPolicy resolutionCacheEvictionPolicy) {
+            this.resolutionCacheEvictionPolicy = Objects.requireNonNull(resolutionCacheEvictionPolicy);
+            return this;
+        }
+
+        /**
+         * The results of observer resolution performed at runtime, e.g. via
+         * {@link jakarta.enterprise.event.Event#fire(Object)},
+         * are cached. By default, the cache is unbounded. A bounded cache should be used if the event types or qualifiers
+         * are constructed dynamically.
+         *
+         * @param observerResolutionCacheMaxSize the maximum number of entries; a value lower than 1 means unbounded
+         * @return self
+         */
+        public Builder setObserverResolutionCacheMaxSize(int observerResolutionCacheMaxSize) {
+            this.observerResolutionCacheMaxSize = observerResolutionCacheMaxSize;
+            return this;
+        }
+
+        /**
+         * The eviction policy is only used if the observer resolution cache is bounded.
+         *
+         * @param observerResolutionCacheEvictionPolicy
+         * @return self
+         * @see #setObserverResolutionCacheMaxSize(int)
+         */
+        public Builder setObserverResolutionCacheEvictionPolicy(CacheEvictionPolicy observerResolutionCacheEvictionPolicy) {
+            this.observerResolutionCacheEvictionPolicy = Objects.requireNonNull(observerResolutionCacheEvictionPolicy);
+            return this;
+        }
+
+        /**
+         * The resolved beans ordered by priority, e.g. for {@link jakarta.enterprise.inject.Instance#iterator()}, are cached
+         * per required type and qualifiers. By default, the cache is unbounded.
+         *
+         * @param priorityCacheMaxSize the maximum number of entries; a value lower than 1 means unbounded
+         * @return self
+         */
+        public Builder setPriorityCacheMaxSize(int priorityCacheMaxSize) {
+            this.priorityCacheMaxSize = priorityCacheMaxSize;
+            return this;
+        }
+
+        /**
+         * The eviction policy is only used if the priority cache is bounded.
+         *
+         * @param priorityCacheEvictionPolicy
+         * @return self
+         * @see #setPriorityCacheMaxSize(int)
+         */
+        public Builder setPriorityCacheEvictionPolicy(CacheEvictionPolicy priorityCacheEvictionPolicy) {
+            this.priorityCacheEvictionPolicy = Objects.requireNonNull(priorityCacheEvictionPolicy);
+            return this;
+        }
+
+        /**
+         * By default, async observer methods are notified serially. This default can be overridden per event with
+         * {@link ArcNotificationOptions#PARALLEL_ASYNC_OBSERVERS}.
+         *
+         * @param parallelAsyncObservers
+         * @return self
+         */
+        public Builder setParallelAsyncObservers(boolean parallelAsyncObservers) {
+            this.parallelAsyncObservers = parallelAsyncObservers;
+            return this;
+        }
+
+        /**
+         * By default, a new container for request-scoped instances is created whenever the request context is activated.
+         * If pooling is enabled then the container is reused after the request context is destroyed and the destroyed
+         * {@link InjectableContext.ContextState} is deactivated on all threads. Note that a destroyed state never holds a
+         * reference to a pooled container. A state that is activated and not deactivated never returns its container to
+         * the pool.
+         *
+         * @param requestContextInstancesPoolSize the maximum number of pooled containers; a value lower than 1 means that
+         *        pooling is disabled
+         * @return self
+         */
+        public Builder setRequestContextInstancesPoolSize(int requestContextInstancesPoolSize) {
+            this.requestContextInstancesPoolSize = requestContextInstancesPoolSize;
+            return this;
+        }
+
+        /**
+         * Dependent instances are stored in the creational context of the bean they belong to and destroyed together with
+         * the bean. A long-lived bean that obtains {@code @Dependent} beans via {@link jakarta.enterprise.inject.Instance}
+         * and never destroys them accumulates dependent instances. If a threshold is set then a warning is logged when a
+         * single creational context holds the given number of dependent instances, and again every time the number
+         * doubles.
+         *
+         * @param dependentInstancesWarningThreshold the threshold; a value lower than 1 means that no warning is logged
+         * @return self
+         */
+        public Builder setDependentInstancesWarningThreshold(int dependentInstancesWarningThreshold) {
+            this.dependentInstancesWarningThreshold = dependentInstancesWarningThreshold;
+            return this;
+        }
+
+        /**
+         * By default, all dependent instances obtained from the {@code @Dependent} context are stored in the creational
+         * context. If set to {@code true} then a dependent instance is only stored if its bean
+         * {@linkplain InjectableBean#hasDestroyLogic() has destroy logic} or once the instance has dependent instances of
+         * its own, e.g. a {@code @Dependent} bean obtained later via {@link jakarta.enterprise.inject.Instance#get()}.
+         *
+         * @param trackOnlyDestroyableDependentInstances
+         * @return self
+         */
+        public Builder setTrackOnlyDestroyableDependentInstances(boolean trackOnlyDestroyableDependentInstances) {
+            this.trackOnlyDestroyableDependentInstances = trackOnlyDestroyableDependentInstances;
+            return this;
+        }
+
         public ArcInitConfig build() {
             return new ArcInitConfig(this);
         }
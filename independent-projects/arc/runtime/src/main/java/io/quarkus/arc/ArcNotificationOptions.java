@@ -0,0 +1,46 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Executor;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+
+/**
+ * Custom {@link NotificationOptions} supported by the container.
+ *
+ * @see Event#fireAsync(Object, NotificationOptions)
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * If set to {@code true} (either a {@link Boolean} or a {@link String} value) then async observer methods are notified
+     * in parallel, i.e. each observer method is notified in a separate task submitted to the executor. If set to
+     * {@code false} then async observer methods are notified serially. If not set then the global default is used.
+     * <p>
+     * Note that the priority of observer methods is not respected if notified in parallel.
+     *
+     * @see ArcInitConfig#isParallelAsyncObservers()
+     */
+    public static final String PARALLEL_ASYNC_OBSERVERS = "io.quarkus.arc.parallelAsyncObservers";
+
+    /**
+     *
+     * @return the options used to notify async observer methods in parallel
+     */
+    public static NotificationOptions parallel() {
+        return NotificationOptions.builder().set(PARALLEL_ASYNC_OBSERVERS, true).build();
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options used to notify async observer methods in parallel, using the specified executor
+     */
+    public static NotificationOptions parallel(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(PARALLEL_ASYNC_OBSERVERS, true).build();
+    }
+
+    private ArcNotificationOptions() {
+    }
+
+}
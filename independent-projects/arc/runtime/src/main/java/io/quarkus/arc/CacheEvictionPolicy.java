@@ -0,0 +1,21 @@
+package io.quarkus.arc;
+
+/**
+ * Eviction policy of a bounded container cache.
+ *
+ * @see ArcInitConfig.Builder#setResolutionCacheMaxSize(int)
+ */
+public enum CacheEvictionPolicy {
+
+    /**
+     * The oldest entry is evicted first.
+     */
+    FIFO,
+
+    /**
+     * The least recently used entry is evicted first. The recency is approximated; an entry that was accessed since the
+     * last eviction attempt is given a second chance.
+     */
+    LRU,
+
+}
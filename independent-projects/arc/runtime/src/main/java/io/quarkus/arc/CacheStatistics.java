@@ -0,0 +1,13 @@
+package io.quarkus.arc;
+
+/**
+ * A snapshot of the statistics of a container cache.
+ *
+ * @param hits the number of lookups that found an existing entry
+ * @param misses the number of lookups that had to compute a new entry
+ * @param evictions the number of entries removed because the cache exceeded its maximum size
+ * @param size the current number of entries
+ */
+public record CacheStatistics(long hits, long misses, long evictions, int size) {
+
+}
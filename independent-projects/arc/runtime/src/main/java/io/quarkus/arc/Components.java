@@ -2,11 +2,14 @@ package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.impl.ContextInstances;
+import io.quarkus.arc.impl.ObserverDispatchTable;
+import io.quarkus.arc.impl.QualifierMatcher;
 
 public final class Components {
 
@@ -19,6 +22,8 @@ public final class Components {
     private final Map<String, Set<String>> qualifierNonbindingMembers;
     private final Set<String> qualifiers;
     private final Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances;
+    private final Map<String, QualifierMatcher> qualifierMatchers;
+    private final Map<String, int[]> observerIndex;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
@@ -27,6 +32,30 @@ public final class Components {
             Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
             Set<String> qualifiers,
             Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances) {
+        this(beans, observers, contexts, interceptorBindings, transitiveInterceptorBindings, removedBeans,
+                qualifierNonbindingMembers, qualifiers, contextInstances, Collections.emptyMap());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Set<String> interceptorBindings,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers,
+            Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances,
+            Map<String, QualifierMatcher> qualifierMatchers) {
+        this(beans, observers, contexts, interceptorBindings, transitiveInterceptorBindings, removedBeans,
+                qualifierNonbindingMembers, qualifiers, contextInstances, qualifierMatchers, null);
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Set<String> interceptorBindings,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Supplier<Collection<RemovedBean>> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            Set<String> qualifiers,
+            Map<Class<? extends Annotation>, Supplier<ContextInstances>> contextInstances,
+            Map<String, QualifierMatcher> qualifierMatchers, Map<String, int[]> observerIndex) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
@@ -36,6 +65,8 @@ public final class Components {
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
         this.qualifiers = qualifiers;
         this.contextInstances = contextInstances;
+        this.qualifierMatchers = qualifierMatchers;
+        this.observerIndex = observerIndex;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -84,4 +115,25 @@ public final class Components {
         return contextInstances;
     }
 
+    /**
+     * Values in the map are never null.
+     *
+     * @return a map of fully-qualified class names of qualifiers to the matchers generated at build time
+     * @see QualifierMatcher
+     */
+    public Map<String, QualifierMatcher> getQualifierMatchers() {
+        return qualifierMatchers;
+    }
+
+    /**
+     * The positions are relative to the collection returned by {@link #getObservers()}.
+     *
+     * @return a map of fully-qualified names of raw observed types to the positions of observer methods, or {@code null}
+     *         if no index was generated
+     * @see ObserverDispatchTable
+     */
+    public Map<String, int[]> getObserverIndex() {
+        return observerIndex;
+    }
+
 }
@@ -30,6 +30,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
      */
     String getIdentifier();
 
+    /**
+     * The index is generated by the container and is dense and unique for a specific deployment. It can be used to select a
+     * slot in a data structure without computing the hash code of the {@linkplain #getIdentifier() identifier}.
+     *
+     * @return the index for this bean, or {@code -1} if no index was assigned, e.g. for built-in beans
+     */
+    default int getIndex() {
+        return -1;
+    }
+
     /**
      *
      * @return the kind of the bean
@@ -129,6 +139,27 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * If a bean is not suppressible then {@link #isSuppressed()} always returns {@code false} and the container does not need
+     * to call the method during programmatic lookup.
+     *
+     * @return {@code true} if the bean may be suppressed
+     */
+    default boolean isSuppressible() {
+        return true;
+    }
+
+    /**
+     * A bean has destroy logic if {@link #destroy(Object, CreationalContext)} does more than
+     * release the dependent objects, e.g. a class bean with a {@code @PreDestroy} callback or a producer with a disposer
+     * method.
+     *
+     * @return {@code true} if the bean may have destroy logic
+     */
+    default boolean hasDestroyLogic() {
+        return true;
+    }
+
     /**
      * Returns whether this bean has an explicitly assigned priority. This is typically
      * done using the {@link jakarta.annotation.Priority @Priority} annotation.
@@ -18,6 +18,11 @@ import jakarta.interceptor.InterceptorBinding;
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
  * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * Business methods that declare a {@link #group()} use a separate lock per group instead.
+ * <p>
+ * By default, the lock is only held during the invocation of a business method, even if the method returns
+ * {@code Uni}, {@code Multi} or {@link java.util.concurrent.CompletionStage}. See {@link #async()} for a lock that is held
+ * until the async computation terminates.
  */
 @InterceptorBinding
 @Inherited
@@ -48,11 +53,54 @@ public @interface Lock {
     @Nonbinding
     TimeUnit unit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * Business methods of a bean instance that declare the same group share a lock that is independent from the locks of
+     * other groups. This way, methods that access disjoint state do not block each other.
+     * <p>
+     * By default, all business methods of a bean instance share a single lock.
+     *
+     * @return the name of the lock group
+     */
+    @Nonbinding
+    String group() default "";
+
+    /**
+     * If set to {@code true} and the business method returns {@code Uni}, {@code Multi} or
+     * {@link java.util.concurrent.CompletionStage} then the lock is held until the async computation terminates. The lock is
+     * acquired without blocking the calling thread when the returned object is subscribed to (or when the method is invoked
+     * in case of {@code CompletionStage}). The business method is invoked once the lock is acquired, possibly on the thread
+     * that released the lock previously.
+     * <p>
+     * Such methods use a non-blocking lock that is shared by all async methods in the given group. The invocation of the
+     * business method itself is also guarded by the lock used for the other methods of the group. However, a method that
+     * does not return a reactive type may be invoked while the async computation of another method is in progress. An
+     * async method invoked during the invocation of another locked method of the same group does not acquire the
+     * non-blocking lock again. Otherwise, the non-blocking lock is not reentrant, i.e. an async method that subscribes to
+     * another async method of the same group in a later stage of its computation waits for its own lock. It's recommended
+     * to specify the {@link #time()} for such methods. {@link Type#OPTIMISTIC_READ} is treated as {@link Type#READ}.
+     *
+     * @return {@code true} if the lock should be held until the async computation terminates
+     */
+    @Nonbinding
+    boolean async() default false;
+
     public enum Type {
         /**
          * Acquires the read lock before the business method is invoked.
          */
         READ,
+        /**
+         * Invokes the business method without acquiring a lock. If the write lock was acquired in the meantime then the
+         * business method is invoked again with the read lock. Unlike {@link #READ}, concurrent readers do not contend on
+         * a shared lock counter.
+         * <p>
+         * The business method may be invoked more than once, and it may observe an inconsistent state during an
+         * invocation whose result is discarded. Therefore, this type is only suitable for methods that read state and have
+         * no side effects.
+         *
+         * @see java.util.concurrent.locks.StampedLock#tryOptimisticRead()
+         */
+        OPTIMISTIC_READ,
         /**
          * Acquires the write (exclusive) lock before the business method is invoked.
          */
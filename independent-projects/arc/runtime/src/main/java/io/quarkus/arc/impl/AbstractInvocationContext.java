@@ -4,12 +4,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import io.quarkus.arc.ArcInvocationContext;
 
@@ -32,27 +30,19 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
         return contextData;
     }
 
-    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
+        return InterceptorBindingSet.find(getInterceptorBindings(), annotationType);
+    }
+
     @Override
     public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
-        for (Annotation annotation : getInterceptorBindings()) {
-            if (annotation.annotationType().equals(annotationType)) {
-                return (T) annotation;
-            }
-        }
-        return null;
+        return InterceptorBindingSet.find(getInterceptorBindings(), annotationType);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType) {
-        List<T> found = new ArrayList<>();
-        for (Annotation annotation : (Set<Annotation>) getInterceptorBindings()) {
-            if (annotation.annotationType().equals(annotationType)) {
-                found.add((T) annotation);
-            }
-        }
-        return found;
+        return InterceptorBindingSet.findAll(getInterceptorBindings(), annotationType);
     }
 
     static void validateParameters(Executable executable, Object[] params) {
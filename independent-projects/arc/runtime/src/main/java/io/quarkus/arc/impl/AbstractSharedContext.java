@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -14,6 +16,8 @@ import io.quarkus.arc.InjectableContext;
 abstract class AbstractSharedContext implements InjectableContext, InjectableContext.ContextState {
 
     protected final ContextInstances instances;
+    // a ReentrantLock does not pin a virtual thread to its carrier thread
+    private final Lock destroyLock = new ReentrantLock();
 
     public AbstractSharedContext() {
         this(new ComputingCacheContextInstances());
@@ -32,7 +36,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        return (T) instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+        return (T) instances.computeIfAbsent(bean, new Supplier<ContextInstanceHandle<?>>() {
             @Override
             public ContextInstanceHandle<?> get() {
                 return createInstanceHandle(bean, creationalContext);
@@ -48,7 +52,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        ContextInstanceHandle<?> handle = instances.getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = instances.getIfPresent(bean);
         return handle != null ? (T) handle.get() : null;
     }
 
@@ -76,32 +80,37 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
     @Override
     public void destroy(Contextual<?> contextual) {
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = instances.remove(bean);
         if (handle != null) {
             handle.destroy();
         }
     }
 
     @Override
-    public synchronized void destroy() {
-        // Note that shared contexts are usually only destroyed when the app stops
-        // I.e. we don't need to use the optimized ContextInstances methods here
-        Set<ContextInstanceHandle<?>> values = instances.getAllPresent();
-        if (values.isEmpty()) {
-            return;
-        }
-        // Destroy the producers first
-        for (Iterator<ContextInstanceHandle<?>> it = values.iterator(); it.hasNext();) {
-            ContextInstanceHandle<?> instanceHandle = it.next();
-            if (instanceHandle.getBean().getDeclaringBean() != null) {
+    public void destroy() {
+        destroyLock.lock();
+        try {
+            // Note that shared contexts are usually only destroyed when the app stops
+            // I.e. we don't need to use the optimized ContextInstances methods here
+            Set<ContextInstanceHandle<?>> values = instances.getAllPresent();
+            if (values.isEmpty()) {
+                return;
+            }
+            // Destroy the producers first
+            for (Iterator<ContextInstanceHandle<?>> it = values.iterator(); it.hasNext();) {
+                ContextInstanceHandle<?> instanceHandle = it.next();
+                if (instanceHandle.getBean().getDeclaringBean() != null) {
+                    instanceHandle.destroy();
+                    it.remove();
+                }
+            }
+            for (ContextInstanceHandle<?> instanceHandle : values) {
                 instanceHandle.destroy();
-                it.remove();
             }
+            instances.removeEach(null);
+        } finally {
+            destroyLock.unlock();
         }
-        for (ContextInstanceHandle<?> instanceHandle : values) {
-            instanceHandle.destroy();
-        }
-        instances.removeEach(null);
     }
 
     @Override
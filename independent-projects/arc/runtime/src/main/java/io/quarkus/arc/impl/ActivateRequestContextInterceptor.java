@@ -22,7 +22,7 @@ public class ActivateRequestContextInterceptor {
 
     @AroundInvoke
     Object aroundInvoke(InvocationContext ctx) throws Exception {
-        switch (ReactiveType.valueOf(ctx.getMethod())) {
+        switch (ReactiveType.of(ctx)) {
             case UNI:
                 return invokeUni(ctx);
             case MULTI:
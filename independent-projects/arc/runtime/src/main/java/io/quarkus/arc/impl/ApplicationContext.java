@@ -1,11 +1,23 @@
 package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.Contextual;
+
+import io.quarkus.arc.InjectableBean;
 
 class ApplicationContext extends AbstractSharedContext {
 
+    // bean identifier -> client proxies that cache the contextual instance
+    // a proxy is registered once, when it's created, but it may be discarded at any time and so it's held weakly
+    private final ConcurrentMap<String, List<WeakReference<CachingClientProxy>>> cachingClientProxies = new ConcurrentHashMap<>();
+
     ApplicationContext() {
         super();
     }
@@ -18,4 +30,48 @@ class ApplicationContext extends AbstractSharedContext {
     public Class<? extends Annotation> getScope() {
         return ApplicationScoped.class;
     }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        super.destroy(contextual);
+        List<WeakReference<CachingClientProxy>> proxies = cachingClientProxies
+                .get(((InjectableBean<?>) contextual).getIdentifier());
+        if (proxies != null) {
+            clearCachedDelegates(proxies);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        for (List<WeakReference<CachingClientProxy>> proxies : cachingClientProxies.values()) {
+            clearCachedDelegates(proxies);
+        }
+    }
+
+    void addCachingClientProxy(InjectableBean<?> bean, CachingClientProxy proxy) {
+        List<WeakReference<CachingClientProxy>> proxies = cachingClientProxies.computeIfAbsent(bean.getIdentifier(),
+                k -> new CopyOnWriteArrayList<>());
+        proxies.removeIf(ApplicationContext::isCleared);
+        proxies.add(new WeakReference<>(proxy));
+    }
+
+    private static void clearCachedDelegates(List<WeakReference<CachingClientProxy>> proxies) {
+        boolean prune = false;
+        for (WeakReference<CachingClientProxy> ref : proxies) {
+            CachingClientProxy proxy = ref.get();
+            if (proxy != null) {
+                proxy.arc$clearCachedDelegate();
+            } else {
+                prune = true;
+            }
+        }
+        if (prune) {
+            proxies.removeIf(ApplicationContext::isCleared);
+        }
+    }
+
+    private static boolean isCleared(WeakReference<CachingClientProxy> ref) {
+        return ref.get() == null;
+    }
 }
@@ -6,6 +6,7 @@ import java.lang.StackWalker.StackFrame;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -57,6 +58,8 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.CacheStatistics;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.CurrentContextFactory;
@@ -88,8 +91,11 @@ public class ArcContainerImpl implements ArcContainer {
     private final List<InjectableInterceptor<?>> interceptors;
     private final List<InjectableDecorator<?>> decorators;
     private final List<InjectableObserverMethod<?>> observers;
+    private final ObserverDispatchTable observerDispatchTable;
     private final Contexts contexts;
-    private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    private final BoundedComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    private final BoundedComputingCache<EventResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
+    private final BoundedComputingCache<Resolvable, PrioritizedBeans> resolvedByPriority;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -105,8 +111,23 @@ public class ArcContainerImpl implements ArcContainer {
 
     private final boolean strictMode;
 
+    private final boolean parallelAsyncObservers;
+
+    private final int dependentInstancesWarningThreshold;
+
+    private final boolean trackOnlyDestroyableDependentInstances;
+
     public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean strictMode) {
-        this.strictMode = strictMode;
+        this(ArcInitConfig.builder().setCurrentContextFactory(currentContextFactory).setStrictCompatibility(strictMode)
+                .build());
+    }
+
+    public ArcContainerImpl(ArcInitConfig config) {
+        CurrentContextFactory currentContextFactory = config.getCurrentContextFactory();
+        this.strictMode = config.isStrictCompatibility();
+        this.parallelAsyncObservers = config.isParallelAsyncObservers();
+        this.dependentInstancesWarningThreshold = config.getDependentInstancesWarningThreshold();
+        this.trackOnlyDestroyableDependentInstances = config.isTrackOnlyDestroyableDependentInstances();
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
         running = new AtomicBoolean(true);
         List<InjectableBean<?>> beans = new ArrayList<>();
@@ -115,10 +136,12 @@ public class ArcContainerImpl implements ArcContainer {
         List<InjectableInterceptor<?>> interceptors = new ArrayList<>();
         List<InjectableDecorator<?>> decorators = new ArrayList<>();
         List<InjectableObserverMethod<?>> observers = new ArrayList<>();
+        ObserverDispatchTable.Builder observerDispatchTable = ObserverDispatchTable.builder();
         Set<String> interceptorBindings = new HashSet<>();
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
         Set<String> qualifiers = new HashSet<>();
+        Map<String, QualifierMatcher> qualifierMatchers = new HashMap<>();
         Supplier<ContextInstances> applicationContextInstances = null;
         Supplier<ContextInstances> requestContextInstances = null;
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
@@ -142,10 +165,12 @@ public class ArcContainerImpl implements ArcContainer {
             }
             removedBeans.add(c.getRemovedBeans());
             observers.addAll(c.getObservers());
+            observerDispatchTable.add(c.getObservers(), c.getObserverIndex());
             interceptorBindings.addAll(c.getInterceptorBindings());
             transitiveInterceptorBindings.putAll(c.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(c.getQualifierNonbindingMembers());
             qualifiers.addAll(c.getQualifiers());
+            qualifierMatchers.putAll(c.getQualifierMatchers());
             if (applicationContextInstances == null) {
                 applicationContextInstances = c.getContextInstances().get(ApplicationScoped.class);
             }
@@ -160,7 +185,12 @@ public class ArcContainerImpl implements ArcContainer {
         interceptors.sort(Comparator.comparingInt(InjectableInterceptor::getPriority));
         decorators.sort(Comparator.comparingInt(InjectableDecorator::getPriority));
 
-        resolved = new ComputingCache<>(this::resolve);
+        resolved = new BoundedComputingCache<>(this::resolve, config.getResolutionCacheMaxSize(),
+                config.getResolutionCacheEvictionPolicy());
+        resolvedObservers = new BoundedComputingCache<>(this::resolveObservers, config.getObserverResolutionCacheMaxSize(),
+                config.getObserverResolutionCacheEvictionPolicy());
+        resolvedByPriority = new BoundedComputingCache<>(this::prioritize, config.getPriorityCacheMaxSize(),
+                config.getPriorityCacheEvictionPolicy());
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -186,6 +216,7 @@ public class ArcContainerImpl implements ArcContainer {
         this.interceptors = List.copyOf(interceptors);
         this.decorators = List.copyOf(decorators);
         this.observers = List.copyOf(observers);
+        this.observerDispatchTable = observerDispatchTable.build(this.observers);
         this.removedBeans = new LazyValue<>(new Supplier<List<RemovedBean>>() {
             @Override
             public List<RemovedBean> get() {
@@ -197,7 +228,7 @@ public class ArcContainerImpl implements ArcContainer {
                 return List.copyOf(removed);
             }
         });
-        this.registeredQualifiers = new Qualifiers(qualifiers, qualifierNonbindingMembers);
+        this.registeredQualifiers = new Qualifiers(qualifiers, qualifierNonbindingMembers, qualifierMatchers);
         this.registeredInterceptorBindings = new InterceptorBindings(interceptorBindings, transitiveInterceptorBindings);
 
         ApplicationContext applicationContext = applicationContextInstances != null
@@ -207,7 +238,7 @@ public class ArcContainerImpl implements ArcContainer {
                 notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                requestContextInstances != null ? requestContextInstances : ComputingCacheContextInstances::new);
+                requestContextInstances(requestContextInstances, config.getRequestContextInstancesPoolSize()));
         SessionContext sessionContext = new SessionContext(this.currentContextFactory.create(SessionScoped.class),
                 notifierOrNull(Set.of(Initialized.Literal.SESSION, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.SESSION, Any.Literal.INSTANCE)),
@@ -435,6 +466,18 @@ public class ArcContainerImpl implements ArcContainer {
         return strictMode;
     }
 
+    boolean isParallelAsyncObservers() {
+        return parallelAsyncObservers;
+    }
+
+    int getDependentInstancesWarningThreshold() {
+        return dependentInstancesWarningThreshold;
+    }
+
+    boolean isTrackOnlyDestroyableDependentInstances() {
+        return trackOnlyDestroyableDependentInstances;
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -478,6 +521,8 @@ public class ArcContainerImpl implements ArcContainer {
             // Clear caches
             Reflections.clearCaches();
             resolved.clear();
+            resolvedObservers.clear();
+            resolvedByPriority.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
 
@@ -507,7 +552,8 @@ public class ArcContainerImpl implements ArcContainer {
 
     @Override
     public <T> List<InjectableObserverMethod<? super T>> resolveObserverMethods(Type eventType, Annotation... eventQualifiers) {
-        return resolveObserverMethods(eventType, Set.of(eventQualifiers));
+        // the cached list is immutable, callers may modify the returned list
+        return new ArrayList<>(resolveObserverMethods(eventType, Set.of(eventQualifiers)));
     }
 
     InstanceHandle<Object> getResource(Type type, Set<Annotation> annotations) {
@@ -642,7 +688,9 @@ public class ArcContainerImpl implements ArcContainer {
     }
 
     private Set<InjectableBean<?>> resolve(Resolvable resolvable) {
-        return resolve(getMatchingBeans(resolvable));
+        Set<InjectableBean<?>> resolved = resolve(getMatchingBeans(resolvable));
+        // memoize the unsatisfied resolution so that removed beans are only scanned once
+        return resolved.isEmpty() ? new Unsatisfied() : resolved;
     }
 
     private Set<InjectableBean<?>> resolve(String name) {
@@ -806,10 +854,21 @@ public class ArcContainerImpl implements ArcContainer {
     }
 
     void scanRemovedBeans(Type requiredType, Annotation... qualifiers) {
+        if (qualifiers == null || qualifiers.length == 0) {
+            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+        }
         scanRemovedBeans(new Resolvable(requiredType, qualifiers));
     }
 
     void scanRemovedBeans(Resolvable resolvable) {
+        Set<InjectableBean<?>> resolvedBeans = resolved.getValueIfPresent(resolvable);
+        if (resolvedBeans instanceof Unsatisfied) {
+            Unsatisfied unsatisfied = (Unsatisfied) resolvedBeans;
+            if (unsatisfied.removedBeansScanned) {
+                return;
+            }
+            unsatisfied.removedBeansScanned = true;
+        }
         List<RemovedBean> removedMatching = getMatchingRemovedBeans(resolvable);
         if (!removedMatching.isEmpty()) {
             String separator = "====================";
@@ -886,26 +945,41 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * The result is cached per event type and set of qualifiers and must not be modified.
+     *
+     * @param <T>
+     * @param eventType
+     * @param eventQualifiers
+     * @return the immutable list of resolved observer methods
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObserverMethods(Type eventType,
             Set<Annotation> eventQualifiers) {
-        registeredQualifiers.verify(eventQualifiers);
         if (observers.isEmpty()) {
+            registeredQualifiers.verify(eventQualifiers);
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
-        for (InjectableObserverMethod<?> observer : observers) {
+        return (List) resolvedObservers.getValue(new EventResolvable(eventType, eventQualifiers));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventResolvable resolvable) {
+        // qualifiers are only verified when a given combination is resolved for the first time
+        registeredQualifiers.verify(resolvable.qualifiers);
+        Set<Type> eventTypes = new HierarchyDiscovery(resolvable.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
+        // only check the observers that may observe one of the event types
+        for (InjectableObserverMethod<?> observer : observerDispatchTable.getCandidates(eventTypes)) {
             if (EventTypeAssignabilityRules.instance().matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || registeredQualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || registeredQualifiers.isSubset(observer.getObservedQualifiers(), resolvable.qualifiers)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
         // Observers with smaller priority values are called first
         resolvedObservers.sort(InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return List.copyOf(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -981,6 +1055,29 @@ public class ArcContainerImpl implements ArcContainer {
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * Performs typesafe resolution and resolves ambiguities. Suppressed beans are filtered out.
+     *
+     * @param requiredType
+     * @param qualifiers
+     * @return the immutable list of resolved beans sorted by priority (highest first)
+     * @see InjectableBean#isSuppressed()
+     */
+    List<InjectableBean<?>> getResolvedBeansByPriority(Type requiredType, Annotation... qualifiers) {
+        if (qualifiers == null || qualifiers.length == 0) {
+            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+        } else {
+            registeredQualifiers.verify(qualifiers);
+        }
+        return resolvedByPriority.getValue(new Resolvable(requiredType, qualifiers)).get();
+    }
+
+    private PrioritizedBeans prioritize(Resolvable resolvable) {
+        List<InjectableBean<?>> sorted = new ArrayList<>(resolved.getValue(resolvable));
+        sorted.sort(Instances.PRIORITY_COMPARATOR);
+        return new PrioritizedBeans(sorted);
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         return matches(bean.getTypes(), bean.getQualifiers(), requiredType, qualifiers);
     }
@@ -1038,10 +1135,98 @@ public class ArcContainerImpl implements ArcContainer {
         }
     }
 
+    private static Supplier<ContextInstances> requestContextInstances(Supplier<ContextInstances> generated, int poolSize) {
+        Supplier<ContextInstances> factory = generated != null ? generated : ComputingCacheContextInstances::new;
+        return poolSize > 0 ? new ContextInstancesPool(factory, poolSize) : factory;
+    }
+
     public static ArcContainerImpl instance() {
         return unwrap(Arc.container());
     }
 
+    /**
+     * Statistics of the cache of typesafe resolution results.
+     *
+     * @return the statistics snapshot
+     * @see ArcInitConfig#getResolutionCacheMaxSize()
+     */
+    public CacheStatistics getResolutionCacheStatistics() {
+        return resolved.getStatistics();
+    }
+
+    /**
+     * Statistics of the cache of observer resolution results.
+     *
+     * @return the statistics snapshot
+     * @see ArcInitConfig#getObserverResolutionCacheMaxSize()
+     */
+    public CacheStatistics getObserverResolutionCacheStatistics() {
+        return resolvedObservers.getStatistics();
+    }
+
+    /**
+     * An empty result of typesafe resolution.
+     */
+    private static final class Unsatisfied extends AbstractSet<InjectableBean<?>> {
+
+        // a benign race - removed beans may be scanned more than once
+        boolean removedBeansScanned;
+
+        @Override
+        public Iterator<InjectableBean<?>> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+    }
+
+    /**
+     * The result of typesafe resolution sorted by priority.
+     * <p>
+     * Only beans that are {@linkplain InjectableBean#isSuppressible() suppressible} are tested for suppression when the list
+     * is obtained. If no bean is suppressed then the cached list is returned.
+     */
+    private static final class PrioritizedBeans {
+
+        private final List<InjectableBean<?>> beans;
+        private final InjectableBean<?>[] suppressible;
+
+        PrioritizedBeans(List<InjectableBean<?>> sorted) {
+            this.beans = List.copyOf(sorted);
+            List<InjectableBean<?>> suppressible = new ArrayList<>();
+            for (InjectableBean<?> bean : sorted) {
+                if (bean.isSuppressible()) {
+                    suppressible.add(bean);
+                }
+            }
+            this.suppressible = suppressible.toArray(new InjectableBean<?>[0]);
+        }
+
+        List<InjectableBean<?>> get() {
+            for (InjectableBean<?> bean : suppressible) {
+                if (bean.isSuppressed()) {
+                    return filter();
+                }
+            }
+            return beans;
+        }
+
+        private List<InjectableBean<?>> filter() {
+            List<InjectableBean<?>> nonSuppressed = new ArrayList<>(beans.size());
+            for (InjectableBean<?> bean : beans) {
+                if (!bean.isSuppressible() || !bean.isSuppressed()) {
+                    nonSuppressed.add(bean);
+                }
+            }
+            return List.copyOf(nonSuppressed);
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Annotation[] ANY_QUALIFIER = { Any.Literal.INSTANCE };
@@ -1096,4 +1281,40 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    /**
+     * The key used for observer resolution; the order of qualifiers does not matter.
+     */
+    private static final class EventResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        private final int hashCode;
+
+        EventResolvable(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = Objects.requireNonNull(eventType);
+            this.qualifiers = Set.copyOf(qualifiers);
+            this.hashCode = 31 * eventType.hashCode() + this.qualifiers.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return hashCode == other.hashCode && eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
 }
@@ -21,7 +21,7 @@ import io.quarkus.arc.ArcInvocationContext;
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
  */
-class AroundInvokeInvocationContext extends AbstractInvocationContext {
+class AroundInvokeInvocationContext extends AbstractInvocationContext implements ReactiveTypeAware {
 
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
         if (metadata.chain.isEmpty()) {
@@ -46,6 +46,31 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         return metadata.method;
     }
 
+    @Override
+    public ReactiveType getReactiveType() {
+        return metadata.reactiveType;
+    }
+
+    @Override
+    public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
+        return metadata.bindingIndex.find(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> Set<T> getInterceptorBindings(Class<T> annotationType) {
+        return metadata.bindingIndex.findAllAsSet(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
+        return metadata.bindingIndex.find(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType) {
+        return metadata.bindingIndex.findAll(annotationType);
+    }
+
     @Override
     public Object[] getParameters() {
         return parameters;
@@ -84,7 +109,7 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
-    class NextAroundInvokeInvocationContext implements ArcInvocationContext {
+    class NextAroundInvokeInvocationContext implements ArcInvocationContext, ReactiveTypeAware {
 
         private final int position;
 
@@ -112,6 +137,11 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             return AroundInvokeInvocationContext.this.getMethod();
         }
 
+        @Override
+        public ReactiveType getReactiveType() {
+            return AroundInvokeInvocationContext.this.getReactiveType();
+        }
+
         @Override
         public Constructor<?> getConstructor() {
             return AroundInvokeInvocationContext.this.getConstructor();
@@ -137,6 +167,16 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             return AroundInvokeInvocationContext.this.getInterceptorBindings();
         }
 
+        @Override
+        public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
+            return AroundInvokeInvocationContext.this.getInterceptorBinding(annotationType);
+        }
+
+        @Override
+        public <T extends Annotation> Set<T> getInterceptorBindings(Class<T> annotationType) {
+            return AroundInvokeInvocationContext.this.getInterceptorBindings(annotationType);
+        }
+
         @Override
         public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
             return AroundInvokeInvocationContext.this.findIterceptorBinding(annotationType);
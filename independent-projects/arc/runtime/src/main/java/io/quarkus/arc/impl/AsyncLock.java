@@ -0,0 +1,213 @@
+package io.quarkus.arc.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.quarkus.arc.LockException;
+
+/**
+ * A non-blocking read-write lock.
+ * <p>
+ * A permit is not bound to a thread, i.e. it can be released by a different thread than the one that acquired it.
+ * Waiting permits are granted in FIFO order. The lock is not reentrant.
+ * <p>
+ * A waiting permit is granted on the thread that releases the previous permit, i.e. the dependent actions of
+ * {@link Permit#granted()} are executed on that thread. If a wait time elapses then the permit is completed on the timer
+ * thread.
+ *
+ * @see LockInterceptor
+ */
+final class AsyncLock {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int RELEASED = 2;
+
+    // we don't use synchronized blocks because a virtual thread could be pinned to its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // guarded by lock
+    private int readers;
+    // guarded by lock
+    private boolean writer;
+    // guarded by lock, created lazily
+    private ArrayDeque<Permit> waiting;
+
+    /**
+     *
+     * @param exclusive {@code true} if a write permit should be acquired
+     * @param time the max wait time; a non-positive value means no limit
+     * @param unit the wait time unit
+     * @return a new permit
+     */
+    Permit acquire(boolean exclusive, long time, TimeUnit unit) {
+        Permit permit = new Permit(exclusive);
+        boolean granted;
+        lock.lock();
+        try {
+            granted = (waiting == null || waiting.isEmpty()) && tryGrant(permit);
+            if (granted) {
+                permit.state.set(GRANTED);
+            } else {
+                if (waiting == null) {
+                    waiting = new ArrayDeque<>();
+                }
+                waiting.add(permit);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (granted) {
+            permit.granted.complete(null);
+        } else if (time > 0) {
+            CompletableFuture.delayedExecutor(time, unit).execute(() -> {
+                if (permit.cancel()) {
+                    permit.granted.completeExceptionally(new LockException(
+                            (exclusive ? "Write" : "Read") + " lock not acquired in " + unit.toMillis(time) + " ms"));
+                }
+            });
+        }
+        return permit;
+    }
+
+    // must be called while holding the lock
+    private boolean tryGrant(Permit permit) {
+        if (permit.exclusive) {
+            if (writer || readers > 0) {
+                return false;
+            }
+            writer = true;
+        } else {
+            if (writer) {
+                return false;
+            }
+            readers++;
+        }
+        return true;
+    }
+
+    private void release(boolean exclusive) {
+        List<Permit> granted;
+        lock.lock();
+        try {
+            if (exclusive) {
+                writer = false;
+            } else {
+                readers--;
+            }
+            granted = grantWaiting();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+    private void remove(Permit permit) {
+        List<Permit> granted;
+        lock.lock();
+        try {
+            waiting.remove(permit);
+            // the removed permit might have blocked the following ones
+            granted = grantWaiting();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+    // must be called while holding the lock
+    private List<Permit> grantWaiting() {
+        if (waiting == null || waiting.isEmpty()) {
+            return List.of();
+        }
+        List<Permit> granted = null;
+        Permit next;
+        while ((next = waiting.peek()) != null && tryGrant(next)) {
+            waiting.poll();
+            if (next.state.compareAndSet(WAITING, GRANTED)) {
+                if (granted == null) {
+                    granted = new ArrayList<>();
+                }
+                granted.add(next);
+            } else {
+                // the permit was cancelled in the meantime
+                if (next.exclusive) {
+                    writer = false;
+                } else {
+                    readers--;
+                }
+            }
+        }
+        return granted == null ? List.of() : granted;
+    }
+
+    private static void complete(List<Permit> granted) {
+        // dependent actions must not be executed while holding the lock
+        for (Permit permit : granted) {
+            permit.granted.complete(null);
+        }
+    }
+
+    final class Permit {
+
+        private final boolean exclusive;
+
+        private final CompletableFuture<Void> granted;
+
+        private final AtomicInteger state;
+
+        private Permit(boolean exclusive) {
+            this.exclusive = exclusive;
+            this.granted = new CompletableFuture<>();
+            this.state = new AtomicInteger(WAITING);
+        }
+
+        /**
+         *
+         * @return a stage that is completed when the permit is granted, or completed exceptionally with a
+         *         {@link LockException} if it's not granted in the given time
+         */
+        CompletionStage<Void> granted() {
+            return granted;
+        }
+
+        /**
+         * Releases a granted permit or cancels a waiting permit. Subsequent invocations are no-op.
+         */
+        void release() {
+            // the permit may be granted concurrently, i.e. the state must be re-read if a transition fails
+            for (;;) {
+                int current = state.get();
+                if (current == GRANTED) {
+                    if (state.compareAndSet(GRANTED, RELEASED)) {
+                        AsyncLock.this.release(exclusive);
+                        return;
+                    }
+                } else if (current == WAITING) {
+                    if (state.compareAndSet(WAITING, RELEASED)) {
+                        remove(this);
+                        return;
+                    }
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private boolean cancel() {
+            if (state.compareAndSet(WAITING, RELEASED)) {
+                remove(this);
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+}
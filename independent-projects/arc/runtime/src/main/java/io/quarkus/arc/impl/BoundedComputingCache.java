@@ -0,0 +1,144 @@
+package io.quarkus.arc.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.CacheEvictionPolicy;
+import io.quarkus.arc.CacheStatistics;
+
+/**
+ * Computing cache with an optional upper bound on the number of entries and hit/miss/eviction counters.
+ * <p>
+ * Like {@link ComputingCache}, it does not use {@link ConcurrentMap#computeIfAbsent(Object, Function)} and is reentrant.
+ * The bound is soft; under concurrent updates, the cache may temporarily contain slightly more entries than
+ * the maximum size.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class BoundedComputingCache<K, V> {
+
+    private final ConcurrentMap<K, Entry<V>> map;
+    private final Function<K, V> computingFunction;
+    // a value lower than 1 means unbounded
+    private final int maxSize;
+    private final boolean secondChance;
+    // insertion order of keys, only used if bounded
+    private final ConcurrentLinkedQueue<K> order;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public BoundedComputingCache(Function<K, V> computingFunction) {
+        this(computingFunction, 0, CacheEvictionPolicy.LRU);
+    }
+
+    /**
+     *
+     * @param computingFunction
+     * @param maxSize the maximum number of entries; a value lower than 1 means unbounded
+     * @param evictionPolicy
+     */
+    public BoundedComputingCache(Function<K, V> computingFunction, int maxSize, CacheEvictionPolicy evictionPolicy) {
+        this.map = new ConcurrentHashMap<>();
+        this.computingFunction = Objects.requireNonNull(computingFunction);
+        this.maxSize = maxSize;
+        this.secondChance = evictionPolicy == CacheEvictionPolicy.LRU;
+        this.order = maxSize > 0 ? new ConcurrentLinkedQueue<>() : null;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public V getValue(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry != null) {
+            hits.increment();
+            if (secondChance && !entry.accessed) {
+                entry.accessed = true;
+            }
+            return entry.value.get();
+        }
+        misses.increment();
+        entry = new Entry<>(new Supplier<V>() {
+            @Override
+            public V get() {
+                return computingFunction.apply(key);
+            }
+        });
+        Entry<V> previous = map.putIfAbsent(key, entry);
+        if (previous != null) {
+            return previous.value.get();
+        }
+        if (order != null) {
+            order.add(key);
+            if (map.size() > maxSize) {
+                evict();
+            }
+        }
+        return entry.value.get();
+    }
+
+    public V getValueIfPresent(K key) {
+        Entry<V> entry = map.get(key);
+        return entry != null ? entry.value.getIfPresent() : null;
+    }
+
+    public void clear() {
+        map.clear();
+        if (order != null) {
+            order.clear();
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), map.size());
+    }
+
+    private void evict() {
+        // every entry is given at most one second chance
+        int attempts = 2 * map.size();
+        while (map.size() > maxSize && attempts-- > 0) {
+            K key = order.poll();
+            if (key == null) {
+                return;
+            }
+            Entry<V> entry = map.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (secondChance && entry.accessed) {
+                entry.accessed = false;
+                order.add(key);
+                continue;
+            }
+            if (map.remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        final LazyValue<V> value;
+
+        // a benign race - a lost update only makes the eviction less precise
+        boolean accessed;
+
+        Entry(Supplier<V> supplier) {
+            this.value = new LazyValue<>(supplier);
+        }
+
+    }
+
+}
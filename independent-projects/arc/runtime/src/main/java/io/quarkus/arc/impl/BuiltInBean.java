@@ -25,6 +25,11 @@ public abstract class BuiltInBean<T> implements InjectableBean<T> {
         return Kind.BUILTIN;
     }
 
+    @Override
+    public boolean isSuppressible() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return Beans.toString(this);
@@ -0,0 +1,16 @@
+package io.quarkus.arc.impl;
+
+/**
+ * An interface implemented by client proxies of {@link jakarta.enterprise.context.ApplicationScoped} beans that cache the
+ * contextual instance.
+ * <p>
+ * The cached instance is cleared when the contextual instance is destroyed.
+ *
+ * @see ClientProxies#addCachingClientProxy(io.quarkus.arc.InjectableContext, io.quarkus.arc.InjectableBean,
+ *      CachingClientProxy)
+ */
+public interface CachingClientProxy {
+
+    void arc$clearCachedDelegate();
+
+}
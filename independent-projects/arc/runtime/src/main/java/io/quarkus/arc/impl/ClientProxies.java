@@ -25,6 +25,35 @@ public final class ClientProxies {
         return result;
     }
 
+    /**
+     * Registers a client proxy that caches the contextual instance. The cached instance is cleared when the contextual
+     * instance is destroyed.
+     *
+     * @param applicationContext
+     * @param bean
+     * @param proxy
+     */
+    public static void addCachingClientProxy(InjectableContext applicationContext, InjectableBean<?> bean,
+            CachingClientProxy proxy) {
+        if (applicationContext instanceof ApplicationContext) {
+            ((ApplicationContext) applicationContext).addCachingClientProxy(bean, proxy);
+        }
+    }
+
+    /**
+     * A client proxy must call this method after it cached the contextual instance. If the instance was destroyed in the
+     * meantime, or if the cache cannot be cleared, then the cached instance must be discarded.
+     *
+     * @param applicationContext
+     * @param bean
+     * @param delegate
+     * @return {@code true} if the cached contextual instance is valid
+     */
+    public static boolean isCachedDelegateValid(InjectableContext applicationContext, InjectableBean<?> bean,
+            Object delegate) {
+        return applicationContext instanceof ApplicationContext && applicationContext.get(bean) == delegate;
+    }
+
     // This method is only used if a single context is registered for the given scope
     public static <T> T getSingleContextDelegate(InjectableContext context, InjectableBean<T> bean) {
         T result = context.getIfActive(bean, ClientProxies::newCreationalContext);
@@ -0,0 +1,83 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * This implementation is suitable for applications that make use of a large number of short-lived threads, such as virtual
+ * threads.
+ * <p>
+ * Unlike the default implementation, all current contexts created by this factory share a single {@link ThreadLocal}
+ * variable. Therefore, a thread holds at most one thread-local entry, no matter how many normal scopes are active. The
+ * entry is removed as soon as no current context state is set for the thread, so that no garbage is retained by pooled
+ * threads. No synchronization is needed, i.e. a virtual thread is never pinned to its carrier thread.
+ *
+ * @see io.quarkus.arc.ArcInitConfig.Builder#setCurrentContextFactory(CurrentContextFactory)
+ */
+public final class CompactThreadLocalCurrentContextFactory implements CurrentContextFactory {
+
+    // states indexed by the slot of a current context
+    private final ThreadLocal<ContextState[]> states = new ThreadLocal<>();
+    private final AtomicInteger slots = new AtomicInteger();
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new CompactCurrentContext<>(slots.getAndIncrement());
+    }
+
+    private final class CompactCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final int slot;
+
+        CompactCurrentContext(int slot) {
+            this.slot = slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get() {
+            ContextState[] current = states.get();
+            return current != null && slot < current.length ? (T) current[slot] : null;
+        }
+
+        @Override
+        public void set(T state) {
+            if (state == null) {
+                remove();
+                return;
+            }
+            ContextState[] current = states.get();
+            if (current == null) {
+                current = new ContextState[slots.get()];
+                states.set(current);
+            } else if (slot >= current.length) {
+                // a current context was created after the array was initialized
+                current = Arrays.copyOf(current, slots.get());
+                states.set(current);
+            }
+            current[slot] = state;
+        }
+
+        @Override
+        public void remove() {
+            ContextState[] current = states.get();
+            if (current == null || slot >= current.length) {
+                return;
+            }
+            current[slot] = null;
+            for (ContextState state : current) {
+                if (state != null) {
+                    return;
+                }
+            }
+            states.remove();
+        }
+
+    }
+
+}
@@ -22,7 +22,9 @@ import io.quarkus.arc.ArcInvocationContext;
  * We try to leverage the fact that in most use cases, while there is a high
  * chance for integration points to need to read the content of this map,
  * write operations are less likely. So we only allocate an actual underlying
- * HashMap on a write operation.
+ * storage on a write operation. Moreover, interceptors usually store only a few
+ * entries; up to {@value #INLINE_CAPACITY} entries are kept in a small array
+ * and a HashMap is only allocated when more entries are stored.
  * In addition, an {@link ArcInvocationContext} always allows to return the set of
  * interceptor bindings via {@link ArcInvocationContext#KEY_INTERCEPTOR_BINDINGS};
  * this is implemented while avoiding a write operation on the underlying Map.
@@ -32,26 +34,55 @@ import io.quarkus.arc.ArcInvocationContext;
  */
 final class ContextDataMap implements Map<String, Object> {
 
+    static final int INLINE_CAPACITY = 4;
+
     private final Set<Annotation> interceptorBindings;
-    private HashMap<String, Object> delegate; //important to lazily initialize this
+    // keys and values are stored at even and odd indexes; important to lazily initialize this
+    private Object[] inline;
+    private int inlineSize;
+    private HashMap<String, Object> delegate; // only used if there are more than INLINE_CAPACITY entries
 
     ContextDataMap(Set<Annotation> interceptorBindings) {
         this.interceptorBindings = Objects.requireNonNull(interceptorBindings);
     }
 
-    private Map<String, Object> getDelegateForRead() {
-        if (delegate == null) {
-            return Collections.emptyMap();
-        } else {
-            return delegate;
+    private int indexOf(Object key) {
+        for (int i = 0; i < inlineSize; i++) {
+            if (Objects.equals(key, inline[i << 1])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object putInline(String key, Object value) {
+        int idx = indexOf(key);
+        if (idx >= 0) {
+            Object previous = inline[(idx << 1) + 1];
+            inline[(idx << 1) + 1] = value;
+            return previous;
         }
+        if (inlineSize == INLINE_CAPACITY) {
+            promote(INLINE_CAPACITY + 1);
+            return delegate.put(key, value);
+        }
+        if (inline == null) {
+            inline = new Object[INLINE_CAPACITY << 1];
+        }
+        inline[inlineSize << 1] = key;
+        inline[(inlineSize << 1) + 1] = value;
+        inlineSize++;
+        return null;
     }
 
-    private Map<String, Object> getDelegateForWrite(final int sizeHint) {
-        if (delegate == null) {
-            this.delegate = new HashMap<>(sizeHint, 1.0f);
+    private void promote(int sizeHint) {
+        HashMap<String, Object> map = new HashMap<>(Math.max(sizeHint, inlineSize) * 2);
+        for (int i = 0; i < inlineSize; i++) {
+            map.put((String) inline[i << 1], inline[(i << 1) + 1]);
         }
-        return delegate;
+        this.delegate = map;
+        this.inline = null;
+        this.inlineSize = 0;
     }
 
     // ** Implement methods from the Map interface **
@@ -66,7 +97,10 @@ final class ContextDataMap implements Map<String, Object> {
         if (ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS.equals(key)) {
             return true;
         }
-        return getDelegateForRead().containsKey(key);
+        if (delegate != null) {
+            return delegate.containsKey(key);
+        }
+        return indexOf(key) >= 0;
     }
 
     @Override
@@ -74,20 +108,35 @@ final class ContextDataMap implements Map<String, Object> {
         if (interceptorBindings.equals(value)) {
             return true;
         }
-        return getDelegateForRead().containsValue(value);
+        if (delegate != null) {
+            return delegate.containsValue(value);
+        }
+        for (int i = 0; i < inlineSize; i++) {
+            if (Objects.equals(value, inline[(i << 1) + 1])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public Set<Map.Entry<String, Object>> entrySet() {
         final AbstractMap.SimpleImmutableEntry<String, Object> firstEntry = new AbstractMap.SimpleImmutableEntry<>(
                 ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
-        if (delegate == null) {
-            return Collections.singleton(firstEntry);
-        } else {
+        if (delegate != null) {
             Set<Map.Entry<String, Object>> entries = new HashSet<>(delegate.size() + 1);
             entries.addAll(delegate.entrySet());
             entries.add(firstEntry);
             return entries;
+        } else if (inlineSize == 0) {
+            return Collections.singleton(firstEntry);
+        } else {
+            Set<Map.Entry<String, Object>> entries = new HashSet<>(inlineSize + 1);
+            for (int i = 0; i < inlineSize; i++) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>((String) inline[i << 1], inline[(i << 1) + 1]));
+            }
+            entries.add(firstEntry);
+            return entries;
         }
     }
 
@@ -96,7 +145,11 @@ final class ContextDataMap implements Map<String, Object> {
         if (ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS.equals(key)) {
             return interceptorBindings;
         }
-        return getDelegateForRead().get(key);
+        if (delegate != null) {
+            return delegate.get(key);
+        }
+        int idx = indexOf(key);
+        return idx >= 0 ? inline[(idx << 1) + 1] : null;
     }
 
     @Override
@@ -106,13 +159,20 @@ final class ContextDataMap implements Map<String, Object> {
 
     @Override
     public Set<String> keySet() {
-        if (delegate == null) {
-            return Collections.singleton(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
-        } else {
+        if (delegate != null) {
             Set<String> set = new HashSet<>(delegate.size() + 1);
             set.addAll(delegate.keySet());
             set.add(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
             return set;
+        } else if (inlineSize == 0) {
+            return Collections.singleton(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
+        } else {
+            Set<String> set = new HashSet<>(inlineSize + 1);
+            for (int i = 0; i < inlineSize; i++) {
+                set.add((String) inline[i << 1]);
+            }
+            set.add(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
+            return set;
         }
     }
 
@@ -122,7 +182,16 @@ final class ContextDataMap implements Map<String, Object> {
             throw new IllegalArgumentException(
                     "Not allowed to put key '" + ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS + "' in the context data map");
         }
-        getDelegateForWrite(m.size()).putAll(m);
+        if (delegate == null && inlineSize + m.size() > INLINE_CAPACITY) {
+            promote(inlineSize + m.size());
+        }
+        if (delegate != null) {
+            delegate.putAll(m);
+        } else {
+            for (Map.Entry<? extends String, ? extends Object> e : m.entrySet()) {
+                putInline(e.getKey(), e.getValue());
+            }
+        }
     }
 
     @Override
@@ -130,27 +199,47 @@ final class ContextDataMap implements Map<String, Object> {
         if (ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS.equals(key)) {
             throw new IllegalArgumentException("Not allowed to remove key '" + ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS
                     + "' from the context data map");
-        } else if (delegate == null) {
-            return null;
-        } else {
+        } else if (delegate != null) {
             return delegate.remove(key);
         }
+        int idx = indexOf(key);
+        if (idx < 0) {
+            return null;
+        }
+        Object previous = inline[(idx << 1) + 1];
+        int last = inlineSize - 1;
+        if (idx < last) {
+            // the order of entries is not significant
+            inline[idx << 1] = inline[last << 1];
+            inline[(idx << 1) + 1] = inline[(last << 1) + 1];
+        }
+        inline[last << 1] = null;
+        inline[(last << 1) + 1] = null;
+        inlineSize = last;
+        return previous;
     }
 
     @Override
     public int size() {
-        return getDelegateForRead().size() + 1;
+        return (delegate != null ? delegate.size() : inlineSize) + 1;
     }
 
     @Override
     public Collection<Object> values() {
-        if (delegate == null) {
-            return Collections.singleton(interceptorBindings);
-        } else {
+        if (delegate != null) {
             List<Object> list = new ArrayList<>(delegate.size() + 1);
             list.addAll(delegate.values());
             list.add(interceptorBindings);
             return list;
+        } else if (inlineSize == 0) {
+            return Collections.singleton(interceptorBindings);
+        } else {
+            List<Object> list = new ArrayList<>(inlineSize + 1);
+            for (int i = 0; i < inlineSize; i++) {
+                list.add(inline[(i << 1) + 1]);
+            }
+            list.add(interceptorBindings);
+            return list;
         }
     }
 
@@ -160,7 +249,10 @@ final class ContextDataMap implements Map<String, Object> {
             throw new IllegalArgumentException(
                     "Not allowed to put key '" + ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS + "' in the context data map");
         }
-        return getDelegateForWrite(1).put(key, value);
+        if (delegate != null) {
+            return delegate.put(key, value);
+        }
+        return putInline(key, value);
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
 
 public interface ContextInstances {
 
@@ -30,6 +31,37 @@ public interface ContextInstances {
      */
     ContextInstanceHandle<?> remove(String id);
 
+    /**
+     * Generated implementations select the slot using the {@linkplain InjectableBean#getIndex() index} of the bean.
+     *
+     * @param bean
+     * @param supplier
+     * @return the instance handle
+     */
+    default ContextInstanceHandle<?> computeIfAbsent(InjectableBean<?> bean, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(bean.getIdentifier(), supplier);
+    }
+
+    /**
+     * Generated implementations select the slot using the {@linkplain InjectableBean#getIndex() index} of the bean.
+     *
+     * @param bean
+     * @return the instance handle if present, {@code null} otherwise
+     */
+    default ContextInstanceHandle<?> getIfPresent(InjectableBean<?> bean) {
+        return getIfPresent(bean.getIdentifier());
+    }
+
+    /**
+     * Generated implementations select the slot using the {@linkplain InjectableBean#getIndex() index} of the bean.
+     *
+     * @param bean
+     * @return the removed instance handle, or {@code null}
+     */
+    default ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        return remove(bean.getIdentifier());
+    }
+
     /**
      *
      * @return all instance handles
@@ -0,0 +1,82 @@
+package io.quarkus.arc.impl;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of empty {@link ContextInstances} that can be reused by a {@link CurrentManagedContext}.
+ * <p>
+ * The pool is striped and lock-free; a thread only probes a few slots derived from its id. If no pooled instance is found
+ * a new one is created. If all probed slots are occupied then a released instance is simply dropped.
+ * <p>
+ * The pool does not guard the access to the instances. A {@link CurrentManagedContext} only releases the instances of a
+ * destroyed state once the state is not active on any thread, i.e. the instances are never accessed through a stale
+ * state when reused.
+ */
+final class ContextInstancesPool implements Supplier<ContextInstances> {
+
+    private static final int PROBES = 4;
+
+    private final Supplier<ContextInstances> factory;
+    private final AtomicReferenceArray<ContextInstances> slots;
+    private final int mask;
+
+    /**
+     *
+     * @param factory
+     * @param maxSize the maximum number of pooled instances; rounded up to a power of two
+     */
+    ContextInstancesPool(Supplier<ContextInstances> factory, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The max size must be greater than zero: " + maxSize);
+        }
+        this.factory = Objects.requireNonNull(factory);
+        int size = Integer.highestOneBit(maxSize);
+        if (size < maxSize) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public ContextInstances get() {
+        int start = start();
+        for (int i = 0; i < PROBES; i++) {
+            int idx = (start + i) & mask;
+            ContextInstances pooled = slots.get(idx);
+            if (pooled != null && slots.compareAndSet(idx, pooled, null)) {
+                return pooled;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * The given instances are only pooled if empty. The caller must guarantee that the instances are not used anymore.
+     *
+     * @param instances
+     * @return {@code true} if the instances were pooled, {@code false} otherwise
+     */
+    boolean release(ContextInstances instances) {
+        if (!instances.getAllPresent().isEmpty()) {
+            // e.g. an instance was created concurrently with the destruction of the context
+            return false;
+        }
+        int start = start();
+        for (int i = 0; i < PROBES; i++) {
+            if (slots.compareAndSet((start + i) & mask, null, instances)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int start() {
+        // spread the thread ids
+        long id = Thread.currentThread().getId();
+        return (int) (id * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+
+}
@@ -1,14 +1,17 @@
 package io.quarkus.arc.impl;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.InjectionPoint;
 
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableReferenceProvider;
 import io.quarkus.arc.InstanceHandle;
@@ -21,12 +24,35 @@ import io.quarkus.arc.InstanceHandle;
  */
 public class CreationalContextImpl<T> implements CreationalContext<T>, Function<Contextual<T>, CreationalContext<T>> {
 
+    private static final Logger LOG = Logger.getLogger(CreationalContextImpl.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, Lock> LOCK_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, Lock.class, "lock");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, InjectionPoint> INJECTION_POINT_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, InjectionPoint.class, "currentInjectionPoint");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, Object> DECORATOR_DELEGATE_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, Object.class, "currentDecoratorDelegate");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, Runnable> UNTRACKED_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(CreationalContextImpl.class, Runnable.class, "untracked");
+
     private final Contextual<T> contextual;
     private final CreationalContextImpl<?> parent;
-    private List<InstanceHandle<?>> dependentInstances;
+    // guarded by lock
+    private DependentInstances dependentInstances;
+    // guarded by lock; the number of dependent instances that triggers the next warning
+    private int dependentInstancesWarnAt;
+    // we don't use synchronized blocks because a virtual thread could be pinned to its carrier thread;
+    // the lock is created lazily when the first dependent instance is added
+    private volatile Lock lock;
 
-    private InjectionPoint currentInjectionPoint;
-    private Object currentDecoratorDelegate;
+    private volatile InjectionPoint currentInjectionPoint;
+    private volatile Object currentDecoratorDelegate;
+    // registers this context with the context it belongs to; set if it was not tracked because it had nothing to destroy
+    private volatile Runnable untracked;
 
     public CreationalContextImpl(Contextual<T> contextual) {
         this(contextual, null);
@@ -39,35 +65,119 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
     }
 
     public <I> void addDependentInstance(InjectableBean<I> bean, I instance, CreationalContext<I> ctx) {
-        addDependentInstance(new EagerInstanceHandle<I>(bean, instance, ctx));
+        ArcContainerImpl container = container();
+        if (container != null
+                && container.isTrackOnlyDestroyableDependentInstances()
+                && !bean.hasDestroyLogic()) {
+            CreationalContextImpl<I> child = unwrap(ctx);
+            // there is nothing to destroy yet; the instance is tracked once it has a dependent instance of its own
+            child.untracked = () -> addDependentInstance(instance, new EagerInstanceHandle<I>(bean, instance, ctx));
+            if (!child.hasDependentInstances()) {
+                return;
+            }
+            if (UNTRACKED_UPDATER.getAndSet(child, null) == null) {
+                // registered concurrently
+                return;
+            }
+        }
+        addDependentInstance(instance, new EagerInstanceHandle<I>(bean, instance, ctx));
+    }
+
+    public <I> void addDependentInstance(InstanceHandle<I> instanceHandle) {
+        // a handle that is not initialized yet must not be initialized here
+        addDependentInstance(instanceHandle instanceof EagerInstanceHandle<I> eager ? eager.instanceInternal()
+                : DependentInstances.UNRESOLVED, instanceHandle);
     }
 
-    public synchronized <I> void addDependentInstance(InstanceHandle<I> instanceHandle) {
-        if (dependentInstances == null) {
-            dependentInstances = new ArrayList<>();
+    private void addDependentInstance(Object instance, InstanceHandle<?> instanceHandle) {
+        Lock lock = lock();
+        lock.lock();
+        try {
+            if (dependentInstances == null) {
+                ArcContainerImpl container = container();
+                dependentInstances = new DependentInstances();
+                dependentInstancesWarnAt = container != null ? container.getDependentInstancesWarningThreshold() : 0;
+            }
+            dependentInstances.add(instance, instanceHandle);
+            if (dependentInstancesWarnAt > 0 && dependentInstances.size() >= dependentInstancesWarnAt) {
+                LOG.warnf("The creational context of %s holds %s dependent instances; make sure that @Dependent beans "
+                        + "obtained via Instance#get() are destroyed when no longer needed", contextual,
+                        dependentInstances.size());
+                // warn again when the number doubles
+                dependentInstancesWarnAt = dependentInstancesWarnAt > Integer.MAX_VALUE / 2 ? 0
+                        : dependentInstancesWarnAt * 2;
+            }
+        } finally {
+            lock.unlock();
+        }
+        Runnable untracked = this.untracked;
+        if (untracked != null && UNTRACKED_UPDATER.compareAndSet(this, untracked, null)) {
+            // the lock is released first; the parent context may be released concurrently and its lock is always
+            // acquired before the lock of a child context
+            untracked.run();
+        }
+    }
+
+    public boolean hasDependentInstances() {
+        Lock lock = this.lock;
+        if (lock == null) {
+            // no dependent instance was added yet
+            return false;
+        }
+        lock.lock();
+        try {
+            return dependentInstances != null && !dependentInstances.isEmpty();
+        } finally {
+            lock.unlock();
         }
-        dependentInstances.add(instanceHandle);
     }
 
-    public synchronized boolean hasDependentInstances() {
-        return dependentInstances != null && !dependentInstances.isEmpty();
+    /**
+     *
+     * @return the number of dependent instances
+     */
+    public int getDependentInstancesCount() {
+        Lock lock = this.lock;
+        if (lock == null) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            return dependentInstances != null ? dependentInstances.size() : 0;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized boolean removeDependentInstance(Object dependentInstance, boolean destroy) {
-        if (dependentInstances != null) {
-            for (Iterator<InstanceHandle<?>> it = dependentInstances.iterator(); it.hasNext();) {
-                InstanceHandle<?> handle = it.next();
-                // The reference equality is used on purpose!
-                if (handle.get() == dependentInstance) {
+    public boolean removeDependentInstance(Object dependentInstance, boolean destroy) {
+        Lock lock = this.lock;
+        if (lock == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (dependentInstances != null) {
+                InstanceHandle<?> handle = dependentInstances.remove(dependentInstance);
+                if (handle != null) {
                     if (destroy) {
                         handle.destroy();
                     }
-                    it.remove();
                     return true;
                 }
             }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lock() {
+        Lock lock = this.lock;
+        if (lock == null) {
+            Lock newLock = new ReentrantLock();
+            lock = LOCK_UPDATER.compareAndSet(this, null, newLock) ? newLock : this.lock;
         }
-        return false;
+        return lock;
     }
 
     @Override
@@ -77,12 +187,17 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
 
     @Override
     public void release() {
-        synchronized (this) {
+        Lock lock = this.lock;
+        if (lock == null) {
+            return;
+        }
+        lock.lock();
+        try {
             if (dependentInstances != null) {
-                for (InstanceHandle<?> instance : dependentInstances) {
-                    instance.destroy();
-                }
+                dependentInstances.forEach(InstanceHandle::destroy);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -106,6 +221,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
         return this;
     }
 
+    private static ArcContainerImpl container() {
+        // the container may not be initialized, e.g. in unit tests
+        return Arc.container() instanceof ArcContainerImpl container ? container : null;
+    }
+
     public static <T> CreationalContextImpl<T> unwrap(CreationalContext<T> ctx) {
         if (ctx instanceof CreationalContextImpl) {
             return (CreationalContextImpl<T>) ctx;
@@ -136,11 +256,9 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
     static <T> InjectionPoint getCurrentInjectionPoint(CreationalContext<T> ctx) {
         CreationalContextImpl<?> instance = unwrap(ctx);
         while (instance != null) {
-            synchronized (instance) {
-                InjectionPoint result = instance.currentInjectionPoint;
-                if (result != null) {
-                    return result;
-                }
+            InjectionPoint result = instance.currentInjectionPoint;
+            if (result != null) {
+                return result;
             }
             instance = instance.parent;
         }
@@ -149,21 +267,15 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
 
     static <T> InjectionPoint setCurrentInjectionPoint(CreationalContext<T> ctx, InjectionPoint injectionPoint) {
         CreationalContextImpl<T> instance = unwrap(ctx);
-        synchronized (instance) {
-            InjectionPoint previous = instance.currentInjectionPoint;
-            instance.currentInjectionPoint = injectionPoint;
-            return previous;
-        }
+        return INJECTION_POINT_UPDATER.getAndSet(instance, injectionPoint);
     }
 
     static <T> Object getCurrentDecoratorDelegate(CreationalContext<T> ctx) {
         CreationalContextImpl<?> instance = unwrap(ctx);
         while (instance != null) {
-            synchronized (instance) {
-                Object result = instance.currentDecoratorDelegate;
-                if (result != null) {
-                    return result;
-                }
+            Object result = instance.currentDecoratorDelegate;
+            if (result != null) {
+                return result;
             }
             instance = instance.parent;
         }
@@ -172,11 +284,7 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
 
     static <T> Object setCurrentDecoratorDelegate(CreationalContext<T> ctx, Object decoratorDelegate) {
         CreationalContextImpl<T> instance = unwrap(ctx);
-        synchronized (instance) {
-            Object previous = instance.currentDecoratorDelegate;
-            instance.currentDecoratorDelegate = decoratorDelegate;
-            return previous;
-        }
+        return DECORATOR_DELEGATE_UPDATER.getAndSet(instance, decoratorDelegate);
     }
 
 }
@@ -31,6 +31,9 @@ public abstract class CurrentManagedContext implements ManagedContext {
 
     private final Supplier<ContextInstances> contextInstances;
 
+    // not null if the instances are pooled
+    private final ContextInstancesPool pool;
+
     private final Consumer<Object> initializedNotifier;
     private final Consumer<Object> beforeDestroyedNotifier;
     private final Consumer<Object> destroyedNotifier;
@@ -40,6 +43,7 @@ public abstract class CurrentManagedContext implements ManagedContext {
             Consumer<Object> beforeDestroyedNotifier, Consumer<Object> destroyedNotifier) {
         this.currentContext = currentContext;
         this.contextInstances = contextInstances;
+        this.pool = contextInstances instanceof ContextInstancesPool ? (ContextInstancesPool) contextInstances : null;
         this.initializedNotifier = initializedNotifier;
         this.beforeDestroyedNotifier = beforeDestroyedNotifier;
         this.destroyedNotifier = destroyedNotifier;
@@ -61,6 +65,9 @@ public abstract class CurrentManagedContext implements ManagedContext {
         }
         if (initialState == null) {
             CurrentContextState state = initializeState();
+            if (pool != null) {
+                state.activated();
+            }
             currentContext.set(state);
             if (state.shouldFireInitializedEvent()) {
                 fireIfNotNull(initializedNotifier);
@@ -68,6 +75,9 @@ public abstract class CurrentManagedContext implements ManagedContext {
             return state;
         } else {
             if (initialState instanceof CurrentContextState current) {
+                if (pool != null) {
+                    current.activated();
+                }
                 currentContext.set(current);
                 if (current.isValid() && current.shouldFireInitializedEvent()) {
                     fireIfNotNull(initializedNotifier);
@@ -84,7 +94,15 @@ public abstract class CurrentManagedContext implements ManagedContext {
         if (traceLog().isTraceEnabled()) {
             traceDeactivate();
         }
-        currentContext.remove();
+        if (pool != null) {
+            CurrentContextState state = currentState();
+            currentContext.remove();
+            if (state != null) {
+                release(state.deactivated());
+            }
+        } else {
+            currentContext.remove();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -101,16 +119,22 @@ public abstract class CurrentManagedContext implements ManagedContext {
             return null;
         }
         ContextInstances contextInstances = state.contextInstances;
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
+        if (contextInstances == null) {
+            // the state was destroyed in the meantime
+            return null;
+        }
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
-            return (T) contextInstances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
-
-                @Override
-                public ContextInstanceHandle<?> get() {
-                    return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext), creationalContext);
-                }
-            }).get();
+            instance = (ContextInstanceHandle<T>) contextInstances.computeIfAbsent(bean,
+                    new Supplier<ContextInstanceHandle<?>>() {
+
+                        @Override
+                        public ContextInstanceHandle<?> get() {
+                            return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext),
+                                    creationalContext);
+                        }
+                    });
         }
         return instance.get();
     }
@@ -125,6 +149,7 @@ public abstract class CurrentManagedContext implements ManagedContext {
         return result;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
@@ -133,12 +158,11 @@ public abstract class CurrentManagedContext implements ManagedContext {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
         CurrentContextState state = currentState();
-        if (state == null || !state.isValid()) {
+        ContextInstances contextInstances = state != null ? state.contextInstances : null;
+        if (contextInstances == null || !state.isValid()) {
             throw notActive();
         }
-        @SuppressWarnings("unchecked")
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean);
         return instance == null ? null : instance.get();
     }
 
@@ -156,11 +180,12 @@ public abstract class CurrentManagedContext implements ManagedContext {
     @Override
     public void destroy(Contextual<?> contextual) {
         CurrentContextState state = currentState();
-        if (state == null || !state.isValid()) {
+        ContextInstances contextInstances = state != null ? state.contextInstances : null;
+        if (contextInstances == null || !state.isValid()) {
             throw notActive();
         }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean);
         if (instance != null) {
             instance.destroy();
         }
@@ -187,6 +212,12 @@ public abstract class CurrentManagedContext implements ManagedContext {
                         contextInstanceHandle.destroy();
                     }
                 });
+                // an invalid state must never reach the instances, they may be reused by another state
+                currentState.contextInstances = null;
+                if (pool != null) {
+                    // the instances are released once the state is not active on any thread
+                    release(currentState.destroyed());
+                }
                 fireIfNotNull(destroyedNotifier);
             }
         } else {
@@ -196,7 +227,7 @@ public abstract class CurrentManagedContext implements ManagedContext {
 
     @Override
     public CurrentContextState initializeState() {
-        CurrentContextState state = new CurrentContextState(contextInstances.get());
+        CurrentContextState state = new CurrentContextState(contextInstances.get(), pool != null);
         return state;
     }
 
@@ -220,6 +251,12 @@ public abstract class CurrentManagedContext implements ManagedContext {
         return currentContext.get();
     }
 
+    private void release(ContextInstances instances) {
+        if (instances != null) {
+            pool.release(instances);
+        }
+    }
+
     protected abstract ContextNotActiveException notActive();
 
     private void fireIfNotNull(Consumer<Object> notifier) {
@@ -249,6 +286,11 @@ public abstract class CurrentManagedContext implements ManagedContext {
         private static final VarHandle INITIALIZED_FIRED;
         private static final VarHandle BEFORE_DESTROYED_FIRED;
 
+        // the activations are only counted if the instances are pooled
+        private static final int DESTROYED = 1 << 30;
+        private static final VarHandle ACTIVATIONS;
+        private static final VarHandle POOLED;
+
         static {
             try {
                 IS_VALID = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "isValid", int.class);
@@ -256,22 +298,34 @@ public abstract class CurrentManagedContext implements ManagedContext {
                         int.class);
                 BEFORE_DESTROYED_FIRED = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "beforeDestroyedFired",
                         int.class);
+                ACTIVATIONS = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "activations", int.class);
+                POOLED = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "pooled", ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        // set to null when the state is destroyed
+        private volatile ContextInstances contextInstances;
         private volatile int isValid;
         private volatile int initializedFired;
         private volatile int beforeDestroyedFired;
+        // the number of activations that were not deactivated yet, plus DESTROYED once the state is destroyed
+        private volatile int activations;
+        // the pooled instances to be released; taken by the last of the destruction and the deactivations
+        private volatile ContextInstances pooled;
 
-        CurrentContextState(ContextInstances contextInstances) {
+        CurrentContextState(ContextInstances contextInstances, boolean pooled) {
             this.contextInstances = Objects.requireNonNull(contextInstances);
+            this.pooled = pooled ? contextInstances : null;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
@@ -297,6 +351,30 @@ public abstract class CurrentManagedContext implements ManagedContext {
             return BEFORE_DESTROYED_FIRED.compareAndSet(this, FALSE, TRUE);
         }
 
+        void activated() {
+            ACTIVATIONS.getAndAdd(this, 1);
+        }
+
+        /**
+         * @return the instances to be released if the state was destroyed and this was the last activation, {@code null}
+         *         otherwise
+         */
+        ContextInstances deactivated() {
+            return (int) ACTIVATIONS.getAndAdd(this, -1) == DESTROYED + 1 ? takePooled() : null;
+        }
+
+        /**
+         * @return the instances to be released if the state is not active, {@code null} otherwise
+         */
+        ContextInstances destroyed() {
+            return (int) ACTIVATIONS.getAndAdd(this, DESTROYED) == 0 ? takePooled() : null;
+        }
+
+        private ContextInstances takePooled() {
+            // a destroyed state may be activated again, i.e. the instances must be released at most once
+            return (ContextInstances) POOLED.getAndSet(this, null);
+        }
+
     }
 
 }
@@ -0,0 +1,164 @@
+package io.quarkus.arc.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * Dependent instances of a {@link CreationalContextImpl}.
+ * <p>
+ * The handles are kept in insertion order. Additionally, the position of each handle is indexed by the identity of the
+ * instance so that a dependent instance can be removed in constant time. A removed handle leaves an empty slot behind; the
+ * slots are compacted once there are more empty slots than handles.
+ * <p>
+ * A handle that is not initialized yet, e.g. a lazy handle, is added with the {@link #UNRESOLVED} instance. Such a handle is
+ * not indexed and it is only initialized if no indexed handle matches the instance to be removed.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class DependentInstances {
+
+    // compaction is not worth it for small lists
+    private static final int COMPACTION_THRESHOLD = 16;
+
+    /**
+     * Represents the instance of a handle that should not be initialized when added.
+     */
+    static final Object UNRESOLVED = new Object();
+
+    // a removed handle is replaced with null
+    private final List<InstanceHandle<?>> handles;
+    private final List<Object> instances;
+    // instance -> position of the first handle for the instance
+    private final Map<Object, Integer> index;
+    private int size;
+    private int removed;
+    // the number of handles that are not indexed because the same instance was added multiple times
+    private int unindexed;
+    // the number of handles added with the UNRESOLVED instance
+    private int unresolved;
+
+    DependentInstances() {
+        this.handles = new ArrayList<>();
+        this.instances = new ArrayList<>();
+        this.index = new IdentityHashMap<>();
+    }
+
+    void add(Object instance, InstanceHandle<?> handle) {
+        int position = handles.size();
+        handles.add(handle);
+        instances.add(instance);
+        if (instance == UNRESOLVED) {
+            unresolved++;
+        } else if (index.putIfAbsent(instance, position) != null) {
+            unindexed++;
+        }
+        size++;
+    }
+
+    /**
+     *
+     * @param instance
+     * @return the removed handle or {@code null} if no handle exists for the given instance
+     */
+    InstanceHandle<?> remove(Object instance) {
+        Integer position = index.remove(instance);
+        if (position == null) {
+            // the first handle for the instance was removed already; a duplicate may still be present
+            int found = unindexed > 0 ? find(instance, 0) : -1;
+            if (found != -1) {
+                unindexed--;
+            } else if (unresolved > 0 && (found = findUnresolved(instance)) != -1) {
+                unresolved--;
+            } else {
+                return null;
+            }
+            InstanceHandle<?> handle = removeAt(found);
+            compactIfNeeded();
+            return handle;
+        }
+        InstanceHandle<?> handle = removeAt(position);
+        if (unindexed > 0) {
+            int duplicate = find(instance, position + 1);
+            if (duplicate != -1) {
+                index.put(instance, duplicate);
+                unindexed--;
+            }
+        }
+        compactIfNeeded();
+        return handle;
+    }
+
+    void forEach(Consumer<InstanceHandle<?>> action) {
+        for (InstanceHandle<?> handle : handles) {
+            if (handle != null) {
+                action.accept(handle);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private InstanceHandle<?> removeAt(int position) {
+        InstanceHandle<?> handle = handles.set(position, null);
+        instances.set(position, null);
+        size--;
+        removed++;
+        return handle;
+    }
+
+    private int find(Object instance, int from) {
+        for (int i = from; i < handles.size(); i++) {
+            // The reference equality is used on purpose!
+            if (handles.get(i) != null && instances.get(i) == instance) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int findUnresolved(Object instance) {
+        for (int i = 0; i < handles.size(); i++) {
+            InstanceHandle<?> handle = handles.get(i);
+            // The reference equality is used on purpose!
+            if (handle != null && instances.get(i) == UNRESOLVED && handle.get() == instance) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void compactIfNeeded() {
+        if (removed < COMPACTION_THRESHOLD || removed < size) {
+            return;
+        }
+        int position = 0;
+        index.clear();
+        for (int i = 0; i < handles.size(); i++) {
+            InstanceHandle<?> handle = handles.get(i);
+            if (handle != null) {
+                Object instance = instances.get(i);
+                handles.set(position, handle);
+                instances.set(position, instance);
+                if (instance != UNRESOLVED) {
+                    index.putIfAbsent(instance, position);
+                }
+                position++;
+            }
+        }
+        handles.subList(position, handles.size()).clear();
+        instances.subList(position, instances.size()).clear();
+        removed = 0;
+    }
+
+}
@@ -42,6 +42,7 @@ import jakarta.transaction.TransactionManager;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
@@ -57,19 +58,19 @@ class EventImpl<T> implements Event<T> {
     private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
     private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
     private final InjectionPoint injectionPoint;
 
     private transient volatile Notifier<? super T> lastNotifier;
+    // only needed if the runtime type of an event contains a type variable
+    private transient volatile HierarchyDiscovery injectionPointTypeHierarchy;
 
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint) {
         this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = Set.copyOf(qualifiers);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
         this.injectionPoint = injectionPoint;
@@ -102,6 +103,10 @@ class EventImpl<T> implements Event<T> {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (notifier.asyncObserverMethods.size() > 1 && isParallel(options)) {
+            return fireAsyncParallel(notifier, event, executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -118,6 +123,41 @@ class EventImpl<T> implements Event<T> {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private <U extends T> CompletionStage<U> fireAsyncParallel(Notifier<U> notifier, U event, Executor executor) {
+        // Async observers are notified in parallel - the collection must be synchronized
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                Collections.synchronizedList(new ArrayList<>()),
+                Arc.container().instance(AsyncObserverExceptionHandler.class).get());
+        List<ObserverMethod<? super U>> observerMethods = notifier.asyncObserverMethods;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[observerMethods.size()];
+        for (int i = 0; i < futures.length; i++) {
+            ObserverMethod<? super U> observerMethod = observerMethods.get(i);
+            futures[i] = CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    notifier.notifyAsync(observerMethod, event, exceptionHandler);
+                }
+            }, executor);
+        }
+        // Exceptions are collected by the handler, i.e. the futures always complete normally
+        CompletableFuture<U> completableFuture = CompletableFuture.allOf(futures).thenApply(new Function<Void, U>() {
+            @Override
+            public U apply(Void ignored) {
+                handleExceptions(exceptionHandler);
+                return event;
+            }
+        });
+        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+    }
+
+    private static boolean isParallel(NotificationOptions options) {
+        Object value = options.get(ArcNotificationOptions.PARALLEL_ASYNC_OBSERVERS);
+        if (value == null) {
+            return ArcContainerImpl.instance().isParallelAsyncObservers();
+        }
+        return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString());
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -175,6 +215,7 @@ class EventImpl<T> implements Event<T> {
                 injectionPoint);
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container, boolean activateRequestContext, InjectionPoint injectionPoint) {
         // all events should have `@Any` qualifiers
@@ -185,8 +226,9 @@ class EventImpl<T> implements Event<T> {
         }
         normalizedQualifiers.add(Any.Literal.INSTANCE);
         EventMetadata metadata = new EventMetadataImpl(normalizedQualifiers, eventType, injectionPoint);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
-                container.resolveObserverMethods(eventType, normalizedQualifiers));
+        // the resolved list is cached by the container and immutable, no need to copy it
+        List<ObserverMethod<? super T>> notifierObserverMethods = (List) container.resolveObserverMethods(eventType,
+                normalizedQualifiers);
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
     }
 
@@ -200,6 +242,14 @@ class EventImpl<T> implements Event<T> {
         return type;
     }
 
+    private HierarchyDiscovery getInjectionPointTypeHierarchy() {
+        HierarchyDiscovery hierarchy = injectionPointTypeHierarchy;
+        if (hierarchy == null) {
+            hierarchy = injectionPointTypeHierarchy = new HierarchyDiscovery(eventType);
+        }
+        return hierarchy;
+    }
+
     private Type getEventType(Class<?> runtimeType) {
         Type resolvedType = runtimeType;
         if (Types.containsTypeVariable(resolvedType)) {
@@ -208,7 +258,7 @@ class EventImpl<T> implements Event<T> {
              * infer the parameterized type of
              * the event types.
              */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+            resolvedType = getInjectionPointTypeHierarchy().resolveType(resolvedType);
         }
         if (Types.containsTypeVariable(resolvedType)) {
             /*
@@ -218,7 +268,7 @@ class EventImpl<T> implements Event<T> {
              */
             Type canonicalEventType = Types.getCanonicalType(runtimeType);
             TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
-                    injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
+                    getInjectionPointTypeHierarchy().getResolver().getResolvedTypeVariables(),
                     new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
             resolvedType = objectTypeResolver.resolveType(canonicalEventType);
         }
@@ -254,6 +304,8 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // only used if async observers are notified in parallel
+        final List<ObserverMethod<? super T>> asyncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -268,13 +320,20 @@ class EventImpl<T> implements Event<T> {
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
             boolean hasTxObservers = false;
+            List<ObserverMethod<? super T>> asyncObserverMethods = null;
             for (var method : observerMethods) {
                 if (isTxObserver(method)) {
                     hasTxObservers = true;
-                    break;
+                }
+                if (method.isAsync()) {
+                    if (asyncObserverMethods == null) {
+                        asyncObserverMethods = new ArrayList<>();
+                    }
+                    asyncObserverMethods.add(method);
                 }
             }
             this.hasTxObservers = hasTxObservers;
+            this.asyncObserverMethods = asyncObserverMethods != null ? List.copyOf(asyncObserverMethods) : List.of();
             this.activateRequestContext = activateRequestContext;
         }
 
@@ -336,28 +395,40 @@ class EventImpl<T> implements Event<T> {
                 }
 
                 // Non-tx observers notifications
-                // req. context is activated if not in strict mode and not for lifecycle events such as init/shutdown
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.container().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
-                        }
-                    }
+                notifyObservers(event, exceptionHandler, predicate, observerMethods);
+            }
+        }
+
+        /**
+         * Notifies a single async observer method; used if async observers are notified in parallel.
+         */
+        void notifyAsync(ObserverMethod<? super T> observerMethod, T event, ObserverExceptionHandler exceptionHandler) {
+            notifyObservers(event, exceptionHandler, ObserverMethodIsAsync.INSTANCE, List.of(observerMethod));
+        }
+
+        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
+                Predicate<ObserverMethod<?>> predicate, List<ObserverMethod<? super T>> observerMethods) {
+            // req. context is activated if not in strict mode and not for lifecycle events such as init/shutdown
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    doNotifyObservers(event, exceptionHandler, predicate, observerMethods);
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    try {
+                        requestContext.activate();
+                        doNotifyObservers(event, exceptionHandler, predicate, observerMethods);
+                    } finally {
+                        requestContext.terminate();
+                    }
                 }
+            } else {
+                doNotifyObservers(event, exceptionHandler, predicate, observerMethods);
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
-        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<?>> predicate) {
+        private void doNotifyObservers(T event, ObserverExceptionHandler exceptionHandler,
+                Predicate<ObserverMethod<?>> predicate, List<ObserverMethod<? super T>> observerMethods) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
             for (ObserverMethod<?> observerMethod : observerMethods) {
                 if (predicate.test(observerMethod)) {
@@ -16,7 +16,7 @@ import io.quarkus.arc.ArcInvocationContext;
  * in one class and its superclasses. It doesn't proceed to other interceptors in the "outer" invocation
  * chain (interceptor methods declared in other classes).
  */
-abstract class InnerInvocationContext implements ArcInvocationContext {
+abstract class InnerInvocationContext implements ArcInvocationContext, ReactiveTypeAware {
 
     protected final ArcInvocationContext delegate;
     protected Object[] parameters;
@@ -35,6 +35,11 @@ abstract class InnerInvocationContext implements ArcInvocationContext {
         return delegate.getMethod();
     }
 
+    @Override
+    public ReactiveType getReactiveType() {
+        return ReactiveType.of(delegate);
+    }
+
     @Override
     public Object[] getParameters() {
         if (parameters == null) {
@@ -72,6 +77,16 @@ abstract class InnerInvocationContext implements ArcInvocationContext {
         return delegate.getContextData();
     }
 
+    @Override
+    public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
+        return delegate.getInterceptorBinding(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> Set<T> getInterceptorBindings(Class<T> annotationType) {
+        return delegate.getInterceptorBindings(annotationType);
+    }
+
     @Override
     public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
         return delegate.findIterceptorBinding(annotationType);
@@ -89,7 +104,7 @@ abstract class InnerInvocationContext implements ArcInvocationContext {
 
     protected abstract Object proceed(int currentPosition) throws Exception;
 
-    class NextInnerInvocationContext implements ArcInvocationContext {
+    class NextInnerInvocationContext implements ArcInvocationContext, ReactiveTypeAware {
 
         private final int position;
         protected Object[] parameters;
@@ -119,6 +134,11 @@ abstract class InnerInvocationContext implements ArcInvocationContext {
             return InnerInvocationContext.this.getMethod();
         }
 
+        @Override
+        public ReactiveType getReactiveType() {
+            return InnerInvocationContext.this.getReactiveType();
+        }
+
         @Override
         public Constructor<?> getConstructor() {
             return InnerInvocationContext.this.getConstructor();
@@ -145,6 +165,16 @@ abstract class InnerInvocationContext implements ArcInvocationContext {
             return InnerInvocationContext.this.getInterceptorBindings();
         }
 
+        @Override
+        public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
+            return InnerInvocationContext.this.getInterceptorBinding(annotationType);
+        }
+
+        @Override
+        public <T extends Annotation> Set<T> getInterceptorBindings(Class<T> annotationType) {
+            return InnerInvocationContext.this.getInterceptorBindings(annotationType);
+        }
+
         @Override
         public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
             return InnerInvocationContext.this.findIterceptorBinding(annotationType);
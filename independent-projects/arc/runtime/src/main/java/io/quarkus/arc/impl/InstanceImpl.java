@@ -152,6 +152,8 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
     private final boolean isTransient;
 
     private final boolean resetCurrentInjectionPoint;
+    // Lazily initialized; InjectionPointImpl is immutable so a racy initialization is safe
+    private InjectionPoint injectionPoint;
 
     private final LazyValue<T> cachedGetResult;
 
@@ -264,8 +266,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
             public H get() {
                 InjectionPoint prev = null;
                 if (resetCurrentInjectionPoint) {
-                    prev = InjectionPointProvider.setCurrent(context, new InjectionPointImpl(injectionPointType, requiredType,
-                            requiredQualifiers, targetBean, annotations, javaMember, position, isTransient));
+                    prev = InjectionPointProvider.setCurrent(context, injectionPoint());
                 }
                 try {
                     return bean.get(context);
@@ -317,8 +318,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         CreationalContextImpl<T> ctx = creationalContext.child(bean);
         InjectionPoint prev = null;
         if (resetCurrentInjectionPoint) {
-            prev = InjectionPointProvider.setCurrent(ctx, new InjectionPointImpl(injectionPointType, requiredType,
-                    requiredQualifiers, targetBean, annotations, javaMember, position, isTransient));
+            prev = InjectionPointProvider.setCurrent(ctx, injectionPoint());
         }
         T instance;
         try {
@@ -331,6 +331,16 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         return instance;
     }
 
+    private InjectionPoint injectionPoint() {
+        InjectionPoint ip = injectionPoint;
+        if (ip == null) {
+            ip = new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean, annotations,
+                    javaMember, position, isTransient);
+            injectionPoint = ip;
+        }
+        return ip;
+    }
+
     private List<InjectableBean<?>> beans() {
         return resolvedBeans != null ? resolvedBeans : resolve();
     }
@@ -37,16 +37,8 @@ public final class Instances {
     }
 
     public static List<InjectableBean<?>> resolveBeans(Type requiredType, Annotation... requiredQualifiers) {
-        Set<InjectableBean<?>> resolvedBeans = ArcContainerImpl.instance()
-                .getResolvedBeans(requiredType, requiredQualifiers);
-        List<InjectableBean<?>> nonSuppressed = new ArrayList<>(resolvedBeans.size());
-        for (InjectableBean<?> injectableBean : resolvedBeans) {
-            if (!injectableBean.isSuppressed()) {
-                nonSuppressed.add(injectableBean);
-            }
-        }
-        nonSuppressed.sort(PRIORITY_COMPARATOR);
-        return List.copyOf(nonSuppressed);
+        // the result is cached by the container
+        return ArcContainerImpl.instance().getResolvedBeansByPriority(requiredType, requiredQualifiers);
     }
 
     private static List<InjectableBean<?>> resolveAllBeans(Type requiredType, Set<Annotation> requiredQualifiers) {
@@ -57,7 +49,6 @@ public final class Instances {
         return resolveBeans(requiredType, requiredQualifiers.toArray(EMPTY_ANNOTATION_ARRAY));
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> List<T> listOf(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType,
             Set<Annotation> requiredQualifiers,
             CreationalContext<T> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
@@ -66,9 +57,15 @@ public final class Instances {
         if (beans.isEmpty()) {
             return Collections.emptyList();
         }
+        return listOf(beans, new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean,
+                annotations, javaMember, position, isTransient), creationalContext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> listOf(List<InjectableBean<?>> beans, InjectionPoint injectionPoint,
+            CreationalContext<T> creationalContext) {
         List<T> list = new ArrayList<>(beans.size());
-        InjectionPoint prev = InjectionPointProvider.setCurrent(creationalContext, new InjectionPointImpl(injectionPointType,
-                requiredType, requiredQualifiers, targetBean, annotations, javaMember, position, isTransient));
+        InjectionPoint prev = InjectionPointProvider.setCurrent(creationalContext, injectionPoint);
         try {
             for (InjectableBean<?> bean : beans) {
                 list.add(getBeanInstance(CreationalContextImpl.unwrap(creationalContext), (InjectableBean<T>) bean));
@@ -85,10 +82,19 @@ public final class Instances {
             CreationalContext<T> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
             boolean isTransient) {
         Supplier<InjectionPoint> supplier = new Supplier<InjectionPoint>() {
+
+            // The metadata is shared by all handles
+            private InjectionPoint injectionPoint;
+
             @Override
             public InjectionPoint get() {
-                return new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean,
-                        annotations, javaMember, position, isTransient);
+                InjectionPoint ip = injectionPoint;
+                if (ip == null) {
+                    ip = new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean,
+                            annotations, javaMember, position, isTransient);
+                    injectionPoint = ip;
+                }
+                return ip;
             }
         };
         return listOfHandles(supplier, requiredType, requiredQualifiers, creationalContext);
@@ -17,6 +17,12 @@ public class InterceptedMethodMetadata {
     public final Method method;
     public final Set<Annotation> bindings;
     public final BiFunction<Object, InvocationContext, Object> aroundInvokeForward;
+    // the chain as an array; used by SynchronousAroundInvokeInvocationContext
+    final InterceptorInvocation[] interceptors;
+    // the reactive type is computed once per intercepted method
+    final ReactiveType reactiveType;
+    // used to look up a binding of a specific type; the generated subclasses pass an InterceptorBindingSet
+    final InterceptorBindingSet bindingIndex;
 
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
             BiFunction<Object, InvocationContext, Object> aroundInvokeForward) {
@@ -24,6 +30,9 @@ public class InterceptedMethodMetadata {
         this.method = method;
         this.bindings = bindings;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.interceptors = chain.toArray(new InterceptorInvocation[0]);
+        this.reactiveType = method != null ? ReactiveType.valueOf(method) : ReactiveType.NON_REACTIVE;
+        this.bindingIndex = InterceptorBindingSet.from(bindings);
     }
 
 }
@@ -0,0 +1,180 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable set of interceptor bindings of an intercepted method.
+ * <p>
+ * The annotation types of the bindings are computed when the set is created so that an interceptor can look up a binding
+ * of a given type without iterating over the set and calling {@link Annotation#annotationType()} for each element.
+ */
+public final class InterceptorBindingSet extends AbstractSet<Annotation> {
+
+    private static final Annotation[] EMPTY = new Annotation[0];
+
+    /**
+     * Duplicate elements are ignored.
+     *
+     * @return a new set of interceptor bindings
+     */
+    public static Set<Annotation> of(Annotation... bindings) {
+        return new InterceptorBindingSet(bindings);
+    }
+
+    static InterceptorBindingSet from(Set<Annotation> bindings) {
+        if (bindings instanceof InterceptorBindingSet) {
+            return (InterceptorBindingSet) bindings;
+        }
+        return new InterceptorBindingSet(bindings.toArray(EMPTY));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Annotation> T find(Set<Annotation> bindings, Class<T> annotationType) {
+        if (bindings instanceof InterceptorBindingSet) {
+            return ((InterceptorBindingSet) bindings).find(annotationType);
+        }
+        for (Annotation annotation : bindings) {
+            if (annotation.annotationType().equals(annotationType)) {
+                return (T) annotation;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Annotation> List<T> findAll(Set<Annotation> bindings, Class<T> annotationType) {
+        if (bindings instanceof InterceptorBindingSet) {
+            return ((InterceptorBindingSet) bindings).findAll(annotationType);
+        }
+        List<T> found = new ArrayList<>();
+        for (Annotation annotation : bindings) {
+            if (annotation.annotationType().equals(annotationType)) {
+                found.add((T) annotation);
+            }
+        }
+        return found;
+    }
+
+    private final Annotation[] bindings;
+    // annotation types of the bindings; types[i] == bindings[i].annotationType()
+    private final Class<?>[] types;
+    // true if a repeatable interceptor binding is declared more than once
+    private final boolean repeated;
+
+    private InterceptorBindingSet(Annotation[] bindings) {
+        Annotation[] distinct = new Annotation[bindings.length];
+        int size = 0;
+        for (Annotation binding : bindings) {
+            if (indexOf(distinct, size, binding) < 0) {
+                distinct[size++] = binding;
+            }
+        }
+        this.bindings = size == distinct.length ? distinct : Arrays.copyOf(distinct, size);
+        this.types = new Class<?>[size];
+        boolean repeated = false;
+        for (int i = 0; i < size; i++) {
+            Class<?> type = this.bindings[i].annotationType();
+            for (int j = 0; j < i; j++) {
+                if (types[j] == type) {
+                    repeated = true;
+                    break;
+                }
+            }
+            types[i] = type;
+        }
+        this.repeated = repeated;
+    }
+
+    private static int indexOf(Annotation[] bindings, int size, Annotation binding) {
+        for (int i = 0; i < size; i++) {
+            if (bindings[i].equals(binding)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     *
+     * @return the first binding of the given type, or {@code null} if no such binding exists
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Annotation> T find(Class<T> annotationType) {
+        // There are usually only a few bindings; a scan of the types is cheaper than a hash lookup
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == annotationType) {
+                return (T) bindings[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     *
+     * @return a new mutable list of all bindings of the given type
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Annotation> List<T> findAll(Class<T> annotationType) {
+        List<T> found = new ArrayList<>(repeated ? 4 : 1);
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == annotationType) {
+                found.add((T) bindings[i]);
+                if (!repeated) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     *
+     * @return an immutable set of all bindings of the given type
+     */
+    <T extends Annotation> Set<T> findAllAsSet(Class<T> annotationType) {
+        if (!repeated) {
+            T found = find(annotationType);
+            return found != null ? Set.of(found) : Set.of();
+        }
+        return Set.copyOf(findAll(annotationType));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Annotation && indexOf(bindings, bindings.length, (Annotation) o) >= 0;
+    }
+
+    @Override
+    public Iterator<Annotation> iterator() {
+        return new Iterator<Annotation>() {
+
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return position < bindings.length;
+            }
+
+            @Override
+            public Annotation next() {
+                if (position >= bindings.length) {
+                    throw new NoSuchElementException();
+                }
+                return bindings[position++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return bindings.length;
+    }
+
+}
@@ -27,6 +27,21 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, args, metadata);
     }
 
+    /**
+     * Unlike {@link #performAroundInvoke(Object, Object[], InterceptedMethodMetadata)}, a single invocation context is shared
+     * by all interceptors in the chain. An interceptor must not resume the chain asynchronously.
+     *
+     * @param target
+     * @param args
+     * @param metadata
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performSynchronousAroundInvoke(Object target, Object[] args, InterceptedMethodMetadata metadata)
+            throws Exception {
+        return SynchronousAroundInvokeInvocationContext.perform(target, args, metadata);
+    }
+
     /**
      *
      * @param delegate
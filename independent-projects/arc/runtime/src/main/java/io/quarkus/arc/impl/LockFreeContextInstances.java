@@ -0,0 +1,175 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * Static helpers used by the lock-free {@link ContextInstances} generated for optimized contexts.
+ * <p>
+ * Every bean has a single slot, i.e. a volatile field accessed through a {@link VarHandle}. The slot either holds
+ * {@code null}, a {@link ContextInstanceHandle} or a lightweight marker that indicates an instance is under construction.
+ * The thread that installs the marker creates the instance; other threads spin for a while and then park until the
+ * construction is finished. Therefore, a bean instance is created at most once per context.
+ */
+public final class LockFreeContextInstances {
+
+    private static final int SPINS = 64;
+
+    private LockFreeContextInstances() {
+    }
+
+    /**
+     *
+     * @param value the value of a slot
+     * @return the instance handle, or {@code null} if the slot is empty or the instance is under construction
+     */
+    public static ContextInstanceHandle<?> handle(Object value) {
+        return value instanceof ContextInstanceHandle ? (ContextInstanceHandle<?>) value : null;
+    }
+
+    /**
+     *
+     * @param instances
+     * @param slot
+     * @param supplier
+     * @return the instance handle
+     */
+    public static ContextInstanceHandle<?> computeIfAbsent(Object instances, VarHandle slot,
+            Supplier<ContextInstanceHandle<?>> supplier) {
+        Construction construction = null;
+        for (;;) {
+            Object value = slot.getVolatile(instances);
+            if (value instanceof ContextInstanceHandle) {
+                return (ContextInstanceHandle<?>) value;
+            }
+            if (value == null) {
+                if (construction == null) {
+                    construction = new Construction(Thread.currentThread());
+                }
+                if (slot.compareAndSet(instances, null, construction)) {
+                    return construct(instances, slot, supplier, construction);
+                }
+            } else {
+                Construction other = (Construction) value;
+                if (other.owner == Thread.currentThread()) {
+                    // Reentrant call during construction - the instance is created again and the slot is overwritten
+                    // once the outer construction finishes; this mirrors the behavior of the lock-based strategy
+                    ContextInstanceHandle<?> handle = supplier.get();
+                    slot.setVolatile(instances, handle);
+                    return handle;
+                }
+                other.await();
+            }
+        }
+    }
+
+    /**
+     *
+     * @param instances
+     * @param slot
+     * @return the removed instance handle, or {@code null}
+     */
+    public static ContextInstanceHandle<?> remove(Object instances, VarHandle slot) {
+        for (;;) {
+            Object value = slot.getVolatile(instances);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof ContextInstanceHandle) {
+                if (slot.compareAndSet(instances, value, null)) {
+                    return (ContextInstanceHandle<?>) value;
+                }
+            } else {
+                Construction construction = (Construction) value;
+                if (construction.owner == Thread.currentThread()) {
+                    // The instance is not created yet
+                    return null;
+                }
+                construction.await();
+            }
+        }
+    }
+
+    private static ContextInstanceHandle<?> construct(Object instances, VarHandle slot,
+            Supplier<ContextInstanceHandle<?>> supplier, Construction construction) {
+        try {
+            ContextInstanceHandle<?> handle = supplier.get();
+            // a reentrant call may have set the slot in the meantime
+            slot.setVolatile(instances, handle);
+            return handle;
+        } catch (Throwable t) {
+            // make it possible to retry
+            slot.compareAndSet(instances, construction, null);
+            throw t;
+        } finally {
+            construction.complete();
+        }
+    }
+
+    static final class Construction {
+
+        private static final VarHandle WAITERS;
+
+        static {
+            try {
+                WAITERS = MethodHandles.lookup().findVarHandle(Construction.class, "waiters", Waiter.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final Thread owner;
+        private volatile boolean done;
+        // a stack of parked threads
+        private volatile Waiter waiters;
+
+        Construction(Thread owner) {
+            this.owner = owner;
+        }
+
+        void await() {
+            for (int i = 0; i < SPINS; i++) {
+                if (done) {
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+            Waiter waiter = new Waiter(Thread.currentThread());
+            Waiter head;
+            do {
+                head = waiters;
+                waiter.next = head;
+            } while (!WAITERS.compareAndSet(this, head, waiter));
+            // done is set before the waiters are unparked so the construction cannot finish unnoticed
+            while (!done) {
+                LockSupport.park(this);
+            }
+        }
+
+        void complete() {
+            done = true;
+            Waiter waiter = (Waiter) WAITERS.getAndSet(this, null);
+            while (waiter != null) {
+                LockSupport.unpark(waiter.thread);
+                waiter = waiter.next;
+            }
+        }
+
+    }
+
+    static final class Waiter {
+
+        final Thread thread;
+        Waiter next;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+
+    }
+
+}
@@ -2,8 +2,15 @@ package io.quarkus.arc.impl;
 
 import static jakarta.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import jakarta.annotation.Priority;
 import jakarta.interceptor.AroundInvoke;
@@ -13,25 +20,56 @@ import jakarta.interceptor.InvocationContext;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 @Lock
 @Interceptor
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockInterceptor, ConcurrentMap> GROUPS_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(LockInterceptor.class, ConcurrentMap.class, "groups");
 
-    // This lock is used exclusively to synchronize the block where we release all read locks and aquire the write lock
-    private final ReentrantLock rl = new ReentrantLock();
+    // the lock used if no group is specified
+    private final Locks defaultLocks = new Locks();
+
+    // group -> locks; an interceptor instance is only associated with a single bean instance, created lazily
+    private volatile ConcurrentMap<String, Locks> groups;
+
+    // business method -> @Lock binding and the locks of the group
+    private final ConcurrentMap<Method, MethodLock> methods = new ConcurrentHashMap<>();
 
     @AroundInvoke
     Object lock(ArcInvocationContext ctx) throws Exception {
-        Lock lock = getLock(ctx);
+        MethodLock methodLock = getMethodLock(ctx);
+        Lock lock = methodLock.lock;
+        if (lock.async() && lock.value() != Lock.Type.NONE && !methodLock.locks.isHeldByCurrentThread()) {
+            ReactiveType reactiveType = ReactiveType.of(ctx);
+            if (reactiveType.isReactive()) {
+                // the lock is held until the async computation terminates
+                Locks locks = methodLock.locks;
+                boolean exclusive = lock.value() == Lock.Type.WRITE;
+                switch (reactiveType) {
+                    case UNI:
+                        return invokeUni(locks, exclusive, lock, ctx);
+                    case MULTI:
+                        return invokeMulti(locks, exclusive, lock, ctx);
+                    case STAGE:
+                        return invokeStage(locks, exclusive, lock, ctx);
+                    default:
+                        throw new LockException("Unsupported reactive type found on business method " + ctx.getMethod());
+                }
+            }
+        }
         switch (lock.value()) {
             case WRITE:
-                return writeLock(lock, ctx);
+                return methodLock.locks.writeLock(lock, ctx);
             case READ:
-                return readLock(lock, ctx);
+                return methodLock.locks.readLock(lock, ctx);
+            case OPTIMISTIC_READ:
+                return methodLock.locks.optimisticRead(lock, ctx);
             case NONE:
                 return ctx.proceed();
             default:
@@ -39,78 +77,257 @@ public class LockInterceptor {
         }
     }
 
-    private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
-        long time = lock.time();
-        int readHoldCount = rwl.getReadHoldCount();
-        boolean locked = false;
+    private Uni<?> invokeUni(Locks locks, boolean exclusive, Lock lock, InvocationContext ctx) {
+        return Uni.createFrom().deferred(() -> {
+            AsyncLock.Permit permit = locks.asyncLock().acquire(exclusive, lock.time(), lock.unit());
+            return Uni.createFrom().completionStage(permit.granted())
+                    .chain(() -> proceedWithUni(locks, exclusive, lock, ctx))
+                    .onTermination().invoke(permit::release);
+        });
+    }
+
+    private Uni<?> proceedWithUni(Locks locks, boolean exclusive, Lock lock, InvocationContext ctx) {
+        try {
+            return (Uni<?>) locks.proceed(exclusive, lock, ctx);
+        } catch (Throwable t) {
+            return Uni.createFrom().failure(t);
+        }
+    }
+
+    private Multi<?> invokeMulti(Locks locks, boolean exclusive, Lock lock, InvocationContext ctx) {
+        return Multi.createFrom().deferred(() -> {
+            AsyncLock.Permit permit = locks.asyncLock().acquire(exclusive, lock.time(), lock.unit());
+            return Uni.createFrom().completionStage(permit.granted())
+                    .onItem().transformToMulti(ignored -> proceedWithMulti(locks, exclusive, lock, ctx))
+                    .onTermination().invoke(permit::release);
+        });
+    }
 
+    private Multi<?> proceedWithMulti(Locks locks, boolean exclusive, Lock lock, InvocationContext ctx) {
         try {
-            if (readHoldCount > 0) {
-                rl.lock();
+            return (Multi<?>) locks.proceed(exclusive, lock, ctx);
+        } catch (Throwable t) {
+            return Multi.createFrom().failure(t);
+        }
+    }
+
+    private CompletionStage<?> invokeStage(Locks locks, boolean exclusive, Lock lock, InvocationContext ctx) {
+        AsyncLock.Permit permit = locks.asyncLock().acquire(exclusive, lock.time(), lock.unit());
+        return permit.granted()
+                .thenCompose(ignored -> proceedWithStage(locks, exclusive, lock, ctx))
+                .whenComplete((r, t) -> permit.release());
+    }
+
+    private CompletionStage<?> proceedWithStage(Locks locks, boolean exclusive, Lock lock, InvocationContext ctx) {
+        try {
+            return (CompletionStage<?>) locks.proceed(exclusive, lock, ctx);
+        } catch (Throwable t) {
+            return CompletableFuture.failedStage(t);
+        }
+    }
+
+    private MethodLock getMethodLock(ArcInvocationContext ctx) {
+        Method method = ctx.getMethod();
+        if (method == null) {
+            return newMethodLock(ctx);
+        }
+        // The binding is resolved once per business method
+        MethodLock methodLock = methods.get(method);
+        if (methodLock == null) {
+            methodLock = newMethodLock(ctx);
+            MethodLock existing = methods.putIfAbsent(method, methodLock);
+            if (existing != null) {
+                methodLock = existing;
             }
+        }
+        return methodLock;
+    }
+
+    private MethodLock newMethodLock(ArcInvocationContext ctx) {
+        Lock lock = ctx.findIterceptorBinding(Lock.class);
+        if (lock == null) {
+            // This should never happen
+            throw new LockException("@Lock binding not found on business method " + ctx.getMethod());
+        }
+        String group = lock.group();
+        return new MethodLock(lock, group.isEmpty() ? defaultLocks : groups().computeIfAbsent(group, g -> new Locks()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<String, Locks> groups() {
+        ConcurrentMap<String, Locks> groups = this.groups;
+        if (groups == null) {
+            ConcurrentMap<String, Locks> newGroups = new ConcurrentHashMap<>();
+            groups = GROUPS_UPDATER.compareAndSet(this, null, newGroups) ? newGroups : this.groups;
+        }
+        return groups;
+    }
+
+    private static final class MethodLock {
+
+        final Lock lock;
+        final Locks locks;
+
+        MethodLock(Lock lock, Locks locks) {
+            this.lock = lock;
+            this.locks = locks;
+        }
+
+    }
+
+    /**
+     * The locks of a single lock group.
+     */
+    private static final class Locks {
+
+        private static final AtomicReferenceFieldUpdater<Locks, StampedLock> SL_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(Locks.class, StampedLock.class, "sl");
+        private static final AtomicReferenceFieldUpdater<Locks, AsyncLock> ASYNC_LOCK_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(Locks.class, AsyncLock.class, "asyncLock");
+
+        private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
+
+        // The stamp is only modified by a thread that holds the write lock of rwl, i.e. the lock is never contended
+        // It's used to validate the optimistic reads and it's only created if an optimistic read is performed
+        private volatile StampedLock sl;
+
+        // This lock is used exclusively to synchronize the block where we release all read locks and aquire the write lock
+        private final ReentrantLock rl = new ReentrantLock();
+
+        // Used for business methods that return a reactive type, see Lock#async(); created lazily
+        private volatile AsyncLock asyncLock;
+
+        AsyncLock asyncLock() {
+            AsyncLock asyncLock = this.asyncLock;
+            if (asyncLock == null) {
+                AsyncLock newLock = new AsyncLock();
+                asyncLock = ASYNC_LOCK_UPDATER.compareAndSet(this, null, newLock) ? newLock : this.asyncLock;
+            }
+            return asyncLock;
+        }
+
+        boolean isHeldByCurrentThread() {
+            return rwl.isWriteLockedByCurrentThread() || rwl.getReadHoldCount() > 0;
+        }
+
+        // The invocation of an async business method is guarded by the read/write lock as well
+        Object proceed(boolean exclusive, Lock lock, InvocationContext ctx) throws Exception {
+            return exclusive ? writeLock(lock, ctx) : readLock(lock, ctx);
+        }
+
+        Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
+            long time = lock.time();
+            int readHoldCount = rwl.getReadHoldCount();
+            boolean locked = false;
+            long stamp = 0;
+
             try {
                 if (readHoldCount > 0) {
-                    // Release all read locks hold by the current thread before acquiring the write lock
-                    for (int i = 0; i < readHoldCount; i++) {
-                        rwl.readLock().unlock();
+                    rl.lock();
+                }
+                try {
+                    if (readHoldCount > 0) {
+                        // Release all read locks hold by the current thread before acquiring the write lock
+                        for (int i = 0; i < readHoldCount; i++) {
+                            rwl.readLock().unlock();
+                        }
                     }
+                    if (time > 0) {
+                        locked = rwl.writeLock().tryLock(time, lock.unit());
+                        if (!locked) {
+                            throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                        }
+                    } else {
+                        rwl.writeLock().lock();
+                        locked = true;
+                    }
+                } finally {
+                    if (readHoldCount > 0) {
+                        rl.unlock();
+                    }
+                }
+                StampedLock sl = this.sl;
+                if (sl != null && rwl.getWriteHoldCount() == 1) {
+                    // Not a nested invocation - invalidate the optimistic reads
+                    stamp = sl.writeLock();
+                }
+                return ctx.proceed();
+            } finally {
+                if (stamp != 0) {
+                    this.sl.unlockWrite(stamp);
                 }
+                if (locked) {
+                    if (readHoldCount > 0) {
+                        // Re-aqcquire the read locks
+                        for (int i = 0; i < readHoldCount; i++) {
+                            rwl.readLock().lock();
+                        }
+                    }
+                    rwl.writeLock().unlock();
+                }
+            }
+        }
+
+        Object readLock(Lock lock, InvocationContext ctx) throws Exception {
+            return readLock(lock, ctx, false);
+        }
+
+        private Object readLock(Lock lock, InvocationContext ctx, boolean initStampedLock) throws Exception {
+            boolean locked = false;
+            long time = lock.time();
+            try {
                 if (time > 0) {
-                    locked = rwl.writeLock().tryLock(time, lock.unit());
+                    locked = rwl.readLock().tryLock(time, lock.unit());
                     if (!locked) {
-                        throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                        throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
                     }
                 } else {
-                    rwl.writeLock().lock();
+                    rwl.readLock().lock();
                     locked = true;
                 }
-            } finally {
-                if (readHoldCount > 0) {
-                    rl.unlock();
+                if (initStampedLock && sl == null) {
+                    SL_UPDATER.compareAndSet(this, null, new StampedLock());
                 }
-            }
-            return ctx.proceed();
-        } finally {
-            if (locked) {
-                if (readHoldCount > 0) {
-                    // Re-aqcquire the read locks
-                    for (int i = 0; i < readHoldCount; i++) {
-                        rwl.readLock().lock();
-                    }
+                return ctx.proceed();
+            } finally {
+                if (locked) {
+                    rwl.readLock().unlock();
                 }
-                rwl.writeLock().unlock();
             }
         }
-    }
 
-    private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
-        try {
-            if (time > 0) {
-                locked = rwl.readLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
-                }
-            } else {
-                rwl.readLock().lock();
-                locked = true;
+        Object optimisticRead(Lock lock, InvocationContext ctx) throws Exception {
+            StampedLock sl = this.sl;
+            if (sl == null) {
+                return firstOptimisticRead(lock, ctx);
             }
-            return ctx.proceed();
-        } finally {
-            if (locked) {
-                rwl.readLock().unlock();
+            // The stamp is zero if the write lock is held
+            long stamp = sl.tryOptimisticRead();
+            if (stamp != 0) {
+                Object result;
+                try {
+                    result = ctx.proceed();
+                } catch (Exception e) {
+                    if (sl.validate(stamp)) {
+                        throw e;
+                    }
+                    // The exception might be caused by a concurrent write
+                    return readLock(lock, ctx);
+                }
+                if (sl.validate(stamp)) {
+                    return result;
+                }
             }
+            return readLock(lock, ctx);
         }
-    }
 
-    Lock getLock(ArcInvocationContext ctx) {
-        Lock lock = ctx.findIterceptorBinding(Lock.class);
-        if (lock == null) {
-            // This should never happen
-            throw new LockException("@Lock binding not found on business method " + ctx.getMethod());
+        private Object firstOptimisticRead(Lock lock, InvocationContext ctx) throws Exception {
+            // The stamped lock is created while holding the read lock and no other thread can hold the write lock,
+            // i.e. every subsequent write invalidates the optimistic reads
+            // If the current thread holds the write lock then the stamped lock is created later
+            return readLock(lock, ctx, !rwl.isWriteLockedByCurrentThread());
         }
-        return lock;
+
     }
 
 }
@@ -0,0 +1,136 @@
+package io.quarkus.arc.impl;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.arc.InjectableObserverMethod;
+
+/**
+ * Narrows down the observer methods that need to be checked during observer resolution.
+ * <p>
+ * The index is generated at build time and maps the raw observed type to the positions of matching observer methods.
+ * Observer methods whose observed type is a type variable, an array, a primitive type or {@link Object} are stored under
+ * the {@link #UNINDEXED} key and are always considered.
+ */
+public final class ObserverDispatchTable {
+
+    /**
+     * The key of observer methods that must be considered for any event type.
+     */
+    public static final String UNINDEXED = "*";
+
+    private final List<InjectableObserverMethod<?>> observers;
+    private final Map<String, int[]> index;
+    private final int[] unindexed;
+
+    private ObserverDispatchTable(List<InjectableObserverMethod<?>> observers, Map<String, int[]> index) {
+        this.observers = observers;
+        int[] unindexed = index.remove(UNINDEXED);
+        this.unindexed = unindexed != null ? unindexed : new int[0];
+        this.index = Map.copyOf(index);
+    }
+
+    /**
+     *
+     * @param eventTypes the type closure of an event type
+     * @return the candidate observer methods in the original order
+     */
+    List<InjectableObserverMethod<?>> getCandidates(Set<Type> eventTypes) {
+        int[] positions = unindexed;
+        int size = unindexed.length;
+        for (Type eventType : eventTypes) {
+            Class<?> rawType = Types.getRawType(eventType);
+            if (rawType == null) {
+                continue;
+            }
+            int[] match = index.get(Types.boxedClass(rawType).getName());
+            if (match != null) {
+                if (positions.length < size + match.length) {
+                    positions = Arrays.copyOf(positions, Math.max(size + match.length, 2 * size));
+                }
+                System.arraycopy(match, 0, positions, size, match.length);
+                size += match.length;
+            }
+        }
+        if (size == 0) {
+            return List.of();
+        }
+        if (positions != unindexed) {
+            // the buckets are disjoint, sorting restores the original order of observers
+            Arrays.sort(positions, 0, size);
+        }
+        List<InjectableObserverMethod<?>> candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            candidates.add(observers.get(positions[i]));
+        }
+        return candidates;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    static final class Builder {
+
+        private final Map<String, int[]> index = new HashMap<>();
+        private int size;
+
+        /**
+         *
+         * @param observers
+         * @param index the generated index or {@code null} if not available; the positions are relative to the given
+         *        collection
+         * @return self
+         */
+        Builder add(Collection<InjectableObserverMethod<?>> observers, Map<String, int[]> index) {
+            int offset = size;
+            size += observers.size();
+            if (index == null || index.isEmpty()) {
+                // no index available, all observers need to be checked
+                int[] positions = new int[observers.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = i;
+                }
+                merge(UNINDEXED, positions, offset);
+            } else {
+                for (Map.Entry<String, int[]> e : index.entrySet()) {
+                    merge(e.getKey(), e.getValue(), offset);
+                }
+            }
+            return this;
+        }
+
+        private void merge(String key, int[] positions, int offset) {
+            if (positions.length == 0) {
+                return;
+            }
+            int[] existing = index.get(key);
+            int start = existing != null ? existing.length : 0;
+            int[] merged = existing != null ? Arrays.copyOf(existing, start + positions.length) : new int[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                merged[start + i] = positions[i] + offset;
+            }
+            index.put(key, merged);
+        }
+
+        /**
+         *
+         * @param observers all observer methods in the order in which they were added to this builder
+         * @return the dispatch table
+         */
+        ObserverDispatchTable build(List<InjectableObserverMethod<?>> observers) {
+            if (observers.size() != size) {
+                throw new IllegalArgumentException("Expected " + size + " observers but got " + observers.size());
+            }
+            return new ObserverDispatchTable(observers, index);
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Compares the binding members of two qualifiers of the same type.
+ * <p>
+ * An implementation is generated for each qualifier that declares at least one binding member. Members annotated with
+ * {@link jakarta.enterprise.util.Nonbinding} and members registered as non-binding via {@code QualifierRegistrar} are
+ * ignored.
+ *
+ * @see Qualifiers
+ */
+public interface QualifierMatcher {
+
+    /**
+     * The matcher used for qualifiers that do not declare any binding member.
+     */
+    QualifierMatcher NO_BINDING_MEMBERS = new QualifierMatcher() {
+        @Override
+        public boolean matches(Annotation required, Annotation candidate) {
+            return true;
+        }
+    };
+
+    /**
+     * Both qualifiers must be of the same annotation type.
+     *
+     * @param required
+     * @param candidate
+     * @return {@code true} if all binding members of the given qualifiers have equal values, {@code false} otherwise
+     */
+    boolean matches(Annotation required, Annotation candidate);
+
+}
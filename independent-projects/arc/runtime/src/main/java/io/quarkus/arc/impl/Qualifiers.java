@@ -25,10 +25,18 @@ public final class Qualifiers {
     final Set<String> allQualifiers;
     // custom qualifier -> non-binding members (can be empty but never null)
     final Map<String, Set<String>> qualifierNonbindingMembers;
+    // qualifier -> matcher generated at build time (can be empty but never null)
+    final Map<String, QualifierMatcher> qualifierMatchers;
 
     Qualifiers(Set<String> qualifiers, Map<String, Set<String>> qualifierNonbindingMembers) {
+        this(qualifiers, qualifierNonbindingMembers, Collections.emptyMap());
+    }
+
+    Qualifiers(Set<String> qualifiers, Map<String, Set<String>> qualifierNonbindingMembers,
+            Map<String, QualifierMatcher> qualifierMatchers) {
         this.allQualifiers = qualifiers;
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
+        this.qualifierMatchers = qualifierMatchers;
     }
 
     boolean isRegistered(Class<? extends Annotation> annotationType) {
@@ -91,6 +99,19 @@ public final class Qualifiers {
     boolean hasQualifier(Iterable<Annotation> qualifiers, Annotation requiredQualifier) {
 
         Class<? extends Annotation> requiredQualifierClass = requiredQualifier.annotationType();
+        QualifierMatcher matcher = qualifierMatchers.isEmpty() ? null
+                : qualifierMatchers.get(requiredQualifierClass.getName());
+        if (matcher != null) {
+            for (Annotation qualifier : qualifiers) {
+                if (qualifier.annotationType().equals(requiredQualifierClass)
+                        && matcher.matches(requiredQualifier, qualifier)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // No generated matcher, e.g. for interceptor bindings - compare the binding members reflectively
         Method[] members = requiredQualifierClass.getDeclaredMethods();
 
         for (Annotation qualifier : qualifiers) {
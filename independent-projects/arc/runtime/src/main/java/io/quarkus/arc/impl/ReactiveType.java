@@ -4,6 +4,8 @@ import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
+import jakarta.interceptor.InvocationContext;
+
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -32,6 +34,9 @@ public enum ReactiveType {
      */
     STAGE(true, CompletionStage.class);
 
+    // values() always returns a new array
+    private static final ReactiveType[] VALUES = values();
+
     private final boolean reactive;
     private final Class<?> type;
 
@@ -44,12 +49,27 @@ public enum ReactiveType {
         return reactive;
     }
 
+    /**
+     * For around invoke interceptors, the value is computed once per intercepted method.
+     *
+     * @param ctx
+     * @return the reactive type of the intercepted method, or {@link #NON_REACTIVE} if there is no method, e.g. for
+     *         lifecycle callback interceptors
+     */
+    public static ReactiveType of(InvocationContext ctx) {
+        if (ctx instanceof ReactiveTypeAware) {
+            return ((ReactiveTypeAware) ctx).getReactiveType();
+        }
+        Method method = ctx.getMethod();
+        return method != null ? valueOf(method) : NON_REACTIVE;
+    }
+
     public static ReactiveType valueOf(Method method) {
         if (Void.class.equals(method.getReturnType())) {
             return NON_REACTIVE;
         }
 
-        for (ReactiveType reactiveType : ReactiveType.values()) {
+        for (ReactiveType reactiveType : VALUES) {
             if (Objects.nonNull(reactiveType.type)
                     && reactiveType.type.isAssignableFrom(method.getReturnType())) {
                 return reactiveType;
@@ -0,0 +1,12 @@
+package io.quarkus.arc.impl;
+
+/**
+ * An invocation context that knows the reactive type of the intercepted method.
+ *
+ * @see ReactiveType#of(jakarta.interceptor.InvocationContext)
+ */
+interface ReactiveTypeAware {
+
+    ReactiveType getReactiveType();
+
+}
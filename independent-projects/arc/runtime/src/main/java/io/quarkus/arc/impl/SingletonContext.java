@@ -23,7 +23,7 @@ class SingletonContext extends AbstractSharedContext {
             }
         }
         if (handle != null) {
-            handle = instances.remove(handle.getBean().getIdentifier());
+            handle = instances.remove(handle.getBean());
             if (handle != null) {
                 handle.destroy();
             }
@@ -0,0 +1,115 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An {@link jakarta.interceptor.InvocationContext} for {@link jakarta.interceptor.AroundInvoke} interceptors that is shared by
+ * all interceptors in the chain.
+ * <p>
+ * Unlike {@link AroundInvokeInvocationContext}, no new instance is created for subsequent interceptors. Instead, the position
+ * in the chain is kept in a field that is restored when {@link #proceed()} returns. Therefore, an interceptor may call
+ * {@link #proceed()} multiple times, but it must not "cut off" the chain and resume it later, possibly on a different thread.
+ * This context is only used for intercepted methods that do not return an asynchronous type.
+ *
+ * @see AroundInvokeInvocationContext
+ */
+class SynchronousAroundInvokeInvocationContext extends AbstractInvocationContext implements ReactiveTypeAware {
+
+    static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
+        SynchronousAroundInvokeInvocationContext ctx = new SynchronousAroundInvokeInvocationContext(target, args, metadata);
+        InterceptorInvocation[] interceptors = metadata.interceptors;
+        if (interceptors.length == 0) {
+            return metadata.aroundInvokeForward.apply(target, ctx);
+        }
+        ctx.position = 1;
+        return interceptors[0].invoke(ctx);
+    }
+
+    private final InterceptedMethodMetadata metadata;
+    private final InterceptorInvocation[] interceptors;
+    // the position of the next interceptor in the chain
+    private int position;
+
+    SynchronousAroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
+        super(target, args, new ContextDataMap(metadata.bindings));
+        this.metadata = metadata;
+        this.interceptors = metadata.interceptors;
+    }
+
+    @Override
+    public Set<Annotation> getInterceptorBindings() {
+        return metadata.bindings;
+    }
+
+    public Method getMethod() {
+        return metadata.method;
+    }
+
+    @Override
+    public ReactiveType getReactiveType() {
+        return metadata.reactiveType;
+    }
+
+    @Override
+    public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
+        return metadata.bindingIndex.find(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> Set<T> getInterceptorBindings(Class<T> annotationType) {
+        return metadata.bindingIndex.findAllAsSet(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> T findIterceptorBinding(Class<T> annotationType) {
+        return metadata.bindingIndex.find(annotationType);
+    }
+
+    @Override
+    public <T extends Annotation> List<T> findIterceptorBindings(Class<T> annotationType) {
+        return metadata.bindingIndex.findAll(annotationType);
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public void setParameters(Object[] params) {
+        validateParameters(metadata.method, params);
+        this.parameters = params;
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        int current = position;
+        try {
+            if (current < interceptors.length) {
+                // Invoke the next interceptor in the chain
+                position = current + 1;
+                return interceptors[current].invoke(this);
+            } else {
+                // Invoke the target method
+                return metadata.aroundInvokeForward.apply(target, this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            // make it possible to proceed again
+            position = current;
+        }
+    }
+
+}
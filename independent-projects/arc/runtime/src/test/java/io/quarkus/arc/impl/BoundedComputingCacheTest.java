@@ -0,0 +1,72 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.CacheEvictionPolicy;
+import io.quarkus.arc.CacheStatistics;
+
+public class BoundedComputingCacheTest {
+
+    @Test
+    public void testUnbounded() {
+        AtomicInteger computed = new AtomicInteger();
+        BoundedComputingCache<Integer, String> cache = new BoundedComputingCache<>(key -> {
+            computed.incrementAndGet();
+            return "v" + key;
+        });
+        for (int i = 0; i < 100; i++) {
+            assertEquals("v" + i, cache.getValue(i));
+        }
+        assertEquals("v1", cache.getValue(1));
+        assertEquals(100, computed.get());
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.hits());
+        assertEquals(100, statistics.misses());
+        assertEquals(0, statistics.evictions());
+        assertEquals(100, statistics.size());
+    }
+
+    @Test
+    public void testFifo() {
+        BoundedComputingCache<Integer, String> cache = new BoundedComputingCache<>(key -> "v" + key, 3,
+                CacheEvictionPolicy.FIFO);
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.getValue(3);
+        // a hit does not prevent eviction
+        cache.getValue(1);
+        cache.getValue(4);
+        assertNull(cache.getValueIfPresent(1));
+        assertNotNull(cache.getValueIfPresent(2));
+        assertNotNull(cache.getValueIfPresent(4));
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.evictions());
+        assertEquals(3, statistics.size());
+    }
+
+    @Test
+    public void testLru() {
+        BoundedComputingCache<Integer, String> cache = new BoundedComputingCache<>(key -> "v" + key, 3,
+                CacheEvictionPolicy.LRU);
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.getValue(3);
+        // 1 was used recently and gets a second chance
+        cache.getValue(1);
+        cache.getValue(4);
+        assertNotNull(cache.getValueIfPresent(1));
+        assertNull(cache.getValueIfPresent(2));
+        assertNotNull(cache.getValueIfPresent(3));
+        assertNotNull(cache.getValueIfPresent(4));
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.evictions());
+        assertEquals(3, statistics.size());
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+public class CompactThreadLocalCurrentContextFactoryTest {
+
+    @Test
+    public void testSlots() throws InterruptedException {
+        CompactThreadLocalCurrentContextFactory factory = new CompactThreadLocalCurrentContextFactory();
+        CurrentContext<ContextState> request = factory.create(RequestScoped.class);
+        CurrentContext<ContextState> session = factory.create(SessionScoped.class);
+        ContextState requestState = new TestState();
+        ContextState sessionState = new TestState();
+
+        assertNull(request.get());
+        request.set(requestState);
+        assertSame(requestState, request.get());
+        assertNull(session.get());
+        session.set(sessionState);
+        assertSame(sessionState, session.get());
+        assertSame(requestState, request.get());
+
+        // states are not visible in a different thread
+        AtomicReference<ContextState> other = new AtomicReference<>(requestState);
+        Thread thread = new Thread(() -> other.set(request.get()));
+        thread.start();
+        thread.join();
+        assertNull(other.get());
+
+        request.remove();
+        assertNull(request.get());
+        assertSame(sessionState, session.get());
+        session.set(null);
+        assertNull(session.get());
+    }
+
+    @Test
+    public void testContextCreatedLater() {
+        CompactThreadLocalCurrentContextFactory factory = new CompactThreadLocalCurrentContextFactory();
+        CurrentContext<ContextState> request = factory.create(RequestScoped.class);
+        ContextState requestState = new TestState();
+        request.set(requestState);
+        CurrentContext<ContextState> session = factory.create(SessionScoped.class);
+        ContextState sessionState = new TestState();
+        assertNull(session.get());
+        session.set(sessionState);
+        assertSame(sessionState, session.get());
+        assertSame(requestState, request.get());
+        session.remove();
+        request.remove();
+        assertNull(request.get());
+    }
+
+    static class TestState implements ContextState {
+
+        @Override
+        public Map<InjectableBean<?>, Object> getContextualInstances() {
+            return Map.of();
+        }
+
+    }
+
+}
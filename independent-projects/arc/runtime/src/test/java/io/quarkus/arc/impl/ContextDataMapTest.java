@@ -0,0 +1,86 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ArcInvocationContext;
+
+public class ContextDataMapTest {
+
+    // the deprecated key is still supported
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testInlineEntries() {
+        Set<Annotation> bindings = Set.of();
+        ContextDataMap map = new ContextDataMap(bindings);
+        assertEquals(1, map.size());
+        assertTrue(map.containsKey(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS));
+        assertNull(map.get("foo"));
+        assertNull(map.remove("foo"));
+
+        assertNull(map.put("foo", 1));
+        assertNull(map.put("bar", null));
+        assertEquals(1, map.put("foo", 2));
+        assertEquals(3, map.size());
+        assertEquals(2, map.get("foo"));
+        assertTrue(map.containsKey("bar"));
+        assertTrue(map.containsValue(2));
+        assertTrue(map.containsValue(null));
+        assertEquals(Set.of(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, "foo", "bar"), map.keySet());
+        assertEquals(3, map.entrySet().size());
+        assertEquals(3, map.values().size());
+
+        assertEquals(2, map.remove("foo"));
+        assertFalse(map.containsKey("foo"));
+        assertTrue(map.containsKey("bar"));
+        assertEquals(2, map.size());
+        assertEquals(bindings, map.get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS));
+    }
+
+    @Test
+    public void testPromotion() {
+        ContextDataMap map = new ContextDataMap(Set.of());
+        for (int i = 0; i < ContextDataMap.INLINE_CAPACITY + 3; i++) {
+            map.put("key" + i, i);
+        }
+        assertEquals(ContextDataMap.INLINE_CAPACITY + 4, map.size());
+        for (int i = 0; i < ContextDataMap.INLINE_CAPACITY + 3; i++) {
+            assertEquals(i, map.get("key" + i));
+        }
+        assertEquals(0, map.remove("key0"));
+        assertNull(map.get("key0"));
+
+        Map<String, Object> other = new HashMap<>();
+        for (int i = 0; i < ContextDataMap.INLINE_CAPACITY + 1; i++) {
+            other.put("other" + i, i);
+        }
+        ContextDataMap map2 = new ContextDataMap(Set.of());
+        map2.put("foo", "bar");
+        map2.putAll(other);
+        assertEquals(ContextDataMap.INLINE_CAPACITY + 3, map2.size());
+        assertEquals("bar", map2.get("foo"));
+        assertEquals(1, map2.get("other1"));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testInterceptorBindingsKey() {
+        ContextDataMap map = new ContextDataMap(Set.of());
+        assertThrows(IllegalArgumentException.class, () -> map.put(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> map.putAll(Map.of(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS, 1)));
+        assertThrows(IllegalArgumentException.class, () -> map.remove(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+    }
+
+}
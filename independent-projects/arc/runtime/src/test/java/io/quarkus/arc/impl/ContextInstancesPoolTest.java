@@ -0,0 +1,57 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+public class ContextInstancesPoolTest {
+
+    @Test
+    public void testReuse() {
+        ContextInstancesPool pool = new ContextInstancesPool(ComputingCacheContextInstances::new, 4);
+        ContextInstances instances = pool.get();
+        assertNotSame(instances, pool.get());
+        assertTrue(pool.release(instances));
+        assertSame(instances, pool.get());
+        // the instances were taken from the pool
+        assertNotSame(instances, pool.get());
+    }
+
+    @Test
+    public void testNonEmptyInstancesNotPooled() {
+        ContextInstancesPool pool = new ContextInstancesPool(ComputingCacheContextInstances::new, 4);
+        ContextInstances instances = pool.get();
+        instances.computeIfAbsent("foo", () -> handle("foo"));
+        assertFalse(pool.release(instances));
+        assertNotSame(instances, pool.get());
+    }
+
+    @Test
+    public void testBounded() {
+        ContextInstancesPool pool = new ContextInstancesPool(ComputingCacheContextInstances::new, 2);
+        List<ContextInstances> released = List.of(pool.get(), pool.get(), pool.get());
+        for (ContextInstances instances : released) {
+            pool.release(instances);
+        }
+        List<ContextInstances> pooled = List.of(released.get(0), released.get(1));
+        assertTrue(pooled.contains(pool.get()));
+        assertTrue(pooled.contains(pool.get()));
+        ContextInstances created = pool.get();
+        assertFalse(pooled.contains(created));
+        assertNotSame(released.get(2), created);
+        assertThrows(IllegalArgumentException.class, () -> new ContextInstancesPool(ComputingCacheContextInstances::new, 0));
+    }
+
+    private static ContextInstanceHandle<?> handle(String value) {
+        return new ContextInstanceHandleImpl<>(null, value, null);
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.InstanceHandle;
+
+public class DependentInstancesTest {
+
+    @Test
+    public void testRemoveKeepsOrder() {
+        DependentInstances instances = new DependentInstances();
+        List<InstanceHandle<?>> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Object instance = new Object();
+            InstanceHandle<?> handle = new EagerInstanceHandle<>(null, instance, null);
+            handles.add(handle);
+            instances.add(instance, handle);
+        }
+        // remove every handle except for each tenth; this triggers compaction
+        List<InstanceHandle<?>> expected = new ArrayList<>();
+        for (int i = 0; i < handles.size(); i++) {
+            InstanceHandle<?> handle = handles.get(i);
+            if (i % 10 == 0) {
+                expected.add(handle);
+            } else {
+                assertSame(handle, instances.remove(handle.get()));
+            }
+        }
+        assertEquals(10, instances.size());
+        assertEquals(expected, toList(instances));
+        // the index is still valid after compaction
+        for (InstanceHandle<?> handle : expected) {
+            assertSame(handle, instances.remove(handle.get()));
+        }
+        assertTrue(instances.isEmpty());
+        assertNull(instances.remove(new Object()));
+    }
+
+    @Test
+    public void testDuplicates() {
+        DependentInstances instances = new DependentInstances();
+        String foo = "foo";
+        InstanceHandle<?> first = new EagerInstanceHandle<>(null, foo, null);
+        InstanceHandle<?> second = new EagerInstanceHandle<>(null, foo, null);
+        instances.add(foo, first);
+        instances.add(foo, second);
+        assertEquals(2, instances.size());
+        assertSame(first, instances.remove(foo));
+        assertSame(second, instances.remove(foo));
+        assertNull(instances.remove(foo));
+        assertTrue(instances.isEmpty());
+    }
+
+    @Test
+    public void testNullInstance() {
+        DependentInstances instances = new DependentInstances();
+        InstanceHandle<?> handle = new EagerInstanceHandle<>(null, null, null);
+        instances.add(null, handle);
+        assertSame(handle, instances.remove(null));
+        assertTrue(instances.isEmpty());
+    }
+
+    @Test
+    public void testUnresolvedHandle() {
+        DependentInstances instances = new DependentInstances();
+        String foo = "foo";
+        AtomicBoolean initialized = new AtomicBoolean();
+        InstanceHandle<?> lazy = new LazyInstanceHandle<>(null, null, null, () -> {
+            initialized.set(true);
+            return foo;
+        }, null);
+        InstanceHandle<?> eager = new EagerInstanceHandle<>(null, "bar", null);
+        instances.add(DependentInstances.UNRESOLVED, lazy);
+        instances.add("bar", eager);
+        // the lazy handle is not initialized if an indexed handle matches
+        assertSame(eager, instances.remove("bar"));
+        assertFalse(initialized.get());
+        assertNull(instances.remove(new Object()));
+        assertTrue(initialized.get());
+        assertSame(lazy, instances.remove(foo));
+        assertTrue(instances.isEmpty());
+    }
+
+    private static List<InstanceHandle<?>> toList(DependentInstances instances) {
+        List<InstanceHandle<?>> list = new ArrayList<>();
+        instances.forEach(list::add);
+        return list;
+    }
+
+}
@@ -5,10 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.annotation.Annotation;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,4 +33,22 @@ public class QualifiersTest {
         assertTrue(qualifiers.isSubset(observed, event));
     }
 
+    @Test
+    public void testHasQualifierWithMatcher() {
+        QualifierMatcher initializedMatcher = new QualifierMatcher() {
+            @Override
+            public boolean matches(Annotation required, Annotation candidate) {
+                return ((Initialized) required).value().equals(((Initialized) candidate).value());
+            }
+        };
+        Qualifiers qualifiers = new Qualifiers(Collections.emptySet(), Collections.emptyMap(),
+                Map.of(Initialized.class.getName(), initializedMatcher, Any.class.getName(),
+                        QualifierMatcher.NO_BINDING_MEMBERS));
+        Set<Annotation> beanQualifiers = Set.of(Initialized.Literal.APPLICATION, Any.Literal.INSTANCE);
+        assertTrue(qualifiers.hasQualifier(beanQualifiers, Initialized.Literal.APPLICATION));
+        assertFalse(qualifiers.hasQualifier(beanQualifiers, Initialized.Literal.REQUEST));
+        assertTrue(qualifiers.hasQualifier(beanQualifiers, Any.Literal.INSTANCE));
+        assertFalse(qualifiers.hasQualifier(beanQualifiers, Default.Literal.INSTANCE));
+    }
+
 }
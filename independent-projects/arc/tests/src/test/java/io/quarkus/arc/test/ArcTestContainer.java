@@ -14,6 +14,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -32,7 +34,9 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.CacheEvictionPolicy;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
@@ -50,6 +54,7 @@ import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.arc.processor.ResourceOutput;
 import io.quarkus.arc.processor.StereotypeRegistrar;
 import io.quarkus.arc.processor.bcextensions.ExtensionsEntryPoint;
+import io.quarkus.gizmo.BytecodeCreator;
 
 /**
  * Junit5 extension for Arc bootstrap/shutdown.
@@ -95,7 +100,16 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
         private boolean optimizeContexts = false;
+        private boolean lockFreeContextInstances = false;
+        private boolean synchronousInterceptorChains = false;
+        private boolean cacheApplicationScopedDelegates = false;
         private final List<Predicate<ClassInfo>> excludeTypes;
+        private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
+        private CurrentContextFactory currentContextFactory;
+        private int requestContextInstancesPoolSize;
+        private boolean trackOnlyDestroyableDependentInstances = false;
+        private int resolutionCacheMaxSize;
+        private CacheEvictionPolicy resolutionCacheEvictionPolicy = CacheEvictionPolicy.LRU;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -115,6 +129,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             removalExclusions = new ArrayList<>();
             buildCompatibleExtensions = new ArrayList<>();
             excludeTypes = new ArrayList<>();
+            suppressConditionGenerators = new ArrayList<>();
         }
 
         public Builder resourceReferenceProviders(Class<?>... resourceReferenceProviders) {
@@ -232,11 +247,56 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder lockFreeContextInstances(boolean value) {
+            this.lockFreeContextInstances = value;
+            return this;
+        }
+
+        public Builder synchronousInterceptorChains(boolean value) {
+            this.synchronousInterceptorChains = value;
+            return this;
+        }
+
+        public Builder cacheApplicationScopedDelegates(boolean value) {
+            this.cacheApplicationScopedDelegates = value;
+            return this;
+        }
+
         public Builder excludeType(Predicate<ClassInfo> predicate) {
             this.excludeTypes.add(predicate);
             return this;
         }
 
+        public Builder suppressConditionGenerator(Function<BeanInfo, Consumer<BytecodeCreator>> generator) {
+            this.suppressConditionGenerators.add(generator);
+            return this;
+        }
+
+        public Builder currentContextFactory(CurrentContextFactory currentContextFactory) {
+            this.currentContextFactory = currentContextFactory;
+            return this;
+        }
+
+        public Builder requestContextInstancesPoolSize(int requestContextInstancesPoolSize) {
+            this.requestContextInstancesPoolSize = requestContextInstancesPoolSize;
+            return this;
+        }
+
+        public Builder trackOnlyDestroyableDependentInstances(boolean value) {
+            this.trackOnlyDestroyableDependentInstances = value;
+            return this;
+        }
+
+        public Builder resolutionCacheMaxSize(int resolutionCacheMaxSize) {
+            this.resolutionCacheMaxSize = resolutionCacheMaxSize;
+            return this;
+        }
+
+        public Builder resolutionCacheEvictionPolicy(CacheEvictionPolicy resolutionCacheEvictionPolicy) {
+            this.resolutionCacheEvictionPolicy = resolutionCacheEvictionPolicy;
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -248,6 +308,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
     private final List<Class<?>> beanClasses;
     private final List<Class<?>> additionalClasses;
     private final List<Predicate<ClassInfo>> excludeTypes;
+    private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     private final List<Class<? extends Annotation>> resourceAnnotations;
 
@@ -274,6 +335,14 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
 
     private final boolean strictCompatibility;
     private final boolean optimizeContexts;
+    private final boolean lockFreeContextInstances;
+    private final boolean synchronousInterceptorChains;
+    private final boolean cacheApplicationScopedDelegates;
+    private final CurrentContextFactory currentContextFactory;
+    private final int requestContextInstancesPoolSize;
+    private final boolean trackOnlyDestroyableDependentInstances;
+    private final int resolutionCacheMaxSize;
+    private final CacheEvictionPolicy resolutionCacheEvictionPolicy;
 
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
@@ -298,7 +367,16 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
         this.optimizeContexts = false;
+        this.lockFreeContextInstances = false;
+        this.synchronousInterceptorChains = false;
+        this.cacheApplicationScopedDelegates = false;
         this.excludeTypes = Collections.emptyList();
+        this.suppressConditionGenerators = Collections.emptyList();
+        this.currentContextFactory = null;
+        this.requestContextInstancesPoolSize = 0;
+        this.trackOnlyDestroyableDependentInstances = false;
+        this.resolutionCacheMaxSize = 0;
+        this.resolutionCacheEvictionPolicy = CacheEvictionPolicy.LRU;
     }
 
     public ArcTestContainer(Builder builder) {
@@ -324,7 +402,16 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildCompatibleExtensions = builder.buildCompatibleExtensions;
         this.strictCompatibility = builder.strictCompatibility;
         this.optimizeContexts = builder.optimizeContexts;
+        this.lockFreeContextInstances = builder.lockFreeContextInstances;
+        this.synchronousInterceptorChains = builder.synchronousInterceptorChains;
+        this.cacheApplicationScopedDelegates = builder.cacheApplicationScopedDelegates;
         this.excludeTypes = builder.excludeTypes;
+        this.suppressConditionGenerators = builder.suppressConditionGenerators;
+        this.currentContextFactory = builder.currentContextFactory;
+        this.requestContextInstancesPoolSize = builder.requestContextInstancesPoolSize;
+        this.trackOnlyDestroyableDependentInstances = builder.trackOnlyDestroyableDependentInstances;
+        this.resolutionCacheMaxSize = builder.resolutionCacheMaxSize;
+        this.resolutionCacheEvictionPolicy = builder.resolutionCacheEvictionPolicy;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -442,7 +529,10 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                     .setApplicationIndex(applicationIndex)
                     .setBuildCompatibleExtensions(buildCompatibleExtensions)
                     .setStrictCompatibility(strictCompatibility)
-                    .setOptimizeContexts(optimizeContexts);
+                    .setOptimizeContexts(optimizeContexts)
+                    .setLockFreeContextInstances(lockFreeContextInstances)
+                    .setSynchronousInterceptorChains(synchronousInterceptorChains)
+                    .setCacheApplicationScopedDelegates(cacheApplicationScopedDelegates);
             if (!resourceAnnotations.isEmpty()) {
                 builder.addResourceAnnotations(resourceAnnotations.stream()
                         .map(c -> DotName.createSimple(c.getName()))
@@ -459,6 +549,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             observerTransformers.forEach(builder::addObserverTransformer);
             beanDeploymentValidators.forEach(builder::addBeanDeploymentValidator);
             excludeTypes.forEach(builder::addExcludeType);
+            suppressConditionGenerators.forEach(builder::addSuppressConditionGenerator);
             builder.setOutput(new ResourceOutput() {
 
                 @Override
@@ -504,6 +595,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             // Now we are ready to initialize Arc
             ArcInitConfig.Builder initConfigBuilder = ArcInitConfig.builder();
             initConfigBuilder.setStrictCompatibility(strictCompatibility);
+            initConfigBuilder.setCurrentContextFactory(currentContextFactory);
+            initConfigBuilder.setRequestContextInstancesPoolSize(requestContextInstancesPoolSize);
+            initConfigBuilder.setTrackOnlyDestroyableDependentInstances(trackOnlyDestroyableDependentInstances);
+            initConfigBuilder.setResolutionCacheMaxSize(resolutionCacheMaxSize);
+            initConfigBuilder.setResolutionCacheEvictionPolicy(resolutionCacheEvictionPolicy);
             Arc.initialize(initConfigBuilder.build());
 
         } catch (Throwable e) {
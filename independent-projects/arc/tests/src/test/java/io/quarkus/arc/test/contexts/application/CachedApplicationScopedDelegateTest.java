@@ -0,0 +1,60 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.impl.CachingClientProxy;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class CachedApplicationScopedDelegateTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Counter.class)
+            .cacheApplicationScopedDelegates(true)
+            .build();
+
+    @Test
+    public void testCachedDelegate() {
+        InstanceHandle<Counter> handle = Arc.container().instance(Counter.class);
+        Counter counter = handle.get();
+        assertTrue(counter instanceof CachingClientProxy);
+        String id = counter.getId();
+        assertEquals(id, counter.getId());
+        assertSame(ClientProxy.unwrap(counter), ClientProxy.unwrap(counter));
+
+        // destroy a single instance
+        handle.destroy();
+        String newId = counter.getId();
+        assertNotEquals(id, newId);
+        assertEquals(newId, counter.getId());
+
+        // destroy the whole context
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy();
+        assertNotEquals(newId, counter.getId());
+    }
+
+    @ApplicationScoped
+    public static class Counter {
+
+        private final String id = UUID.randomUUID().toString();
+
+        public String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package io.quarkus.arc.test.contexts.application.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class LockFreeApplicationContextInstancesTest {
+
+    static final int THREADS = 8;
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Slow.class, Failing.class)
+            .optimizeContexts(true)
+            .lockFreeContextInstances(true)
+            .build();
+
+    @Test
+    public void testCreatedOnce() throws Exception {
+        Slow.CREATED.set(0);
+        Slow slow = Arc.container().instance(Slow.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> ids = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                ids.add(executor.submit(() -> {
+                    start.await();
+                    return slow.ping();
+                }));
+            }
+            start.countDown();
+            String id = ids.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<String> future : ids) {
+                assertEquals(id, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, Slow.CREATED.get());
+    }
+
+    @Test
+    public void testContext() {
+        ArcContainer container = Arc.container();
+        InstanceHandle<Slow> handle = container.instance(Slow.class);
+        Slow slow = handle.get();
+        String id1 = slow.ping();
+        assertEquals(id1, slow.ping());
+        assertEquals(1, container.getActiveContext(ApplicationScoped.class).getState().getContextualInstances().size());
+
+        handle.destroy();
+        assertTrue(container.getActiveContext(ApplicationScoped.class).getState().getContextualInstances().isEmpty());
+        String id2 = slow.ping();
+        assertNotEquals(id1, id2);
+
+        InjectableContext appContext = container.getActiveContext(ApplicationScoped.class);
+        appContext.destroy();
+        assertNotEquals(id2, slow.ping());
+    }
+
+    @Test
+    public void testFailedCreationCanBeRetried() {
+        Failing failing = Arc.container().instance(Failing.class).get();
+        Failing.FAIL.set(true);
+        assertThrows(IllegalStateException.class, failing::ping);
+        assertTrue(Arc.container().getActiveContext(ApplicationScoped.class).getState().getContextualInstances().isEmpty());
+        Failing.FAIL.set(false);
+        assertEquals("ok", failing.ping());
+    }
+
+    @ApplicationScoped
+    public static class Slow {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        private String id;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            CREATED.incrementAndGet();
+            // make sure other threads have to wait for the construction
+            TimeUnit.MILLISECONDS.sleep(100);
+            id = UUID.randomUUID().toString();
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Failing {
+
+        static final AtomicBoolean FAIL = new AtomicBoolean();
+
+        String ping() {
+            return "ok";
+        }
+
+        @PostConstruct
+        void init() {
+            if (FAIL.get()) {
+                throw new IllegalStateException("Boom");
+            }
+        }
+
+    }
+}
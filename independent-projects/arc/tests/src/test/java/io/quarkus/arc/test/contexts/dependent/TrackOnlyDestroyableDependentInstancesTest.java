@@ -0,0 +1,103 @@
+package io.quarkus.arc.test.contexts.dependent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class TrackOnlyDestroyableDependentInstancesTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(NoPreDestroy.class, HasDestroy.class, HasDependency.class)
+            .trackOnlyDestroyableDependentInstances(true)
+            .build();
+
+    @Test
+    public void testDependentContext() {
+        assertTracked(NoPreDestroy.class, false, false);
+        assertTracked(HasDestroy.class, true, true);
+        // no destroy logic but the instance has a dependent instance
+        assertTracked(HasDependency.class, false, true);
+    }
+
+    @Test
+    public void testDependentInstanceAddedLater() {
+        HasDestroy.DESTROYED.set(false);
+        InjectableBean<NoPreDestroy> noPreDestroyBean = bean(NoPreDestroy.class);
+        InjectableBean<HasDestroy> hasDestroyBean = bean(HasDestroy.class);
+        CreationalContextImpl<?> parent = new CreationalContextImpl<>(null);
+        CreationalContextImpl<NoPreDestroy> child = parent.child(noPreDestroyBean);
+        parent.addDependentInstance(noPreDestroyBean, noPreDestroyBean.create(child), child);
+        assertFalse(parent.hasDependentInstances());
+
+        // e.g. a @Dependent bean obtained via Instance#get() after the instance was created
+        CreationalContextImpl<HasDestroy> grandchild = child.child(hasDestroyBean);
+        child.addDependentInstance(hasDestroyBean, hasDestroyBean.create(grandchild), grandchild);
+        assertEquals(1, parent.getDependentInstancesCount());
+        parent.release();
+        assertTrue(HasDestroy.DESTROYED.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> InjectableBean<T> bean(Class<T> beanClass) {
+        BeanManager beanManager = Arc.container().beanManager();
+        return (InjectableBean<T>) beanManager.resolve(beanManager.getBeans(beanClass));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void assertTracked(Class<T> beanClass, boolean hasDestroyLogic, boolean shouldBeTracked) {
+        BeanManager beanManager = Arc.container().beanManager();
+        InjectableBean<T> bean = (InjectableBean<T>) beanManager.resolve(beanManager.getBeans(beanClass));
+        assertEquals(hasDestroyLogic, bean.hasDestroyLogic());
+        CreationalContextImpl<T> ctx = new CreationalContextImpl<>(bean);
+        assertNotNull(beanManager.getContext(Dependent.class).get(bean, ctx));
+        if (shouldBeTracked) {
+            assertTrue(ctx.getDependentInstancesCount() > 0);
+        } else {
+            assertFalse(ctx.hasDependentInstances());
+        }
+        ctx.release();
+    }
+
+    @Dependent
+    static class NoPreDestroy {
+
+    }
+
+    @Dependent
+    static class HasDestroy {
+
+        static final AtomicBoolean DESTROYED = new AtomicBoolean();
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.set(true);
+        }
+
+    }
+
+    @Dependent
+    static class HasDependency {
+
+        @Inject
+        HasDestroy dep;
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CompactThreadLocalCurrentContextFactory;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class CompactCurrentContextStressTest {
+
+    // JDK 17 does not support virtual threads, so we use a large number of short tasks on a pool of platform threads
+    static final int THREADS = 16;
+    static final int ACTIVATIONS = 100_000;
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(RequestBean.class)
+            .currentContextFactory(new CompactThreadLocalCurrentContextFactory()).build();
+
+    @Test
+    public void testConcurrentActivations() throws Exception {
+        RequestBean.DESTROYED.set(0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < ACTIVATIONS; i++) {
+                int value = i;
+                results.add(executor.submit(() -> {
+                    ManagedContext requestContext = Arc.container().requestContext();
+                    if (requestContext.isActive()) {
+                        // the state of a previous task leaked
+                        return false;
+                    }
+                    requestContext.activate();
+                    try {
+                        RequestBean bean = Arc.container().instance(RequestBean.class).get();
+                        bean.setValue(value);
+                        Thread.yield();
+                        return Arc.container().instance(RequestBean.class).get().getValue() == value;
+                    } finally {
+                        requestContext.terminate();
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(ACTIVATIONS, RequestBean.DESTROYED.get());
+        assertFalse(Arc.container().requestContext().isActive());
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private int value;
+
+        int getValue() {
+            return value;
+        }
+
+        void setValue(int value) {
+            this.value = value;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.spi.BeanManager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class PooledRequestContextInstancesTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(RequestBean.class)
+            .requestContextInstancesPoolSize(4).build();
+
+    @Test
+    public void testPooledInstances() {
+        RequestBean.DESTROYED.set(0);
+        ManagedContext requestContext = Arc.container().requestContext();
+
+        requestContext.activate();
+        String firstId = Arc.container().instance(RequestBean.class).get().getId();
+        ContextState firstState = requestContext.getState();
+        assertEquals(1, firstState.getContextualInstances().size());
+        requestContext.terminate();
+        assertEquals(1, RequestBean.DESTROYED.get());
+        // the destroyed state does not reference the pooled instances
+        assertFalse(firstState.isValid());
+        assertTrue(firstState.getContextualInstances().isEmpty());
+
+        requestContext.activate();
+        ContextState secondState = requestContext.getState();
+        assertTrue(secondState.getContextualInstances().isEmpty());
+        String secondId = Arc.container().instance(RequestBean.class).get().getId();
+        assertNotEquals(firstId, secondId);
+        assertEquals(1, secondState.getContextualInstances().size());
+        // the destroyed state is not affected by the new activation
+        assertTrue(firstState.getContextualInstances().isEmpty());
+        requestContext.terminate();
+        assertEquals(2, RequestBean.DESTROYED.get());
+    }
+
+    @Test
+    public void testConcurrentDestroy() throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        InjectableBean<RequestBean> bean = Arc.container().instance(RequestBean.class).getBean();
+        BeanManager beanManager = Arc.container().beanManager();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 500; i++) {
+                ContextState stale = requestContext.activate();
+                requestContext.deactivate();
+                CountDownLatch started = new CountDownLatch(1);
+                Future<?> reader = executor.submit(() -> {
+                    requestContext.activate(stale);
+                    try {
+                        started.countDown();
+                        while (requestContext.getIfActive(bean, beanManager::createCreationalContext) != null) {
+                            // use the state until it is destroyed
+                        }
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                });
+                started.await();
+                requestContext.destroy(stale);
+                // the pooled instances of the destroyed state are likely reused
+                ContextState current = requestContext.activate();
+                try {
+                    reader.get(10, TimeUnit.SECONDS);
+                    // the stale state never reached the instances of the current state
+                    assertTrue(current.getContextualInstances().isEmpty());
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.quarkus.arc.test.contexts.request.optimized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class IndexedRequestContextInstancesTest {
+
+    // more beans than the linear threshold of the generated index switch
+    static final List<Class<? extends Base>> BEANS = List.of(Alpha.class, Bravo.class, Charlie.class, Delta.class, Echo.class,
+            Foxtrot.class, Golf.class, Hotel.class, India.class);
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Alpha.class, Bravo.class, Charlie.class, Delta.class, Echo.class, Foxtrot.class, Golf.class,
+                    Hotel.class, India.class)
+            .optimizeContexts(true)
+            .build();
+
+    @Test
+    public void testIndexedSlots() {
+        ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            Set<Integer> indexes = new HashSet<>();
+            Set<String> ids = new HashSet<>();
+            for (Class<? extends Base> beanClass : BEANS) {
+                InstanceHandle<? extends Base> handle = container.instance(beanClass);
+                InjectableBean<?> bean = (InjectableBean<?>) handle.getBean();
+                assertTrue(bean.getIndex() >= 0);
+                indexes.add(bean.getIndex());
+                Base base = handle.get();
+                String id = base.ping();
+                assertEquals(id, base.ping());
+                ids.add(id);
+            }
+            assertEquals(BEANS.size(), indexes.size());
+            assertEquals(BEANS.size(), ids.size());
+            assertEquals(BEANS.size(),
+                    container.getActiveContext(RequestScoped.class).getState().getContextualInstances().size());
+
+            // remove a single instance
+            InstanceHandle<Echo> handle = container.instance(Echo.class);
+            Echo echo = handle.get();
+            String echoId = echo.ping();
+            handle.destroy();
+            assertEquals(BEANS.size() - 1,
+                    container.getActiveContext(RequestScoped.class).getState().getContextualInstances().size());
+            assertNotEquals(echoId, echo.ping());
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    public static abstract class Base {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String ping() {
+            return id;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Alpha extends Base {
+    }
+
+    @RequestScoped
+    public static class Bravo extends Base {
+    }
+
+    @RequestScoped
+    public static class Charlie extends Base {
+    }
+
+    @RequestScoped
+    public static class Delta extends Base {
+    }
+
+    @RequestScoped
+    public static class Echo extends Base {
+    }
+
+    @RequestScoped
+    public static class Foxtrot extends Base {
+    }
+
+    @RequestScoped
+    public static class Golf extends Base {
+    }
+
+    @RequestScoped
+    public static class Hotel extends Base {
+    }
+
+    @RequestScoped
+    public static class India extends Base {
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InstanceInjectionPointReuseTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Consumer.class, Probe.class);
+
+    @Test
+    public void testInjectionPointReused() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        Probe first = consumer.probes.get();
+        Probe second = consumer.probes.get();
+        assertNotSame(first, second);
+        assertSame(first.injectionPoint, second.injectionPoint);
+        assertEquals("probes", first.injectionPoint.getMember().getName());
+        for (InstanceHandle<Probe> handle : consumer.probes.handles()) {
+            assertSame(first.injectionPoint, handle.get().injectionPoint);
+        }
+
+        // a child instance has different metadata
+        Probe child = consumer.probes.select(Any.Literal.INSTANCE).get();
+        assertNotSame(first.injectionPoint, child.injectionPoint);
+        assertEquals(2, child.injectionPoint.getQualifiers().size());
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        InjectableInstance<Probe> probes;
+
+    }
+
+    @Dependent
+    static class Probe {
+
+        @Inject
+        InjectionPoint injectionPoint;
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.Instances;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.gizmo.FieldDescriptor;
+
+public class SuppressedInstanceResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Service.class, Alpha.class, Bravo.class, Charlie.class)
+            .suppressConditionGenerator(bean -> {
+                if (!bean.getBeanClass().toString().equals(Bravo.class.getName())) {
+                    return null;
+                }
+                return bc -> bc.ifTrue(bc.readStaticField(FieldDescriptor.of(Bravo.class, "suppressed", boolean.class)))
+                        .trueBranch().returnValue(bc.load(true));
+            })
+            .build();
+
+    @Test
+    public void testSuppression() {
+        Bravo.suppressed = false;
+        List<InjectableBean<?>> beans = Instances.resolveBeans(Service.class);
+        assertEquals(List.of("charlie", "bravo", "alpha"), ids(beans));
+        // the sorted list is cached
+        assertSame(beans, Instances.resolveBeans(Service.class));
+        for (InjectableBean<?> bean : beans) {
+            assertEquals(bean.getBeanClass().equals(Bravo.class), bean.isSuppressible());
+        }
+
+        Bravo.suppressed = true;
+        assertEquals(List.of("charlie", "alpha"), ids(Instances.resolveBeans(Service.class)));
+        Instance<Service> instance = Arc.container().select(Service.class);
+        assertTrue(instance.isAmbiguous());
+        assertEquals(2, instance.stream().count());
+
+        Bravo.suppressed = false;
+        assertEquals(List.of("charlie", "bravo", "alpha"), ids(Instances.resolveBeans(Service.class)));
+        assertFalse(Arc.container().select(Service.class).isUnsatisfied());
+    }
+
+    private static List<Object> ids(List<InjectableBean<?>> beans) {
+        return beans.stream().map(b -> (Object) b.getBeanClass().getSimpleName().toLowerCase()).toList();
+    }
+
+    interface Service {
+    }
+
+    @Priority(1)
+    @Singleton
+    static class Alpha implements Service {
+    }
+
+    @Priority(2)
+    @Singleton
+    public static class Bravo implements Service {
+
+        public static volatile boolean suppressed;
+
+    }
+
+    @Priority(3)
+    @Singleton
+    static class Charlie implements Service {
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.quarkus.arc.test.interceptors.arcInvContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.ReactiveType;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+public class ReactiveTypeTest {
+
+    static final List<ReactiveType> TYPES = new CopyOnWriteArrayList<>();
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Reactive.class, MyBean.class, ReactiveInterceptor.class);
+
+    @Test
+    public void testReactiveType() {
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        bean.ping();
+        bean.pingUni();
+        bean.pingMulti();
+        bean.pingStage();
+        bean.pingFuture();
+        bean.ping();
+        assertEquals(List.of(ReactiveType.NON_REACTIVE, ReactiveType.UNI, ReactiveType.MULTI, ReactiveType.STAGE,
+                ReactiveType.STAGE, ReactiveType.NON_REACTIVE), TYPES);
+    }
+
+    @Singleton
+    @Reactive
+    static class MyBean {
+
+        String ping() {
+            return "ok";
+        }
+
+        Uni<String> pingUni() {
+            return Uni.createFrom().item("ok");
+        }
+
+        Multi<String> pingMulti() {
+            return Multi.createFrom().item("ok");
+        }
+
+        CompletionStage<String> pingStage() {
+            return CompletableFuture.completedStage("ok");
+        }
+
+        CompletableFuture<String> pingFuture() {
+            return CompletableFuture.completedFuture("ok");
+        }
+
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @InterceptorBinding
+    @interface Reactive {
+    }
+
+    @Reactive
+    @Priority(1)
+    @Interceptor
+    static class ReactiveInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            TYPES.add(ReactiveType.of(ctx));
+            return ctx.proceed();
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.quarkus.arc.test.interceptors.bindings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class InterceptorBindingLookupTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Tagged.class, Tagged.List.class, Simple.class, MyBean.class,
+            LookupInterceptor.class);
+
+    @Test
+    public void testLookup() {
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        assertEquals("simple|true|[a]|[a]", bean.single());
+        assertEquals("null|true|[a, b]|[a, b]", bean.repeated());
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @Repeatable(Tagged.List.class)
+    @InterceptorBinding
+    @interface Tagged {
+
+        String value();
+
+        @Target({ ElementType.TYPE, ElementType.METHOD })
+        @Retention(RetentionPolicy.RUNTIME)
+        @interface List {
+            Tagged[] value();
+        }
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @InterceptorBinding
+    @interface Simple {
+
+    }
+
+    @Singleton
+    static class MyBean {
+
+        @Simple
+        @Tagged("a")
+        String single() {
+            return "";
+        }
+
+        @Tagged("a")
+        @Tagged("b")
+        String repeated() {
+            return "";
+        }
+
+    }
+
+    @Tagged("a")
+    @Priority(1)
+    @Interceptor
+    static class LookupInterceptor {
+
+        @SuppressWarnings("deprecation")
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            ArcInvocationContext arcCtx = (ArcInvocationContext) ctx;
+            Simple simple = ctx.getInterceptorBinding(Simple.class);
+            Tagged tagged = ctx.getInterceptorBinding(Tagged.class);
+            Set<Tagged> allTagged = ctx.getInterceptorBindings(Tagged.class);
+            List<Tagged> foundTagged = arcCtx.findIterceptorBindings(Tagged.class);
+            assertEquals(tagged, arcCtx.findIterceptorBinding(Tagged.class));
+            return ctx.proceed() + (simple != null ? "simple" : "null") + "|" + allTagged.contains(tagged) + "|"
+                    + values(allTagged)
+                    + "|" + values(foundTagged);
+        }
+
+        static String values(Collection<? extends Annotation> tagged) {
+            return tagged.stream().map(t -> ((Tagged) t).value()).collect(Collectors.toCollection(TreeSet::new)).toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.quarkus.arc.test.interceptors.synchronous;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+
+public class SynchronousInterceptorChainTest {
+
+    static final List<InvocationContext> CONTEXTS = new CopyOnWriteArrayList<>();
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Simple.class, MyBean.class, FirstInterceptor.class, SecondInterceptor.class, ThirdInterceptor.class)
+            .synchronousInterceptorChains(true)
+            .build();
+
+    @BeforeEach
+    public void reset() {
+        CONTEXTS.clear();
+    }
+
+    @Test
+    public void testSharedContext() {
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        // the first interceptor proceeds twice, the second one modifies the parameters
+        assertEquals("first:second:hello!|second:hello!!", bean.ping("hello"));
+        assertEquals(5, CONTEXTS.size());
+        for (InvocationContext ctx : CONTEXTS) {
+            assertSame(CONTEXTS.get(0), ctx);
+        }
+        assertEquals("bar", CONTEXTS.get(0).getContextData().get("foo"));
+    }
+
+    @Test
+    public void testAsyncMethodFallback() throws Exception {
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        // the second interceptor resumes the chain on a different thread
+        assertEquals("first:second:hello|second:hello",
+                bean.pingAsync("hello").toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertNotSame(CONTEXTS.get(0), CONTEXTS.get(1));
+    }
+
+    @Singleton
+    static class MyBean {
+
+        @Simple
+        String ping(String value) {
+            return value;
+        }
+
+        @Simple
+        CompletableFuture<String> pingAsync(String value) {
+            return CompletableFuture.completedFuture(value);
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class FirstInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            ctx.getContextData().put("foo", "bar");
+            Object first = ctx.proceed();
+            Object second = ctx.proceed();
+            if (first instanceof CompletableFuture) {
+                return ((CompletableFuture<?>) first).thenCombine((CompletableFuture<?>) second,
+                        (v1, v2) -> "first:" + v1 + "|" + v2);
+            }
+            return "first:" + first + "|" + second;
+        }
+
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class SecondInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            if (ctx.getMethod().getName().equals("pingAsync")) {
+                CompletableFuture<Object> result = new CompletableFuture<>();
+                new Thread(() -> {
+                    try {
+                        ((CompletableFuture<?>) ctx.proceed()).thenAccept(v -> result.complete("second:" + v));
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                    }
+                }).start();
+                return result;
+            }
+            ctx.setParameters(new Object[] { ctx.getParameters()[0] + "!" });
+            return "second:" + ctx.proceed();
+        }
+
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class ThirdInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return ctx.proceed();
+        }
+
+    }
+
+}
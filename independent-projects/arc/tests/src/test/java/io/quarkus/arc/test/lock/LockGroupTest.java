@@ -0,0 +1,91 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.LockException;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class LockGroupTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Registry.class, Lock.class, LockInterceptor.class);
+
+    @Test
+    public void testGroups() throws Exception {
+        Registry registry = Arc.container().instance(Registry.class).get();
+        Registry.INSIDE = new CountDownLatch(1);
+        Registry.RELEASE = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(registry::blockUsers);
+        try {
+            assertTrue(Registry.INSIDE.await(5, TimeUnit.SECONDS));
+            // a different group is not blocked
+            assertEquals(1, registry.addRole());
+            // the default lock is not blocked either
+            assertEquals(1, registry.addOther());
+            // the same group is blocked
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> CompletableFuture.supplyAsync(registry::addUser).get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof LockException);
+            assertFalse(blocked.isDone());
+        } finally {
+            Registry.RELEASE.countDown();
+        }
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals(1, registry.addUser());
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class Registry {
+
+        static volatile CountDownLatch INSIDE;
+        static volatile CountDownLatch RELEASE;
+
+        static int users;
+        static int roles;
+        static int others;
+
+        @Lock(group = "users")
+        void blockUsers() {
+            INSIDE.countDown();
+            try {
+                assertTrue(RELEASE.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Lock(group = "users", time = 100)
+        int addUser() {
+            return ++users;
+        }
+
+        @Lock(group = "roles", time = 100)
+        int addRole() {
+            return ++roles;
+        }
+
+        @Lock(time = 100)
+        int addOther() {
+            return ++others;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class OptimisticReadLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Config.class, Lock.class, LockInterceptor.class);
+
+    @Test
+    public void testOptimisticRead() throws Exception {
+        Config config = Arc.container().instance(Config.class).get();
+        Config.READS.set(0);
+        assertEquals(0, config.read());
+        assertEquals(1, Config.READS.get());
+        // nested invocations
+        assertEquals(0, config.readAndWrite());
+        assertConcurrentWriteDetected(config);
+    }
+
+    @Test
+    public void testFirstReadNestedInWrite() throws Exception {
+        Config config = Arc.container().instance(Config.class).get();
+        // the first optimistic read is performed while the write lock is held
+        assertEquals(0, config.readAndWrite());
+        // the first read that is not nested in a write acquires the read lock
+        assertEquals(0, config.read());
+        assertConcurrentWriteDetected(config);
+    }
+
+    private void assertConcurrentWriteDetected(Config config) throws Exception {
+        // a write happens during the optimistic read
+        Config.READS.set(0);
+        Config.INSIDE = new CountDownLatch(1);
+        Config.WRITTEN = new CountDownLatch(1);
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(config::read);
+        assertTrue(Config.INSIDE.await(5, TimeUnit.SECONDS));
+        config.write(10);
+        Config.WRITTEN.countDown();
+        // the first result is discarded and the method is invoked again with the read lock
+        assertEquals(10, read.get(5, TimeUnit.SECONDS));
+        assertEquals(2, Config.READS.get());
+    }
+
+    @Lock(Type.OPTIMISTIC_READ)
+    @ApplicationScoped
+    static class Config {
+
+        static final AtomicInteger READS = new AtomicInteger();
+
+        static volatile CountDownLatch INSIDE;
+        static volatile CountDownLatch WRITTEN;
+
+        private int value;
+
+        int read() {
+            int result = value;
+            if (READS.incrementAndGet() == 1 && INSIDE != null) {
+                INSIDE.countDown();
+                try {
+                    assertTrue(WRITTEN.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return result;
+        }
+
+        @Lock(Type.WRITE)
+        int readAndWrite() {
+            int result = read();
+            write(result);
+            return result;
+        }
+
+        @Lock(Type.WRITE)
+        void write(int value) {
+            this.value = value;
+        }
+
+    }
+
+}
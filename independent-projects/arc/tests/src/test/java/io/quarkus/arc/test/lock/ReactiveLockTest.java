@@ -0,0 +1,252 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.LockException;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+public class ReactiveLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Service.class, DefaultService.class, Lock.class,
+            LockInterceptor.class);
+
+    @Test
+    public void testUni() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = service.write(pending).subscribeAsCompletionStage();
+        assertFalse(first.isDone());
+        // the lock is held until the first uni terminates - the business method is not invoked
+        Service.INVOKED.set(false);
+        CompletableFuture<String> second = service.write(CompletableFuture.completedFuture(null))
+                .subscribeAsCompletionStage();
+        assertFalse(second.isDone());
+        assertFalse(Service.INVOKED.get());
+
+        pending.complete(null);
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", second.get(5, TimeUnit.SECONDS));
+        assertTrue(Service.INVOKED.get());
+
+        // readers do not block each other
+        assertEquals("ok", service.read().await().atMost(Duration.ofSeconds(5)));
+
+        // the lock is not acquired until the uni is subscribed to
+        service.write(new CompletableFuture<>());
+        assertEquals("ok", service.write(CompletableFuture.completedFuture(null)).await().atMost(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = service.write(pending).subscribeAsCompletionStage();
+        try {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> service.readWithTimeout().subscribeAsCompletionStage().get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof LockException);
+        } finally {
+            pending.complete(null);
+        }
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", service.readWithTimeout().await().atMost(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testCancelWaiting() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        for (int i = 0; i < 100; i++) {
+            CompletableFuture<Void> pending = new CompletableFuture<>();
+            CompletableFuture<String> first = service.write(pending).subscribeAsCompletionStage();
+            CompletableFuture<String> second = new CompletableFuture<>();
+            Cancellable waiting = service.write(CompletableFuture.completedFuture(null)).subscribe()
+                    .with(second::complete, second::completeExceptionally);
+            assertFalse(second.isDone());
+            // the waiting subscriber is cancelled while the permit may be granted to it
+            CompletableFuture<Void> cancelled = CompletableFuture.runAsync(waiting::cancel);
+            pending.complete(null);
+            cancelled.get(5, TimeUnit.SECONDS);
+            assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+            // the lock can still be acquired
+            assertEquals("ok", service.write(CompletableFuture.completedFuture(null)).await().atMost(Duration.ofSeconds(5)));
+        }
+    }
+
+    @Test
+    public void testMultiAndStage() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<List<String>> items = service.items(pending).collect().asList().subscribeAsCompletionStage();
+        CompletableFuture<String> stage = service.stage().toCompletableFuture();
+        assertFalse(stage.isDone());
+        pending.complete(null);
+        assertEquals(List.of("a", "b"), items.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", stage.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReentrancy() {
+        Service service = Arc.container().instance(Service.class).get();
+        // the nested invocation does not acquire the lock again
+        assertEquals("ok!", service.outer().await().atMost(Duration.ofSeconds(5)));
+        assertEquals("ok", service.stageOuter().toCompletableFuture().join());
+    }
+
+    @Test
+    public void testSyncMethodBlocksInvocation() throws Exception {
+        Service service = Arc.container().instance(Service.class).get();
+        Service.INSIDE = new CountDownLatch(1);
+        Service.RELEASE = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(service::block);
+        try {
+            assertTrue(Service.INSIDE.await(5, TimeUnit.SECONDS));
+            // the async lock is acquired but the business method is not invoked while the sync method holds the lock
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> service.writeWithTimeout().subscribeAsCompletionStage().get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof LockException);
+        } finally {
+            Service.RELEASE.countDown();
+        }
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals("ok", service.writeWithTimeout().await().atMost(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testDefaultMode() throws Exception {
+        DefaultService service = Arc.container().instance(DefaultService.class).get();
+        // the lock is released when the business method returns
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = service.write(pending).subscribeAsCompletionStage();
+        assertEquals("ok", service.write(CompletableFuture.completedFuture(null)).await().atMost(Duration.ofSeconds(5)));
+        assertFalse(first.isDone());
+        pending.complete(null);
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("ok!", service.outer().await().atMost(Duration.ofSeconds(5)));
+
+        // sync and reactive methods share the lock
+        DefaultService.INSIDE = new CountDownLatch(1);
+        DefaultService.RELEASE = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(service::block);
+        try {
+            assertTrue(DefaultService.INSIDE.await(5, TimeUnit.SECONDS));
+            assertThrows(LockException.class, service::writeWithTimeout);
+        } finally {
+            DefaultService.RELEASE.countDown();
+        }
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals("ok", service.writeWithTimeout().await().atMost(Duration.ofSeconds(5)));
+    }
+
+    @Lock(async = true)
+    @ApplicationScoped
+    static class Service {
+
+        static final AtomicBoolean INVOKED = new AtomicBoolean();
+
+        static volatile CountDownLatch INSIDE;
+        static volatile CountDownLatch RELEASE;
+
+        Uni<String> write(CompletableFuture<Void> pending) {
+            INVOKED.set(true);
+            return Uni.createFrom().completionStage(pending).replaceWith("ok");
+        }
+
+        @Lock(value = Type.READ, async = true)
+        Uni<String> read() {
+            return Uni.createFrom().item("ok");
+        }
+
+        @Lock(value = Type.READ, time = 50, async = true)
+        Uni<String> readWithTimeout() {
+            return Uni.createFrom().item("ok");
+        }
+
+        Multi<String> items(CompletableFuture<Void> pending) {
+            return Uni.createFrom().completionStage(pending).onItem().transformToMulti(v -> Multi.createFrom().items("a", "b"));
+        }
+
+        CompletionStage<String> stage() {
+            return CompletableFuture.completedStage("ok");
+        }
+
+        Uni<String> outer() {
+            return write(CompletableFuture.completedFuture(null)).map(s -> s + "!");
+        }
+
+        CompletionStage<String> stageOuter() {
+            return stage();
+        }
+
+        @Lock(time = 100, async = true)
+        Uni<String> writeWithTimeout() {
+            return Uni.createFrom().item("ok");
+        }
+
+        void block() {
+            await(INSIDE, RELEASE);
+        }
+
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class DefaultService {
+
+        static volatile CountDownLatch INSIDE;
+        static volatile CountDownLatch RELEASE;
+
+        Uni<String> write(CompletableFuture<Void> pending) {
+            return Uni.createFrom().completionStage(pending).replaceWith("ok");
+        }
+
+        Uni<String> outer() {
+            return Uni.createFrom().item("ok").chain(s -> write(CompletableFuture.completedFuture(null)))
+                    .map(s -> s + "!");
+        }
+
+        @Lock(time = 100)
+        Uni<String> writeWithTimeout() {
+            return Uni.createFrom().item("ok");
+        }
+
+        void block() {
+            await(INSIDE, RELEASE);
+        }
+
+    }
+
+    static void await(CountDownLatch inside, CountDownLatch release) {
+        inside.countDown();
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
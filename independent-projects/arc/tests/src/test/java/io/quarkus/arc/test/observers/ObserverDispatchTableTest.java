@@ -0,0 +1,113 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ObserverDispatchTableTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Observers.class, Emitter.class);
+
+    @Test
+    public void testDispatch() {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+
+        emitter.event.select(Dog.class).fire(new Dog());
+        assertEquals(List.of("animal", "dog", "object", "typeVariable"), observers.sorted());
+
+        observers.events.clear();
+        emitter.event.select(Cat.class).fire(new Cat());
+        assertEquals(List.of("animal", "object"), observers.sorted());
+
+        observers.events.clear();
+        emitter.event.select(new TypeLiteral<List<String>>() {
+        }).fire(new ArrayList<>());
+        assertEquals(List.of("list", "object"), observers.sorted());
+
+        observers.events.clear();
+        emitter.event.select(Dog[].class).fire(new Dog[0]);
+        assertEquals(List.of("array", "object"), observers.sorted());
+
+        observers.events.clear();
+        emitter.event.select(Integer.class).fire(1);
+        assertEquals(List.of("int", "object"), observers.sorted());
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        void onAnimal(@Observes Animal animal) {
+            events.add("animal");
+        }
+
+        void onDog(@Observes Dog dog) {
+            events.add("dog");
+        }
+
+        // @Default excludes lifecycle events
+        void onObject(@Observes @Default Object object) {
+            events.add("object");
+        }
+
+        <T extends Dog> void onTypeVariable(@Observes T dog) {
+            events.add("typeVariable");
+        }
+
+        void onList(@Observes List<String> list) {
+            events.add("list");
+        }
+
+        void onArray(@Observes Animal[] array) {
+            events.add("array");
+        }
+
+        void onInt(@Observes int value) {
+            events.add("int");
+        }
+
+        List<String> sorted() {
+            return events.stream().sorted().toList();
+        }
+
+    }
+
+    @Singleton
+    static class Emitter {
+
+        @Inject
+        Event<Object> event;
+
+    }
+
+    interface Animal {
+
+    }
+
+    static class Dog implements Animal {
+
+    }
+
+    static class Cat implements Animal {
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.CacheStatistics;
+import io.quarkus.arc.InjectableObserverMethod;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ObserverResolutionCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Loud.class, Observer.class, Emitter.class);
+
+    @Test
+    public void testSelectSharesResolution() {
+        Observer observer = Arc.container().instance(Observer.class).get();
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        CacheStatistics before = ArcContainerImpl.instance().getObserverResolutionCacheStatistics();
+        for (int i = 0; i < 5; i++) {
+            // every select() returns a new Event instance
+            emitter.event.select(Loud.Literal.INSTANCE).fire("" + i);
+        }
+        assertEquals(List.of("0", "1", "2", "3", "4"), observer.loud);
+        assertEquals(5, observer.all.size());
+        CacheStatistics after = ArcContainerImpl.instance().getObserverResolutionCacheStatistics();
+        assertEquals(1, after.misses() - before.misses());
+        assertEquals(4, after.hits() - before.hits());
+    }
+
+    @Test
+    public void testBeanManagerResolution() {
+        BeanManager beanManager = Arc.container().beanManager();
+        assertEquals(1, beanManager.resolveObserverMethods("foo").size());
+        assertEquals(2, beanManager.resolveObserverMethods("foo", Loud.Literal.INSTANCE).size());
+        CacheStatistics before = ArcContainerImpl.instance().getObserverResolutionCacheStatistics();
+        assertEquals(2, beanManager.resolveObserverMethods("bar", Loud.Literal.INSTANCE).size());
+        CacheStatistics after = ArcContainerImpl.instance().getObserverResolutionCacheStatistics();
+        assertEquals(0, after.misses() - before.misses());
+    }
+
+    @Test
+    public void testReturnedListIsCopy() {
+        List<InjectableObserverMethod<? super String>> observers = Arc.container().resolveObserverMethods(String.class);
+        observers.clear();
+        assertTrue(observers.isEmpty());
+        // the cached result is not affected
+        assertEquals(1, Arc.container().resolveObserverMethods(String.class).size());
+        assertTrue(Arc.container().resolveObserverMethods(Integer.class).isEmpty());
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Loud {
+
+        @SuppressWarnings("all")
+        final class Literal extends AnnotationLiteral<Loud> implements Loud {
+
+            static final Literal INSTANCE = new Literal();
+
+        }
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        final List<String> loud = new CopyOnWriteArrayList<>();
+        final List<String> all = new CopyOnWriteArrayList<>();
+
+        void onLoud(@Observes @Loud String message) {
+            loud.add(message);
+        }
+
+        void onAny(@Observes String message) {
+            all.add(message);
+        }
+
+    }
+
+    @Dependent
+    static class Emitter {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+}
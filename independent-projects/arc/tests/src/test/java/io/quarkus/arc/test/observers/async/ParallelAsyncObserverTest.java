@@ -0,0 +1,179 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Emitter.class, Observer.class, RequestFoo.class);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelNotification() throws InterruptedException, ExecutionException, TimeoutException {
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        observer.reset(3);
+
+        // every observer waits until all observers are notified, i.e. the delivery would never complete if notified serially
+        Payload payload = emitter.event.fireAsync(new Payload(false), ArcNotificationOptions.parallel(executor))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertTrue(payload.await);
+        assertEquals(3, observer.events.size());
+        assertEquals(Set.of("alpha", "bravo", "charlie"), Set.copyOf(observer.events));
+        // each observer is notified within its own request context
+        assertEquals(3, Set.copyOf(observer.requestIds).size());
+    }
+
+    @Test
+    public void testExceptionsCollected() throws InterruptedException, TimeoutException {
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        observer.reset(3);
+
+        NotificationOptions options = NotificationOptions.builder().setExecutor(executor)
+                .set(ArcNotificationOptions.PARALLEL_ASYNC_OBSERVERS, "true").build();
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> emitter.event.fireAsync(new Payload(true), options).toCompletableFuture().get(5, TimeUnit.SECONDS));
+        Throwable cause = exception.getCause();
+        assertTrue(cause instanceof CompletionException || cause instanceof IllegalStateException, "" + cause);
+        // the other observers are notified anyway
+        assertEquals(3, observer.events.size());
+    }
+
+    @Test
+    public void testSerialNotificationByDefault() throws InterruptedException, ExecutionException, TimeoutException {
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        observer.reset(1);
+
+        Payload payload = emitter.event.fireAsync(new Payload(false), NotificationOptions.ofExecutor(executor))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertFalse(payload.await);
+        assertEquals(Set.of("alpha", "bravo", "charlie"), Set.copyOf(observer.events));
+        assertNotEquals(Thread.currentThread().getName(), observer.threads.get(0));
+        assertEquals(1, Set.copyOf(observer.threads).size());
+    }
+
+    static class Payload {
+
+        final boolean fail;
+        volatile boolean await;
+
+        Payload(boolean fail) {
+            this.fail = fail;
+        }
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final List<String> requestIds = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch latch;
+
+        @Inject
+        RequestFoo requestFoo;
+
+        void reset(int count) {
+            events.clear();
+            threads.clear();
+            requestIds.clear();
+            latch = new CountDownLatch(count);
+        }
+
+        void onAlpha(@ObservesAsync Payload payload) throws InterruptedException {
+            notified("alpha", payload);
+            if (payload.fail) {
+                throw new IllegalStateException("alpha");
+            }
+        }
+
+        void onBravo(@ObservesAsync Payload payload) throws InterruptedException {
+            notified("bravo", payload);
+        }
+
+        void onCharlie(@ObservesAsync Payload payload) throws InterruptedException {
+            notified("charlie", payload);
+        }
+
+        private void notified(String name, Payload payload) throws InterruptedException {
+            events.add(name);
+            threads.add(Thread.currentThread().getName());
+            requestIds.add(requestFoo.getId());
+            latch.countDown();
+            if (latch.getCount() == 0) {
+                return;
+            }
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                payload.await = true;
+            }
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @Dependent
+    static class Emitter {
+
+        @Inject
+        Event<Payload> event;
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package io.quarkus.arc.test.qualifiers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.QualifierMatcher;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class QualifierMatcherTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Channel.class, Service.class, Alpha.class, Bravo.class,
+            Listener.class, Emitter.class);
+
+    @Test
+    public void testGeneratedMatcher() throws ClassNotFoundException {
+        Class<?> matcher = Thread.currentThread().getContextClassLoader()
+                .loadClass(Channel.class.getName() + "_ArcQualifierMatcher");
+        assertTrue(QualifierMatcher.class.isAssignableFrom(matcher));
+    }
+
+    @Test
+    public void testProgrammaticLookup() {
+        Service alpha = Arc.container().select(Service.class, new ChannelLiteral("alpha", new int[] { 1, 2 }, "foo")).get();
+        assertEquals("alpha", alpha.ping());
+        Service bravo = Arc.container().select(Service.class, new ChannelLiteral("bravo", new int[] { 3 }, "bar")).get();
+        assertEquals("bravo", bravo.ping());
+        // the array member is binding
+        assertFalse(Arc.container().select(Service.class, new ChannelLiteral("alpha", new int[] { 1 }, "foo")).isResolvable());
+        // the "note" member is non-binding
+        assertNotNull(Arc.container().instance(Service.class, new ChannelLiteral("alpha", new int[] { 1, 2 }, "baz")).get());
+    }
+
+    @Test
+    public void testEventSelect() {
+        Listener listener = Arc.container().instance(Listener.class).get();
+        Emitter emitter = Arc.container().instance(Emitter.class).get();
+        listener.events.clear();
+        emitter.event.select(new ChannelLiteral("alpha", new int[] { 1, 2 }, "ignored")).fire("hello");
+        emitter.event.select(new ChannelLiteral("alpha", new int[] { 2, 1 }, "ignored")).fire("ignored");
+        assertEquals(List.of("hello"), listener.events);
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE })
+    public @interface Channel {
+
+        String value();
+
+        int[] partitions();
+
+        @Nonbinding
+        String note() default "";
+
+    }
+
+    @SuppressWarnings("all")
+    public static class ChannelLiteral extends AnnotationLiteral<Channel> implements Channel {
+
+        private final String value;
+        private final int[] partitions;
+        private final String note;
+
+        public ChannelLiteral(String value, int[] partitions, String note) {
+            this.value = value;
+            this.partitions = partitions;
+            this.note = note;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public int[] partitions() {
+            return partitions;
+        }
+
+        @Override
+        public String note() {
+            return note;
+        }
+
+    }
+
+    public interface Service {
+
+        String ping();
+
+    }
+
+    @Channel(value = "alpha", partitions = { 1, 2 })
+    @Dependent
+    public static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Channel(value = "bravo", partitions = 3, note = "bravo")
+    @Dependent
+    public static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Singleton
+    public static class Listener {
+
+        final List<String> events = new ArrayList<>();
+
+        void onMessage(@Observes @Channel(value = "alpha", partitions = { 1, 2 }) String message) {
+            events.add(message);
+        }
+
+    }
+
+    @Dependent
+    public static class Emitter {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.CacheEvictionPolicy;
+import io.quarkus.arc.CacheStatistics;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class BoundedResolutionCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Alpha.class, Bravo.class, Charlie.class, Listener.class)
+            .resolutionCacheMaxSize(2).resolutionCacheEvictionPolicy(CacheEvictionPolicy.FIFO).build();
+
+    @Test
+    public void testEviction() {
+        CacheStatistics before = ArcContainerImpl.instance().getResolutionCacheStatistics();
+        assertTrue(Arc.container().instance(Alpha.class).isAvailable());
+        assertTrue(Arc.container().instance(Bravo.class).isAvailable());
+        assertTrue(Arc.container().instance(Charlie.class).isAvailable());
+        CacheStatistics after = ArcContainerImpl.instance().getResolutionCacheStatistics();
+        assertEquals(3, after.misses() - before.misses());
+        assertTrue(after.evictions() - before.evictions() >= 1);
+        assertTrue(after.size() <= 2);
+
+        // Alpha was the oldest entry and so it was evicted
+        assertTrue(Arc.container().instance(Alpha.class).isAvailable());
+        assertEquals(after.misses() + 1, ArcContainerImpl.instance().getResolutionCacheStatistics().misses());
+        // Charlie is still cached
+        assertTrue(Arc.container().instance(Charlie.class).isAvailable());
+        assertEquals(after.hits() + 1, ArcContainerImpl.instance().getResolutionCacheStatistics().hits());
+        assertTrue(ArcContainerImpl.instance().getResolutionCacheStatistics().size() <= 2);
+    }
+
+    @Test
+    public void testObserverResolutionCacheNotAffected() {
+        CacheStatistics before = ArcContainerImpl.instance().getObserverResolutionCacheStatistics();
+        Arc.container().resolveObserverMethods(Alpha.class);
+        Arc.container().resolveObserverMethods(Bravo.class);
+        Arc.container().resolveObserverMethods(Charlie.class);
+        CacheStatistics after = ArcContainerImpl.instance().getObserverResolutionCacheStatistics();
+        assertEquals(3, after.misses() - before.misses());
+        assertEquals(0, after.evictions() - before.evictions());
+        assertTrue(after.size() >= 3);
+    }
+
+    @Singleton
+    static class Listener {
+
+        void onAny(@Observes Object event) {
+        }
+
+    }
+
+    @Singleton
+    static class Alpha {
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+    }
+
+    @Singleton
+    static class Charlie {
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.DotName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.CacheStatistics;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ResolutionCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(Alpha.class, Charlie.class)
+            .removeUnusedBeans(true).addRemovalExclusion(b -> b.hasType(DotName.createSimple(Alpha.class))).build();
+
+    @Test
+    public void testUnsatisfiedResolutionIsCached() {
+        CacheStatistics before = ArcContainerImpl.instance().getResolutionCacheStatistics();
+        for (int i = 0; i < 10; i++) {
+            assertFalse(Arc.container().instance(Bravo.class).isAvailable());
+        }
+        assertTrue(Arc.container().instance(Alpha.class).isAvailable());
+        assertTrue(Arc.container().instance(Alpha.class).isAvailable());
+        CacheStatistics after = ArcContainerImpl.instance().getResolutionCacheStatistics();
+        assertEquals(2, after.misses() - before.misses());
+        assertEquals(10, after.hits() - before.hits());
+        assertEquals(0, after.evictions());
+    }
+
+    @Test
+    public void testRemovedBeansScannedOnce() {
+        List<LogRecord> warnings = new CopyOnWriteArrayList<>();
+        Handler handler = new Handler() {
+
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage() != null && record.getMessage().contains("programmatic lookup problem")) {
+                    warnings.add(record);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
+        logger.addHandler(handler);
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertFalse(Arc.container().instance(Charlie.class).isAvailable());
+            }
+        } finally {
+            logger.removeHandler(handler);
+        }
+        // Charlie was removed during build; the removed beans are only scanned for the first lookup
+        assertEquals(1, warnings.size());
+    }
+
+    @Singleton
+    static class Alpha {
+
+    }
+
+    static class Bravo {
+
+    }
+
+    @Singleton
+    static class Charlie {
+
+    }
+
+}